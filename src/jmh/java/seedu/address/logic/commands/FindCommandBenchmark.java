@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.BenchmarkAddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Measures each kind of {@code find} command on address books of {@code personCount} persons built by
+ * {@link BenchmarkAddressBook}. Each operation finds the persons, then shows every person again, so that the next
+ * operation filters the whole list too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int personCount;
+
+    /** The arguments of the find command, one for each kind of find command. */
+    @Param({"n/Person 42", "p/90000042", "e/person42", "a/Clementi", "t/tag3", "w/Wedding 1", "tk/Task 4",
+        "t/tag3 w/!Wedding 1 v/no"})
+    private String arguments;
+
+    private Model model;
+    private Command findCommand;
+
+    /**
+     * Builds the model and parses the find command.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(BenchmarkAddressBook.withPersons(personCount), new UserPrefs());
+        findCommand = new AddressBookParser().parseCommand("find " + arguments);
+    }
+
+    /**
+     * Runs the find command and returns the number of persons found.
+     */
+    @Benchmark
+    public int find() throws Exception {
+        findCommand.execute(model);
+        int foundCount = model.getFilteredPersonList().size();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return foundCount;
+    }
+}
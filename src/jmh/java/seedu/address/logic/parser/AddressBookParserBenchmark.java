@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a typical input of each kind of command, from looking up the command word to creating the
+ * command. Parsing never reads the address book, so its size does not matter here; see
+ * {@link ArgumentTokenizerBenchmark} for inputs of growing length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    @Param({"list", "delete 3", "find n/Alex Yeoh", "find t/florist w/!Wedding 1 v/no", "tag 2 t/florist t/guest",
+        "edit 2 n/James Lee e/jameslee@example.com", "create-task tk/Book venue d/2025-02-01",
+        "assign-wedding 2 w/Wedding 1 p1/"})
+    private String userInput;
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return addressBookParser.parseCommand(userInput);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures tokenizing and parsing of long {@code add} and {@code edit} commands with many tags and weddings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"5", "50"})
+    private int tagCount;
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private String addArgs;
+    private String editArgs;
+
+    /**
+     * Builds the {@code add} and {@code edit} arguments, each with {@code tagCount} tags or address words.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder add = new StringBuilder(" n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2");
+        for (int i = 0; i < tagCount; i++) {
+            add.append(' ').append(PREFIX_TAG).append("guest").append(i);
+        }
+        add.append(' ').append(PREFIX_WEDDING).append("John's Wedding");
+        addArgs = add.toString();
+
+        StringBuilder edit = new StringBuilder(" 1 n/John Doe p/98765432 e/johnd@example.com a/Block");
+        for (int i = 0; i < tagCount; i++) {
+            edit.append(' ').append(i).append(" Clementi Road");
+        }
+        editArgs = edit.toString();
+    }
+
+    /**
+     * Tokenizes the {@code add} arguments with every prefix {@code add} accepts.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() {
+        return ArgumentTokenizer.tokenize(addArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG, PREFIX_WEDDING);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeEdit() {
+        return ArgumentTokenizer.tokenize(editArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS);
+    }
+
+    @Benchmark
+    public Command parseAdd() throws ParseException {
+        return addressBookParser.parseCommand("add" + addArgs);
+    }
+
+    @Benchmark
+    public Command parseEdit() throws ParseException {
+        return addressBookParser.parseCommand("edit" + editArgs);
+    }
+}
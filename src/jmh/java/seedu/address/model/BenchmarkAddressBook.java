@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Vendor;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagName;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingName;
+
+/**
+ * Builds address books of any size for benchmarks.
+ * Person {@code i} is named "Person i", has two of {@value #TAG_COUNT} tags "tag0", "tag1", ..., and is a guest of
+ * one of the weddings "Wedding 0", "Wedding 1", ..., each of which has {@value #GUESTS_PER_WEDDING} guests. Every
+ * {@value #VENDOR_INTERVAL}th person is a vendor with a task of their own, "Task 0", "Task 1", ...
+ */
+public class BenchmarkAddressBook {
+
+    public static final int TAG_COUNT = 20;
+    public static final int GUESTS_PER_WEDDING = 50;
+    public static final int VENDOR_INTERVAL = 10;
+
+    /**
+     * Returns an address book with {@code personCount} persons.
+     */
+    public static AddressBook withPersons(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            Tag tag = new Tag(new TagName("tag" + i));
+            addressBook.addTag(tag);
+            tags.add(tag);
+        }
+        List<Wedding> weddings = new ArrayList<>();
+        for (int i = 0; i * GUESTS_PER_WEDDING < Math.max(personCount, 1); i++) {
+            Wedding wedding = new Wedding(new WeddingName("Wedding " + i));
+            addressBook.addWedding(wedding);
+            weddings.add(wedding);
+        }
+
+        for (int i = 0; i < personCount; i++) {
+            Person person = createPerson(i, tags, weddings, addressBook);
+            addressBook.addPerson(person);
+            person.getTags().forEach(Tag::increaseTaggedCount);
+            weddings.get(i / GUESTS_PER_WEDDING).addToGuestList(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns person {@code i}, adding their task to {@code addressBook} if they are a vendor.
+     */
+    private static Person createPerson(int i, List<Tag> tags, List<Wedding> weddings, AddressBook addressBook) {
+        Name name = new Name("Person " + i);
+        Phone phone = new Phone(String.format("9%07d", i));
+        Email email = new Email("person" + i + "@example.com");
+        Address address = new Address("Block " + i + ", Clementi Road");
+        // The second tag is 1 to TAG_COUNT - 1 tags after the first, so every pair of tags occurs
+        int secondTag = (i % TAG_COUNT + 1 + (i / TAG_COUNT) % (TAG_COUNT - 1)) % TAG_COUNT;
+        Set<Tag> personTags = Set.of(tags.get(i % TAG_COUNT), tags.get(secondTag));
+        Set<Wedding> personWeddings = Set.of(weddings.get(i / GUESTS_PER_WEDDING));
+        if (i % VENDOR_INTERVAL != 0) {
+            return new Person(name, phone, email, address, personTags, personWeddings, Set.of());
+        }
+
+        Task task = new Todo("Task " + i / VENDOR_INTERVAL);
+        addressBook.addTask(task);
+        return new Vendor(name, phone, email, address, personTags, personWeddings, Set.of(task));
+    }
+}
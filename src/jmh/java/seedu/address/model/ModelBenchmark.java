@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures the lookups and list updates of the model that every command relies on, for address books of
+ * {@code personCount} persons built by {@link BenchmarkAddressBook}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int personCount;
+
+    private AddressBook addressBook;
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person lastPerson;
+    private Person missingPerson;
+    private ModelManager model;
+    private Predicate<Person> vendorPredicate;
+    private Predicate<Person> guestPredicate;
+    private boolean isShowingVendors;
+
+    /**
+     * Builds the address book, and a model and a {@code UniquePersonList} holding its persons.
+     */
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkAddressBook.withPersons(personCount);
+        persons = List.copyOf(addressBook.getPersonList());
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        lastPerson = persons.get(persons.size() - 1);
+        missingPerson = new Person(new Name("Missing Person"), new Phone("99999999"),
+                new Email("missing@example.com"), new Address("Nowhere"), Set.of(), Set.of(), Set.of());
+        model = new ModelManager(addressBook, new UserPrefs());
+        vendorPredicate = Person::isVendor;
+        guestPredicate = person -> !person.isVendor();
+    }
+
+    /**
+     * Adds every person, one at a time, to an empty {@code UniquePersonList}.
+     */
+    @Benchmark
+    public UniquePersonList addEachToUniquePersonList() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsLastPerson() {
+        return uniquePersonList.contains(lastPerson);
+    }
+
+    @Benchmark
+    public boolean containsMissingPerson() {
+        return uniquePersonList.contains(missingPerson);
+    }
+
+    @Benchmark
+    public Person getPerson() {
+        return addressBook.getPerson(lastPerson);
+    }
+
+    /**
+     * Sets a predicate on the filtered person list, alternating between two so that the list is filtered every time.
+     */
+    @Benchmark
+    public int updateFilteredPersonList() {
+        isShowingVendors = !isShowingVendors;
+        model.updateFilteredPersonList(isShowingVendors ? vendorPredicate : guestPredicate);
+        return model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BenchmarkAddressBook;
+
+/**
+ * Measures converting address books of {@code personCount} persons built by {@link BenchmarkAddressBook} to and from
+ * the JSON of the data file, without the file itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int personCount;
+
+    private AddressBook addressBook;
+    private String json;
+
+    /**
+     * Builds the address book and its JSON, checking that the JSON reads back as the same address book.
+     */
+    @Setup
+    public void setUp() throws IOException, IllegalValueException {
+        addressBook = BenchmarkAddressBook.withPersons(personCount);
+        json = save();
+        if (!load().equals(addressBook)) {
+            throw new IllegalStateException("The address book does not read back the same as it was saved.");
+        }
+    }
+
+    @Benchmark
+    public String save() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+    }
+
+    @Benchmark
+    public AddressBook load() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    /**
+     * Saves the address book to JSON and reads the JSON back, as a save followed by the next launch would.
+     */
+    @Benchmark
+    public AddressBook roundTrip() throws IOException, IllegalValueException {
+        String saved = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        return JsonUtil.fromJsonString(saved, JsonSerializableAddressBook.class).toModelType();
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.ui;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagName;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingName;
+
+/**
+ * Measures how many list cards can be built, or rebound to another entry, per second.
+ * JavaFX is started with the headless Monocle platform and software rendering, so no display is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw"})
+public class CardBenchmark {
+
+    @Param({"0", "5", "100"})
+    private int taskCount;
+
+    private Person person;
+    private Task task;
+    private Wedding wedding;
+    private Tag tag;
+    private PersonCard personCard;
+    private int index;
+
+    /**
+     * Starts JavaFX and creates a person with three tags, a wedding and {@code taskCount} tasks.
+     */
+    @Setup
+    public void setUp() {
+        Platform.startup(() -> {});
+
+        tag = new Tag(new TagName("florist"));
+        task = new Deadline("Book venue", "2025-01-01");
+        wedding = new Wedding(new WeddingName("Doe Wedding"));
+        Set<Tag> tags = Set.of(tag, new Tag(new TagName("guest")), new Tag(new TagName("family")));
+        Set<Task> tasks = new HashSet<>();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(new Todo("Task " + i));
+        }
+        person = new Person(new Name("John Doe"), new Phone("98765432"), new Email("johnd@example.com"),
+                new Address("311, Clementi Ave 2"), tags, Set.of(wedding), tasks);
+        personCard = new PersonCard(person, 1);
+    }
+
+    @Benchmark
+    public Region buildPersonCard() {
+        return new PersonCard(person, 1).getRoot();
+    }
+
+    /**
+     * Rebinds the same card to the person, as a list cell does when it is scrolled to another entry.
+     */
+    @Benchmark
+    public Region bindPersonCard() {
+        personCard.bind(person, ++index);
+        return personCard.getRoot();
+    }
+
+    @Benchmark
+    public Region buildTaskCard() {
+        return new TaskCard(task, 1).getRoot();
+    }
+
+    @Benchmark
+    public Region buildWeddingCard() {
+        return new WeddingCard(wedding, 1).getRoot();
+    }
+
+    @Benchmark
+    public Region buildTagCard() {
+        return new TagCard(tag, 1).getRoot();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,9 +16,17 @@ import seedu.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The value of the {@code serve} parameter for serving commands on the standard input and output. */
+    public static final String STDIN_SERVER = "stdin";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private Path scriptPath;
+    private Path typedCommandsPath;
+    private Integer serverPort;
+    private boolean isServingStdin;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +36,75 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the file of commands to run without starting the UI, or null if the UI should be started.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the path of the file of commands to type into the command box of the UI, which is closed after the last
+     * of them, or null if the UI should wait for the user.
+     */
+    public Path getTypedCommandsPath() {
+        return typedCommandsPath;
+    }
+
+    public void setTypedCommandsPath(Path typedCommandsPath) {
+        this.typedCommandsPath = typedCommandsPath;
+    }
+
+    /**
+     * Returns the local port to serve commands on without starting the UI, or null if not serving on a port.
+     */
+    public Integer getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(Integer serverPort) {
+        this.serverPort = serverPort;
+    }
+
+    /**
+     * Returns true if commands should be served on the standard input and output without starting the UI.
+     */
+    public boolean isServingStdin() {
+        return isServingStdin;
+    }
+
+    public void setServingStdin(boolean isServingStdin) {
+        this.isServingStdin = isServingStdin;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before they are given to JavaFX.
+     * Only named parameters of the form {@code --name=value} are recognised, as in {@link Application.Parameters}.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && separatorIndex > 2) {
+                namedParameters.put(arg.substring(2, separatorIndex), arg.substring(separatorIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +113,47 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String scriptPathParameter = namedParameters.get("run");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid path of commands to run " + scriptPathParameter + ". Starting the UI.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String typedCommandsPathParameter = namedParameters.get("type");
+        if (typedCommandsPathParameter != null && !FileUtil.isValidPath(typedCommandsPathParameter)) {
+            logger.warning("Invalid path of commands to type " + typedCommandsPathParameter + ". Ignoring it.");
+            typedCommandsPathParameter = null;
+        }
+        appParameters.setTypedCommandsPath(
+                typedCommandsPathParameter != null ? Paths.get(typedCommandsPathParameter) : null);
+
+        String serveParameter = namedParameters.get("serve");
+        if (STDIN_SERVER.equals(serveParameter)) {
+            appParameters.setServingStdin(true);
+        } else if (serveParameter != null) {
+            appParameters.setServerPort(parsePort(serveParameter));
+        }
+
         return appParameters;
     }
 
+    /**
+     * Returns the port given by {@code portParameter}, or null if it is not a valid port.
+     */
+    private static Integer parsePort(String portParameter) {
+        try {
+            int port = Integer.parseInt(portParameter);
+            if (port >= 0 && port <= MAX_PORT) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // Handled below, as for a port out of range
+        }
+        logger.warning("Invalid server port " + portParameter + ". Starting the UI.");
+        return null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +166,26 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && Objects.equals(typedCommandsPath, otherAppParameters.typedCommandsPath)
+                && Objects.equals(serverPort, otherAppParameters.serverPort)
+                && isServingStdin == otherAppParameters.isServingStdin;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, scriptPath, typedCommandsPath, serverPort, isServingStdin);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("typedCommandsPath", typedCommandsPath)
+                .add("serverPort", serverPort)
+                .add("isServingStdin", isServingStdin)
                 .toString();
     }
 }
@@ -25,6 +25,14 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        // With --run=FILE or --serve=PORT|stdin, commands are run without starting JavaFX at all
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.getScriptPath() != null) {
+            System.exit(new MainApp().runHeadless(appParameters));
+        }
+        if (appParameters.isServingStdin() || appParameters.getServerPort() != null) {
+            System.exit(new MainApp().runServer(appParameters));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -1,6 +1,8 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -15,13 +17,18 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.CommandServer;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -52,27 +59,115 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(appParameters, false);
+
+        // The window is shown with an empty address book, which is filled in once the data file has been read
+        ui = new UiManager(logic, () -> model.setAddressBook(readAddressBook(storage)),
+                appParameters.getTypedCommandsPath());
+    }
+
+    /**
+     * Initializes every component of the application other than the UI, reading the data file.
+     */
+    private void initComponents(AppParameters appParameters) {
+        initComponents(appParameters, true);
+    }
+
+    /**
+     * Initializes every component of the application other than the UI.
+     * The model starts with an empty address book unless {@code isReadingAddressBook} is true.
+     */
+    private void initComponents(AppParameters appParameters, boolean isReadingAddressBook) {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        initMetrics(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = new ModelManager(isReadingAddressBook ? readAddressBook(storage) : new AddressBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Runs the commands in the file at the script path of {@code appParameters} without starting the UI, printing
+     * their results to the standard output and any failure to the standard error.
+     *
+     * @return the exit status of the application, which is 0 only if every command succeeded.
+     */
+    int runHeadless(AppParameters appParameters) {
+        logger.info("=============================[ Running AddressBook headless ]===========================");
+        initComponents(appParameters);
+
+        int exitStatus = 0;
+        try {
+            CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + appParameters.getScriptPath());
+            System.out.println(result.getFeedbackToUser());
+            result.getBackgroundJob().ifPresent(job -> System.out.println(job.run(System.out::println)));
+        } catch (CommandException | ParseException e) {
+            System.err.println(e.getMessage());
+            exitStatus = 1;
+        }
+        stop();
+        return exitStatus;
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Serves commands on the port or standard streams given by {@code appParameters} without starting the UI, until
+     * the standard input ends or the process is stopped.
+     *
+     * @return the exit status of the application, which is 0 unless the server could not be run.
+     */
+    int runServer(AppParameters appParameters) {
+        logger.info("=============================[ Serving AddressBook commands ]===========================");
+        initComponents(appParameters);
+
+        int exitStatus = 0;
+        try (CommandServer server = new CommandServer(logic)) {
+            if (appParameters.isServingStdin()) {
+                closeOnShutdown(server, null);
+                server.serve(System.in, System.out);
+            } else {
+                try (ServerSocket serverSocket = new ServerSocket(appParameters.getServerPort(), 0,
+                        InetAddress.getLoopbackAddress())) {
+                    closeOnShutdown(server, serverSocket);
+                    server.listen(serverSocket);
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("Could not serve commands: " + StringUtil.getDetails(e));
+            exitStatus = 1;
+        }
+        stop();
+        return exitStatus;
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Makes the process, when it is stopped, e.g. by a signal, close {@code serverSocket}, unless it is null, and then
+     * {@code server}, waiting for the command being executed so that a save is not cut off.
+     */
+    private static void closeOnShutdown(CommandServer server, ServerSocket serverSocket) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (serverSocket != null) {
+                try {
+                    serverSocket.close();
+                } catch (IOException e) {
+                    logger.warning("Could not close the server socket: " + StringUtil.getDetails(e));
+                }
+            }
+            server.close();
+        }, "server-shutdown"));
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readAddressBook(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -90,13 +185,25 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    /**
+     * Starts measuring commands and writing their metrics to a file if the {@code config} enables command metrics.
+     */
+    private void initMetrics(Config config) {
+        if (!config.isCommandMetricsEnabled()) {
+            return;
+        }
+        CommandMetrics metrics = CommandMetrics.getInstance();
+        metrics.setEnabled(true);
+        metrics.startDumping(config.getCommandMetricsFilePath(), config.getCommandMetricsDumpIntervalSeconds());
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -177,10 +284,14 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (ui != null) {
+            ui.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        CommandMetrics.getInstance().stopDumping();
     }
 }
@@ -0,0 +1,207 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler that passes log records on to other handlers on a background thread, so that the thread logging
+ * a record does not wait for the console or the log file.
+ * Records wait in a bounded queue, which is never locked. When the queue is full, what happens to a record depends
+ * on the {@link OverflowPolicy}. Records still queued are passed on when the handler is flushed or closed, which
+ * {@code java.util.logging} does for every handler of a logger when the JVM shuts down.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /** How long {@link #flush()} waits for the queued records to be passed on. */
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /** How long a thread waiting for space in the queue waits before it checks again. */
+    private static final long FULL_QUEUE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * What to do with a record logged when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Drops records below {@code WARNING}, and waits for space for the others. */
+        DROP,
+        /** Waits for space for every record. */
+        BLOCK
+    }
+
+    private final List<Handler> targets;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final ConcurrentLinkedQueue<LogRecord> queue = new ConcurrentLinkedQueue<>();
+    /** Records in the queue or being passed on; kept apart as the size of the queue takes linear time to count. */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread drainer;
+    private volatile boolean isDrainerWaiting;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that passes records on to {@code targets}, with at most {@code capacity} records waiting.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the log queue must be positive.");
+        }
+        this.targets = List.copyOf(targets);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        setLevel(Level.ALL);
+        drainer = new Thread(this::drain, "log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The class and method that logged the record are found from the stack of the thread that logged it
+        record.getSourceClassName();
+        if (!reserveSpace(record)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        queue.offer(record);
+        if (isDrainerWaiting) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * Takes a place in the queue for {@code record}, waiting for one if the queue is full and the record may not be
+     * dropped. Returns false if the record is to be dropped, which it always is once the queue is full and nothing is
+     * left to empty it.
+     */
+    private boolean reserveSpace(LogRecord record) {
+        while (true) {
+            int count = pendingCount.get();
+            if (count < capacity) {
+                if (pendingCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+                continue;
+            }
+            if (isDroppable(record) || isClosed || Thread.currentThread() == drainer || !drainer.isAlive()) {
+                return false;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, FULL_QUEUE_WAIT_NANOS);
+        }
+    }
+
+    private boolean isDroppable(LogRecord record) {
+        return overflowPolicy == OverflowPolicy.DROP && record.getLevel().intValue() < Level.WARNING.intValue();
+    }
+
+    /**
+     * Passes the queued records on until the handler is closed, waiting while the queue is empty.
+     */
+    private void drain() {
+        while (true) {
+            LogRecord record = queue.poll();
+            if (record != null) {
+                try {
+                    publishToTargets(record);
+                } finally {
+                    pendingCount.decrementAndGet();
+                }
+                continue;
+            }
+            if (isClosed) {
+                return;
+            }
+            isDrainerWaiting = true;
+            // Checked again after the flag is set, so that a record queued meanwhile is not left waiting
+            if (queue.isEmpty() && !isClosed) {
+                LockSupport.park(this);
+            }
+            isDrainerWaiting = false;
+        }
+    }
+
+    /**
+     * Passes {@code record} on to every target. A target that fails is reported to the error manager of this handler,
+     * and does not keep the record from the other targets.
+     */
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Could not pass a log record on to " + target, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Waits for up to a second for the records queued to be passed on, then flushes the handlers they are passed to.
+     */
+    @Override
+    public void flush() {
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (pendingCount.get() > 0 && drainer.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, FULL_QUEUE_WAIT_NANOS);
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Stops taking records, passes on the records still queued, and closes the handlers they are passed to.
+     */
+    @Override
+    public void close() {
+        stop();
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Stops taking records and passes on the records still queued, leaving the handlers they are passed to open.
+     */
+    void stop() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Whatever the drainer did not get to is passed on by this thread
+        for (LogRecord record = queue.poll(); record != null; record = queue.poll()) {
+            publishToTargets(record);
+            pendingCount.decrementAndGet();
+        }
+        long dropped = droppedCount.get();
+        if (dropped > 0) {
+            publishToTargets(new LogRecord(Level.WARNING, dropped + " log message(s) were dropped as the log queue "
+                    + "was full."));
+        }
+        targets.forEach(Handler::flush);
+    }
+}
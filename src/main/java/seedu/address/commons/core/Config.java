@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -17,6 +18,13 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    /** How many log messages may wait to be written by the background thread; 0 to write them as they are logged. */
+    private int logQueueCapacity = 1024;
+    private OverflowPolicy logQueueOverflowPolicy = OverflowPolicy.DROP;
+    private boolean commandMetricsEnabled = false;
+    private Path commandMetricsFilePath = Paths.get("metrics.txt");
+    /** How often the command metrics are written to their file; 0 to write them only when the app stops. */
+    private long commandMetricsDumpIntervalSeconds = 60;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +42,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getLogQueueCapacity() {
+        return logQueueCapacity;
+    }
+
+    public void setLogQueueCapacity(int logQueueCapacity) {
+        this.logQueueCapacity = logQueueCapacity;
+    }
+
+    public OverflowPolicy getLogQueueOverflowPolicy() {
+        return logQueueOverflowPolicy;
+    }
+
+    public void setLogQueueOverflowPolicy(OverflowPolicy logQueueOverflowPolicy) {
+        this.logQueueOverflowPolicy = logQueueOverflowPolicy;
+    }
+
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    public void setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+    }
+
+    public Path getCommandMetricsFilePath() {
+        return commandMetricsFilePath;
+    }
+
+    public void setCommandMetricsFilePath(Path commandMetricsFilePath) {
+        this.commandMetricsFilePath = commandMetricsFilePath;
+    }
+
+    public long getCommandMetricsDumpIntervalSeconds() {
+        return commandMetricsDumpIntervalSeconds;
+    }
+
+    public void setCommandMetricsDumpIntervalSeconds(long commandMetricsDumpIntervalSeconds) {
+        this.commandMetricsDumpIntervalSeconds = commandMetricsDumpIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +95,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && logQueueCapacity == otherConfig.logQueueCapacity
+                && Objects.equals(logQueueOverflowPolicy, otherConfig.logQueueOverflowPolicy)
+                && commandMetricsEnabled == otherConfig.commandMetricsEnabled
+                && Objects.equals(commandMetricsFilePath, otherConfig.commandMetricsFilePath)
+                && commandMetricsDumpIntervalSeconds == otherConfig.commandMetricsDumpIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, logQueueCapacity, logQueueOverflowPolicy,
+                commandMetricsEnabled, commandMetricsFilePath, commandMetricsDumpIntervalSeconds);
     }
 
     @Override
@@ -60,6 +114,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("logQueueCapacity", logQueueCapacity)
+                .add("logQueueOverflowPolicy", logQueueOverflowPolicy)
+                .add("commandMetricsEnabled", commandMetricsEnabled)
+                .add("commandMetricsFilePath", commandMetricsFilePath)
+                .add("commandMetricsDumpIntervalSeconds", commandMetricsDumpIntervalSeconds)
                 .toString();
     }
 
@@ -3,9 +3,12 @@ package seedu.address.commons.core;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,6 +19,8 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Once initialized with a {@link Config}, messages are written by a background thread (see {@link AsyncLogHandler})
+ *   unless the config sets the capacity of the log queue to 0.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -24,6 +29,8 @@ public class LogsCenter {
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
     private static Level currentLogLevel = Level.INFO;
+    private static List<Handler> outputHandlers = new ArrayList<>(); // the console and file handlers
+    private static AsyncLogHandler asyncHandler; // passes messages on to the output handlers, if logging is async
 
     // This static block ensures essential loggers are created early
     static {
@@ -40,6 +47,25 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+        setOutputMode(config.getLogQueueCapacity(), config.getLogQueueOverflowPolicy());
+    }
+
+    /**
+     * Makes the {@code baseLogger} write messages through an {@code AsyncLogHandler} with a queue of
+     * {@code queueCapacity} messages, or directly to the output handlers if {@code queueCapacity} is 0.
+     */
+    private static synchronized void setOutputMode(int queueCapacity, AsyncLogHandler.OverflowPolicy overflowPolicy) {
+        removeHandlers(baseLogger);
+        if (asyncHandler != null) {
+            asyncHandler.stop();
+            asyncHandler = null;
+        }
+        if (queueCapacity > 0) {
+            asyncHandler = new AsyncLogHandler(outputHandlers, queueCapacity, overflowPolicy);
+            baseLogger.addHandler(asyncHandler);
+        } else {
+            outputHandlers.forEach(baseLogger::addHandler);
+        }
     }
 
     /**
@@ -89,17 +115,20 @@ public class LogsCenter {
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
+        outputHandlers.add(consoleHandler);
 
         // add a FileHandler to log to a file
         try {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            outputHandlers.add(fileHandler);
         } catch (IOException e) {
             logger.warning("Error adding file handler for logger.");
         }
+
+        // messages are written as they are logged until the config is known
+        outputHandlers.forEach(baseLogger::addHandler);
     }
 
 
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes lines of comma-separated values.
+ * A field may be quoted with double quotes, in which case it can contain commas and escaped ({@code ""}) quotes.
+ * Quoted fields cannot span lines.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code line} into its fields. Unquoted fields are trimmed.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed, or is followed by anything but a separator.
+     */
+    public static List<String> parseLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            while (i < line.length() && line.charAt(i) == ' ') {
+                i++;
+            }
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                while (i < line.length() && line.charAt(i) == ' ') {
+                    i++;
+                }
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalArgumentException("Unexpected text after quoted field at column " + (i + 1));
+                }
+                fields.add(field.toString());
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? line.length() : end;
+                fields.add(line.substring(i, end).trim());
+                i = end;
+            }
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Reads the quoted field starting after the opening quote at {@code start} into {@code field}, and returns the
+     * index after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Quoted field is not closed");
+    }
+
+    /**
+     * Returns {@code field} as it should be written in a line, quoting it if it contains a separator, a quote,
+     * a line break, or leading or trailing spaces.
+     */
+    public static String escape(String field) {
+        requireNonNull(field);
+        boolean needsQuotes = field.indexOf(SEPARATOR) != -1 || field.indexOf(QUOTE) != -1
+                || field.indexOf('\n') != -1 || field.indexOf('\r') != -1
+                || !field.equals(field.trim());
+        if (!needsQuotes) {
+            return field;
+        }
+        return QUOTE + field.replace("\"", "\"\"") + QUOTE;
+    }
+
+    /**
+     * Returns {@code fields} as a line of comma-separated values, without a line separator.
+     */
+    public static String toLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            line.append(escape(fields.get(i)));
+        }
+        return line.toString();
+    }
+}
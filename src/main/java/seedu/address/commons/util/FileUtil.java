@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -12,6 +14,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface FileWriteAction {
+        /**
+         * Writes the contents to {@code file}, creating or replacing it.
+         */
+        void write(Path file) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,6 +79,33 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Writes {@code file} with {@code writeAction}, which writes to a temporary file next to {@code file} that is then
+     * moved over {@code file} in one step, so that {@code file} is never seen part written.
+     * If the writing fails, or the application stops before it is done, {@code file} is left as it was.
+     * Creates the missing parent directories of {@code file}.
+     */
+    public static void writeAtomically(Path file, FileWriteAction writeAction) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path tempFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + TEMP_FILE_SUFFIX);
+        boolean isMoved = false;
+        try {
+            writeAction.write(tempFile);
+            try {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            isMoved = true;
+        } finally {
+            if (!isMoved) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -74,10 +115,12 @@ public class FileUtil {
 
     /**
      * Writes given string to a file.
-     * Will create the file if it does not exist yet.
+     * Will create the file if it does not exist yet. The file is replaced in one step, as by
+     * {@link #writeAtomically(Path, FileWriteAction)}, so a write that is cut off leaves the old contents.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, tempFile -> Files.write(tempFile, bytes));
     }
 
 }
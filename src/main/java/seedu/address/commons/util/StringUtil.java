@@ -7,6 +7,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Locale;
 
 import seedu.address.model.task.Deadline;
 import seedu.address.model.task.Event;
@@ -85,6 +86,16 @@ public class StringUtil {
         return phoneNumber.toLowerCase().contains(searchNumber.toLowerCase());
     }
 
+    /**
+     * Returns {@code s} in lower case whatever the default locale is, as a key that is equal for strings that differ
+     * only in case. Names that are equal ignoring case keep such a key to compare and hash by, so that e.g. "TITLE" and
+     * "title" have the same hash even in a Turkish locale, where the default lower case of "I" is a dotless i.
+     */
+    public static String toCaseInsensitiveKey(String s) {
+        requireNonNull(s);
+        return s.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,60 @@
+package seedu.address.logic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A JDK Flight Recorder event for a command run by {@link LogicManager}, from parsing it to saving its result.
+ */
+@Name(CommandEvent.NAME)
+@Label("Command")
+@Category({"WedLinker", "Logic"})
+@Description("A command parsed, executed and saved")
+@StackTrace(false)
+class CommandEvent extends Event {
+
+    static final String NAME = "seedu.address.Command";
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Successful")
+    private boolean successful;
+
+    @Label("Persons")
+    @Description("Persons in the address book after the command")
+    private int personCount;
+
+    @Label("Weddings")
+    private int weddingCount;
+
+    @Label("Tasks")
+    private int taskCount;
+
+    @Label("Tags")
+    private int tagCount;
+
+    /**
+     * Ends the event for the command typed as {@code commandText}, which left the model with {@code addressBook}, and
+     * commits it if it is being recorded.
+     */
+    void endAndCommit(String commandText, boolean isSuccessful, ReadOnlyAddressBook addressBook) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        commandWord = AddressBookParser.getCommandWord(commandText);
+        successful = isSuccessful;
+        personCount = addressBook.getPersonList().size();
+        weddingCount = addressBook.getWeddingList().size();
+        taskCount = addressBook.getTaskList().size();
+        tagCount = addressBook.getTagList().size();
+        commit();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,6 +27,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns every command word and keyword that starts with {@code prefix}, in ascending order.
+     */
+    List<String> completeCommandWord(String prefix);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +39,13 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the address book as it was after the last command, which can be read from any thread.
+     *
+     * @see seedu.address.model.Model#getSnapshot()
+     */
+    ReadOnlyAddressBook getSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
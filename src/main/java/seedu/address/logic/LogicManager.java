@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,7 +12,10 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandRegistry;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -35,40 +39,97 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics metrics;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, CommandMetrics.getInstance());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which measures its commands
+     * in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics metrics) {
         this.model = model;
         this.storage = storage;
+        this.metrics = metrics;
         addressBookParser = new AddressBookParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            CommandResult commandResult = parseAndExecute(commandText);
+            isSuccessful = true;
+            return commandResult;
+        } finally {
+            event.endAndCommit(commandText, isSuccessful, model.getAddressBook());
+        }
+    }
 
+    /**
+     * Parses and executes {@code commandText}, then saves the address book.
+     */
+    private CommandResult parseAndExecute(String commandText) throws CommandException, ParseException {
         CommandResult commandResult;
+        CommandMetrics.Sample sample = metrics.startSample();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        sample.endPhase(Phase.PARSE);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            // Roll back any partial changes so that a failed command leaves the model untouched, even if it failed
+            // with an Error, which would otherwise also leave the transaction open for every later command
+            model.beginTransaction();
+            boolean isCommitted = false;
+            try {
+                commandResult = command.execute(model);
+                model.commitTransaction();
+                isCommitted = true;
+            } finally {
+                if (!isCommitted) {
+                    model.rollbackTransaction();
+                }
+            }
+            sample.endPhase(Phase.EXECUTE);
+
+            try {
+                storage.saveAddressBook(model.getSnapshot());
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
+            sample.endPhase(Phase.SAVE);
+        } finally {
+            sample.finish(commandText);
         }
 
         return commandResult;
     }
 
+    @Override
+    public List<String> completeCommandWord(String prefix) {
+        return CommandRegistry.getInstance().complete(prefix);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
     }
 
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -28,7 +28,29 @@ public class Messages {
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_NOTHING_TO_PERFORM_ON = "There are no %s to %s.";
+
+    public static final String MESSAGE_PERSON_COUNT = "%1$d contact(s)";
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_UNDO_SUCCESS = "Undid the most recent change.";
+    public static final String MESSAGE_UNDO_FAILURE = "There are no changes to undo.";
+    public static final String MESSAGE_REDO_SUCCESS = "Redid the most recently undone change.";
+    public static final String MESSAGE_REDO_FAILURE = "There are no undone changes to redo.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist.";
+    public static final String MESSAGE_READ_FILE_FAILURE = "Could not read the file %1$s: %2$s";
+    public static final String MESSAGE_INVALID_CSV_LINE = "Line %1$d of the file is invalid: %2$s";
+    public static final String MESSAGE_EXPORT_STARTED = "Exporting the %1$s shown to %2$s...";
+    public static final String MESSAGE_EXPORT_PROGRESS = "Exported %1$d of %2$d %3$s to %4$s...";
+    public static final String MESSAGE_EXPORT_SUCCESS = "Exported %1$d %2$s to %3$s.";
+    public static final String MESSAGE_EXPORT_FAILURE = "Could not export the %1$s to %2$s: %3$s";
+    public static final String MESSAGE_RUN_SUCCESS = "Ran %1$d command(s) from %2$s in %3$d ms (%4$d commands/s).";
+    public static final String MESSAGE_RUN_LINE_RESULT = "Line %1$d: %2$s";
+    public static final String MESSAGE_RUN_LINE_FAILURE = "Line %1$d of %2$s failed, so none of its commands were run: "
+            + "%3$s";
+    public static final String MESSAGE_RUN_COMMAND_NOT_ALLOWED =
+            "undo, redo and run cannot be used in a file that is run.";
+    public static final String MESSAGE_RUN_INTERRUPTED = "Running %1$s was interrupted.";
+    public static final String MESSAGE_RUN_PARSER_FAILED = "Reading %1$s stopped unexpectedly, so none of its "
+            + "commands were run.";
 
     /**
      * Messages specific to Person
@@ -59,6 +81,8 @@ public class Messages {
     public static final String MESSAGE_TAG_NOT_FOUND = "One or more specified tags do not exist in the Wedlinker.";
     public static final String MESSAGE_TAG_NOT_FOUND_IN_CONTACT = "Some tags were not found in the person's tag list.";
     public static final String MESSAGE_CONTACT_ALREADY_TAGGED = "Some tags are already in the person's tag list.";
+    public static final String MESSAGE_ALL_SHOWN_ALREADY_TAGGED = "Every contact shown already has these tags.";
+    public static final String MESSAGE_TAGS_NOT_FOUND_IN_SHOWN = "None of the contacts shown have these tags.";
 
     /**
      * Messages specific to Wedding
@@ -78,9 +102,15 @@ public class Messages {
             + "the Wedlinker.";
     public static final String MESSAGE_WEDDING_NOT_FOUND_IN_CONTACT = "Some weddings were not found in "
             + "the person's wedding list.";
+    public static final String MESSAGE_IMPORT_GUESTS_SUCCESS = "Added %1$d guest(s) to %2$s, "
+            + "of whom %3$d were new to the Wedlinker. %4$d were already in the wedding.";
     public static final String MESSAGE_DUPLICATED_WEDDING_IN_ASSIGN = "Some weddings to assign are repeated.";
 
     public static final String MESSAGE_WEDDING_ALREADY_ASSIGNED = "Some weddings already have %1$s assigned.";
+    public static final String MESSAGE_ALL_SHOWN_ALREADY_IN_WEDDINGS = "Every contact shown is already in these "
+            + "weddings.";
+    public static final String MESSAGE_PARTNER_FOR_ALL_SHOWN = "Partners can only be assigned to one contact "
+            + "at a time.";
     public static final String MESSAGE_FORCE_ASSIGN_WEDDING_TO_CONTACT = "Use f/ to force the assignment of wedding(s)."
             + " This will automatically help you create the wedding required.";
     public static final String MESSAGE_FORCE_DELETE_WEDDING = "Use f/ to force the deletion of wedding."
@@ -94,6 +124,7 @@ public class Messages {
      */
     public static final String MESSAGE_ASSIGN_TASK_SUCCESS = "Added task(s) %1$s to %2$s.";
     public static final String MESSAGE_DUPLICATE_TASK_IN_PERSON = "Task '%s' is already assigned to %s.";
+    public static final String MESSAGE_ALL_SHOWN_ALREADY_HAVE_TASKS = "Every vendor shown already has these tasks.";
     public static final String MESSAGE_DUPLICATE_TASK_IN_WEDLINKER = "This task already exists in the Wedlinker.";
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Deleted task: %1$s.";
     public static final String MESSAGE_INVALID_TASK_DISPLAYED_INDEX = "The task index provided (%d) is invalid. \n"
@@ -142,6 +173,8 @@ public class Messages {
             + " Showing results:";
     public static final String MESSAGE_FIND_WEDDING_PERSON_SUCCESS = "Search for wedding(s) containing "
             + "\"%s\" was successful. Showing results:";
+    public static final String MESSAGE_FIND_MEMBERSHIP_PERSON_SUCCESS = "Search for contacts %s was successful. "
+            + "Showing results:";
     public static final String MESSAGE_FIND_PERSON_UNSUCCESSFUL = "No contacts found.";
 
     /**
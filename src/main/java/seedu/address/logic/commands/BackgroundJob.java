@@ -0,0 +1,17 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+/**
+ * Work left by a command to be done after the command has executed, on a thread other than the one that executed it.
+ * The job must not change the model, and must not read any part of the model that may change while it runs.
+ */
+@FunctionalInterface
+public interface BackgroundJob {
+
+    /**
+     * Does the work, passing messages about its progress to {@code progressListener}, and returns a message about
+     * its result. Failures are reported in the returned message rather than thrown.
+     */
+    String run(Consumer<String> progressListener);
+}
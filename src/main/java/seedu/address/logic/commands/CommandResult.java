@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -31,14 +32,31 @@ public class CommandResult {
 
     private final SwitchView switchView;
 
+    /** Work to be done in the background after the command, if any. */
+    private final BackgroundJob backgroundJob;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, SwitchView view) {
+        this(feedbackToUser, showHelp, exit, view, null);
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, SwitchView view,
+            BackgroundJob backgroundJob) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         switchView = view;
+        this.backgroundJob = backgroundJob;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} and {@code backgroundJob} to be
+     * run after the command, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundJob backgroundJob) {
+        this(feedbackToUser, false, false, SwitchView.NONE, requireNonNull(backgroundJob));
     }
 
     /**
@@ -91,6 +109,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<BackgroundJob> getBackgroundJob() {
+        return Optional.ofNullable(backgroundJob);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -106,12 +128,13 @@ public class CommandResult {
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
-                && switchView == otherCommandResult.switchView;
+                && switchView == otherCommandResult.switchView
+                && Objects.equals(backgroundJob, otherCommandResult.backgroundJob);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, switchView);
+        return Objects.hash(feedbackToUser, showHelp, exit, switchView, backgroundJob);
     }
 
     @Override
@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.storage.ExportFormat;
+import seedu.address.storage.ListExporter;
+
+/**
+ * Writes the persons, weddings or tasks currently shown to a CSV or JSON Lines file.
+ * The file is written in the background, from snapshots of the entries shown when the command is executed.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the persons, weddings or tasks currently shown to a file. "
+            + "The file is written as CSV if its name ends with " + ExportFormat.CSV.getExtension()
+            + ", or as JSON Lines if its name ends with " + ExportFormat.JSON_LINES.getExtension() + ".\n"
+            + "Parameters: persons|weddings|tasks FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " persons data/guests.csv";
+
+    /**
+     * The lists that can be exported.
+     */
+    public enum Target {
+        PERSONS("persons"),
+        WEDDINGS("weddings"),
+        TASKS("tasks");
+
+        private final String keyword;
+
+        Target(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private final Target target;
+    private final Path filePath;
+    private final ExportFormat format;
+
+    /**
+     * Creates an ExportCommand to write the list given by {@code target} to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Target target, Path filePath, ExportFormat format) {
+        requireNonNull(target);
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.target = target;
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        BackgroundJob job = switch (target) {
+        case PERSONS -> createJob(ListExporter.PERSONS, snapshot(model.getFilteredPersonList(), Person::getSnapshot));
+        case WEDDINGS -> createJob(ListExporter.WEDDINGS,
+                snapshot(model.getFilteredWeddingList(), Wedding::getSnapshot));
+        case TASKS -> createJob(ListExporter.TASKS, snapshot(model.getFilteredTaskList(), Task::getSnapshot));
+        };
+
+        return new CommandResult(String.format(Messages.MESSAGE_EXPORT_STARTED, target.getKeyword(), filePath), job);
+    }
+
+    /**
+     * Returns snapshots of {@code entries}, so that later changes to them cannot be seen while they are written.
+     * Entries that have not changed since their last snapshot are not copied again.
+     */
+    private static <T> List<T> snapshot(List<T> entries, UnaryOperator<T> snapshotFunction) {
+        return entries.stream().map(snapshotFunction).toList();
+    }
+
+    private <T> BackgroundJob createJob(ListExporter<T> exporter, List<T> items) {
+        return progressListener -> export(exporter, items, progressListener);
+    }
+
+    private <T> String export(ListExporter<T> exporter, List<T> items, Consumer<String> progressListener) {
+        String keyword = target.getKeyword();
+        try {
+            exporter.export(items, filePath, format, written -> progressListener.accept(
+                    String.format(Messages.MESSAGE_EXPORT_PROGRESS, written, items.size(), keyword, filePath)));
+        } catch (IOException e) {
+            logger.warning("Export to " + filePath + " failed: " + e);
+            return String.format(Messages.MESSAGE_EXPORT_FAILURE, keyword, filePath, e.getMessage());
+        }
+        return String.format(Messages.MESSAGE_EXPORT_SUCCESS, items.size(), keyword, filePath);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand otherCommand)) {
+            return false;
+        }
+
+        return target == otherCommand.target
+                && filePath.equals(otherCommand.filePath)
+                && format == otherCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("target", target)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
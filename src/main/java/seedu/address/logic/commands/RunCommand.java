@@ -0,0 +1,233 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a file, one per line, as a single change to the address book.
+ * Blank lines and lines starting with {@value #COMMENT_START} are skipped.
+ * If any line cannot be parsed or executed, none of the commands in the file take effect.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    /** Starts a line that is not a command. */
+    public static final String COMMENT_START = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one per line. If any of them fails, none of them take effect.\n"
+            + "Lines that are blank or start with " + COMMENT_START + " are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/changes.txt";
+
+    /** The number of lines that may be parsed ahead of the command being executed. */
+    static final int PARSE_AHEAD = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+    private static final AddressBookParser addressBookParser = new AddressBookParser();
+
+    private final Path filePath;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code filePath}.
+     */
+    public RunCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Executes the commands in the file in order, each against {@code model}.
+     * The lines are read and parsed on another thread, so that the next command is parsed while the current one
+     * executes.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+
+        BlockingQueue<ParsedLine> parsedLines = new ArrayBlockingQueue<>(PARSE_AHEAD);
+        Thread parserThread = new Thread(() -> parseLines(parsedLines), "run-parser");
+        parserThread.setDaemon(true);
+        parserThread.start();
+
+        List<String> lineResults = new ArrayList<>();
+        List<BackgroundJob> backgroundJobs = new ArrayList<>();
+        try {
+            for (ParsedLine line = takeLine(parsedLines); line != ParsedLine.END; line = takeLine(parsedLines)) {
+                CommandResult result = executeLine(line, model);
+                lineResults.add(String.format(Messages.MESSAGE_RUN_LINE_RESULT, line.lineNumber,
+                        result.getFeedbackToUser()));
+                result.getBackgroundJob().ifPresent(backgroundJobs::add);
+            }
+        } finally {
+            parserThread.interrupt();
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        long commandsPerSecond = lineResults.size() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        logger.info("Ran " + lineResults.size() + " command(s) from " + filePath + " in "
+                + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms");
+
+        lineResults.add(0, String.format(Messages.MESSAGE_RUN_SUCCESS, lineResults.size(), filePath,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), commandsPerSecond));
+        String feedback = String.join("\n", lineResults);
+        if (backgroundJobs.isEmpty()) {
+            return new CommandResult(feedback);
+        }
+        // Jobs such as exports only start once every command in the file has succeeded
+        return new CommandResult(feedback, progressListener -> backgroundJobs.stream()
+                .map(job -> job.run(progressListener))
+                .collect(Collectors.joining("\n")));
+    }
+
+    /**
+     * Takes the next parsed line, throwing the failure of the line instead if it could not be parsed.
+     */
+    private ParsedLine takeLine(BlockingQueue<ParsedLine> parsedLines) throws CommandException {
+        ParsedLine line;
+        try {
+            line = parsedLines.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(String.format(Messages.MESSAGE_RUN_INTERRUPTED, filePath), e);
+        }
+        if (line.failure != null) {
+            throw line.failure;
+        }
+        return line;
+    }
+
+    private CommandResult executeLine(ParsedLine line, Model model) throws CommandException {
+        if (line.command instanceof UndoCommand || line.command instanceof RedoCommand
+                || line.command instanceof RunCommand) {
+            throw createLineFailure(line.lineNumber, Messages.MESSAGE_RUN_COMMAND_NOT_ALLOWED, null);
+        }
+        try {
+            return line.command.execute(model);
+        } catch (CommandException e) {
+            throw createLineFailure(line.lineNumber, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads and parses the lines of the file into {@code parsedLines}, ending with {@link ParsedLine#END}.
+     * Parsing stops at the first line that cannot be read or parsed, and then ends with the failure instead.
+     * If parsing stops unexpectedly, it still ends with a failure, so that the commands never wait for a line that
+     * will not come.
+     */
+    private void parseLines(BlockingQueue<ParsedLine> parsedLines) {
+        ParsedLine lastLine = createFailedLine(new CommandException(
+                String.format(Messages.MESSAGE_RUN_PARSER_FAILED, filePath)));
+        boolean isExecuting = true;
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String text;
+            int lineNumber = 0;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmedText = text.trim();
+                if (trimmedText.isEmpty() || trimmedText.startsWith(COMMENT_START)) {
+                    continue;
+                }
+                try {
+                    parsedLines.put(new ParsedLine(lineNumber, addressBookParser.parseCommand(trimmedText), null));
+                } catch (ParseException e) {
+                    lastLine = createFailedLine(createLineFailure(lineNumber, e.getMessage(), e));
+                    return;
+                }
+            }
+            lastLine = ParsedLine.END;
+        } catch (NoSuchFileException e) {
+            lastLine = createFailedLine(new CommandException(String.format(Messages.MESSAGE_FILE_NOT_FOUND,
+                    filePath)));
+        } catch (IOException e) {
+            lastLine = createFailedLine(new CommandException(
+                    String.format(Messages.MESSAGE_READ_FILE_FAILURE, filePath, e.getMessage()), e));
+        } catch (InterruptedException e) {
+            // The commands stopped executing, so the rest of the file is not needed
+            isExecuting = false;
+        } finally {
+            if (isExecuting) {
+                putLastLine(parsedLines, lastLine);
+            }
+        }
+    }
+
+    private static ParsedLine createFailedLine(CommandException failure) {
+        return new ParsedLine(0, null, failure);
+    }
+
+    private static void putLastLine(BlockingQueue<ParsedLine> parsedLines, ParsedLine lastLine) {
+        try {
+            parsedLines.put(lastLine);
+        } catch (InterruptedException e) {
+            // The commands stopped executing, so the last line will not be seen
+        }
+    }
+
+    private CommandException createLineFailure(int lineNumber, String message, Throwable cause) {
+        return new CommandException(String.format(Messages.MESSAGE_RUN_LINE_FAILURE, lineNumber, filePath,
+                message), cause);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand otherCommand)) {
+            return false;
+        }
+
+        return filePath.equals(otherCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A line of the file, parsed into either a command or the failure to run it.
+     */
+    private static class ParsedLine {
+        /** Marks the end of the file. */
+        static final ParsedLine END = new ParsedLine(0, null, null);
+
+        final int lineNumber;
+        final Command command;
+        final CommandException failure;
+
+        ParsedLine(int lineNumber, Command command, CommandException failure) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+            this.failure = failure;
+        }
+    }
+}
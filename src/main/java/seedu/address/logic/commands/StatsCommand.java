@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each command has taken and how much memory it has allocated.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each command has taken to run.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_METRICS_DISABLED = "Command metrics are not being collected. "
+            + "Set commandMetricsEnabled to true in config.json and restart Wedlinker to collect them.";
+
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the metrics of the commands run by the app.
+     */
+    public StatsCommand() {
+        this(CommandMetrics.getInstance());
+    }
+
+    /**
+     * Creates a {@code StatsCommand} that shows {@code metrics}.
+     */
+    public StatsCommand(CommandMetrics metrics) {
+        this.metrics = requireNonNull(metrics);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        if (!metrics.isEnabled()) {
+            return new CommandResult(MESSAGE_METRICS_DISABLED);
+        }
+        return new CommandResult(metrics.format());
+    }
+
+}
@@ -1,6 +1,9 @@
 package seedu.address.logic.commands.findcommand;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VENDOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.Command;
@@ -22,7 +25,11 @@ public abstract class FindCommand extends Command {
             + "Use 'n/' to search by name, 'a/' to search by address, 'p/' to search by phone, "
             + "'e/' to search by email, 't/' to search by tag, 'w/' to search by wedding and 'tk/' to search by task \n"
             + "Parameters: PREFIX/ KEYWORDS [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + " alice charlie";
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + " alice charlie\n"
+            + "'t/', 'w/' and 'v/yes' or 'v/no' (vendors) can be combined, and a tag or wedding starting with '!' "
+            + "excludes contacts that have it.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "florist " + PREFIX_WEDDING + "Wedding 2 "
+            + PREFIX_VENDOR + "no";
 
     protected final TraitContainsKeywordsPredicate<?> predicate;
 
@@ -30,6 +37,13 @@ public abstract class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Creates a find command that does not search by keywords in a single field.
+     */
+    protected FindCommand() {
+        this.predicate = null;
+    }
+
     @Override
     public abstract CommandResult execute(Model model);
 
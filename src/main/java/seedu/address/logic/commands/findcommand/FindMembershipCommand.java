@@ -0,0 +1,108 @@
+package seedu.address.logic.commands.findcommand;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.person.MembershipQuery;
+import seedu.address.model.person.keywordspredicate.TagContainsKeywordsPredicate;
+import seedu.address.model.person.keywordspredicate.WeddingContainsKeywordsPredicate;
+
+/**
+ * Finds and lists all persons in address book who have any of the given tags, are in any of the given weddings,
+ * have none of the excluded tags, are in none of the excluded weddings, and are or are not vendors.
+ * Every part is optional. Keyword matching is case-insensitive.
+ */
+public class FindMembershipCommand extends FindCommand {
+
+    private final TagContainsKeywordsPredicate includedTags;
+    private final TagContainsKeywordsPredicate excludedTags;
+    private final WeddingContainsKeywordsPredicate includedWeddings;
+    private final WeddingContainsKeywordsPredicate excludedWeddings;
+    private final Boolean isVendor;
+
+    /**
+     * Creates a FindMembershipCommand from the given parts, any of which may be null to leave that part out.
+     */
+    public FindMembershipCommand(TagContainsKeywordsPredicate includedTags, TagContainsKeywordsPredicate excludedTags,
+            WeddingContainsKeywordsPredicate includedWeddings, WeddingContainsKeywordsPredicate excludedWeddings,
+            Boolean isVendor) {
+        this.includedTags = includedTags;
+        this.excludedTags = excludedTags;
+        this.includedWeddings = includedWeddings;
+        this.excludedWeddings = excludedWeddings;
+        this.isVendor = isVendor;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonListByMembership(
+                new MembershipQuery(includedTags, excludedTags, includedWeddings, excludedWeddings, isVendor));
+
+        if (!model.getFilteredPersonList().isEmpty()) {
+            return new CommandResult(String.format(Messages.MESSAGE_FIND_MEMBERSHIP_PERSON_SUCCESS,
+                    getDisplayString()));
+        } else {
+            return new CommandResult(Messages.MESSAGE_FIND_PERSON_UNSUCCESSFUL);
+        }
+    }
+
+    /**
+     * Returns a description of the searched memberships, e.g. {@code with tag "florist", not a vendor}.
+     */
+    String getDisplayString() {
+        List<String> parts = new ArrayList<>();
+        if (includedTags != null) {
+            parts.add("with tag \"" + includedTags.getDisplayString() + "\"");
+        }
+        if (excludedTags != null) {
+            parts.add("without tag \"" + excludedTags.getDisplayString() + "\"");
+        }
+        if (includedWeddings != null) {
+            parts.add("in wedding \"" + includedWeddings.getDisplayString() + "\"");
+        }
+        if (excludedWeddings != null) {
+            parts.add("not in wedding \"" + excludedWeddings.getDisplayString() + "\"");
+        }
+        if (isVendor != null) {
+            parts.add(isVendor ? "a vendor" : "not a vendor");
+        }
+        return String.join(", ", parts);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindMembershipCommand otherFindCommand)) {
+            return false;
+        }
+
+        return Objects.equals(includedTags, otherFindCommand.includedTags)
+                && Objects.equals(excludedTags, otherFindCommand.excludedTags)
+                && Objects.equals(includedWeddings, otherFindCommand.includedWeddings)
+                && Objects.equals(excludedWeddings, otherFindCommand.excludedWeddings)
+                && Objects.equals(isVendor, otherFindCommand.isVendor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("includedTags", includedTags)
+                .add("excludedTags", excludedTags)
+                .add("includedWeddings", includedWeddings)
+                .add("excludedWeddings", excludedWeddings)
+                .add("isVendor", isVendor)
+                .toString();
+    }
+}
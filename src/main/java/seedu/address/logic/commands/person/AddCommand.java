@@ -70,7 +70,7 @@ public class AddCommand extends Command {
             if (!model.hasWedding(wedding)) {
                 model.addWedding(wedding);
             }
-            wedding.addToGuestList(toAdd);
+            model.getWedding(wedding).addToGuestList(toAdd);
         }
 
         // Gets model's version of all weddings that need to be added
@@ -84,7 +84,7 @@ public class AddCommand extends Command {
             if (!model.hasTag(tag)) {
                 model.addTag(tag);
             }
-            tag.increaseTaggedCount();
+            model.getTag(tag).increaseTaggedCount();
         }
 
         // Gets model's version of all tags that need to be added
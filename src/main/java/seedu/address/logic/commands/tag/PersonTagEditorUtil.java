@@ -0,0 +1,32 @@
+package seedu.address.logic.commands.tag;
+
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Vendor;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Utility class for editing a {@code Person}'s tags.
+ * This class provides a method to create a new {@code Person} object
+ * with an updated set of tags, either with tags added or removed.
+ */
+public class PersonTagEditorUtil {
+
+    /**
+     * Creates and returns a copy of {@code personToEdit}, of the same type, with {@code updatedTags} as its tags.
+     *
+     * @param personToEdit The person to edit.
+     * @param updatedTags The updated set of tags (tags added or removed).
+     * @return A new Person object with the updated tags.
+     */
+    public static Person createEditedPersonWithUpdatedTags(Person personToEdit, Set<Tag> updatedTags) {
+        if (personToEdit instanceof Vendor) {
+            return new Vendor(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
+                    personToEdit.getAddress(), updatedTags, personToEdit.getWeddings(), personToEdit.getTasks());
+        } else {
+            return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
+                    personToEdit.getAddress(), updatedTags, personToEdit.getWeddings(), personToEdit.getTasks());
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.logic.commands.tag;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,7 +18,6 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Vendor;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -27,12 +29,14 @@ public class TagCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds one or multiple tags to the person identified "
-            + "by the index number used in the last person listing.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "by the index number used in the last person listing, "
+            + "or to every person in the listing if " + KEYWORD_ALL_SHOWN + " is given instead of an index.\n"
+            + "Parameters: INDEX (must be a positive integer) or " + KEYWORD_ALL_SHOWN + " "
             + PREFIX_TAG + "TAG... (can specify multiple tags)\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_TAG + "florist " + PREFIX_TAG + "photographer.";
 
+    /** The index of the person to tag, or null if every person shown is tagged. */
     private final Index index;
     private final HashSet<Tag> tagsToAdd;
     private boolean force = false;
@@ -65,6 +69,23 @@ public class TagCommand extends Command {
         this.force = force;
     }
 
+    private TagCommand(HashSet<Tag> tagsToAdd, boolean force) {
+        requireNonNull(tagsToAdd);
+        this.index = null;
+        this.tagsToAdd = tagsToAdd;
+        this.force = force;
+    }
+
+    /**
+     * Returns a {@code TagCommand} that adds tags to every person in the person list who does not have them yet.
+     *
+     * @param tagsToAdd The list of tags to be added.
+     * @param force A boolean representing if missing tags should be created.
+     */
+    public static TagCommand forAllShown(HashSet<Tag> tagsToAdd, boolean force) {
+        return new TagCommand(tagsToAdd, force);
+    }
+
     /**
      * Generates a command execution success message showing the added tags and the person.
      *
@@ -72,16 +93,22 @@ public class TagCommand extends Command {
      * @return A success message indicating the tags that were added and the name of the person.
      */
     private String generateSuccessMessage(Person personToEdit) {
+        return generateSuccessMessage(personToEdit.getName().toString());
+    }
+
+    private String generateSuccessMessage(String taggedPersons) {
         String addedTags = tagsToAdd.stream()
                 .map(tag -> tag.toString().replaceAll("[\\[\\]]", ""))
                 .collect(Collectors.joining(", "));
-        return String.format(
-                Messages.MESSAGE_ASSIGN_TAG_SUCCESS, addedTags, personToEdit.getName().toString()
-        );
+        return String.format(Messages.MESSAGE_ASSIGN_TAG_SUCCESS, addedTags, taggedPersons);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        if (index == null) {
+            return executeOnAllShown(model);
+        }
+
         List<Person> lastShownList = model.getFilteredPersonList();
 
         if (lastShownList.isEmpty()) {
@@ -106,8 +133,9 @@ public class TagCommand extends Command {
                 if (this.force) {
                     CreateTagCommand createTagCommand = new CreateTagCommand(tag);
                     createTagCommand.execute(model);
-                    tag.increaseTaggedCount();
-                    updatedTags.add(tag);
+                    Tag createdTag = model.getTag(tag);
+                    createdTag.increaseTaggedCount();
+                    updatedTags.add(createdTag);
                 } else {
                     throw new CommandException(
                             Messages.MESSAGE_TAG_NOT_FOUND + "\n" + Messages.MESSAGE_FORCE_TAG_TO_CONTACT
@@ -121,32 +149,65 @@ public class TagCommand extends Command {
             }
         }
 
-        Person editedPerson;
-        if (personToEdit instanceof Vendor) {
-            editedPerson = new Vendor(
-                    personToEdit.getName(),
-                    personToEdit.getPhone(),
-                    personToEdit.getEmail(),
-                    personToEdit.getAddress(),
-                    updatedTags,
-                    personToEdit.getWeddings(),
-                    personToEdit.getTasks());
-        } else {
-            editedPerson = new Person(
-                    personToEdit.getName(),
-                    personToEdit.getPhone(),
-                    personToEdit.getEmail(),
-                    personToEdit.getAddress(),
-                    updatedTags,
-                    personToEdit.getWeddings(),
-                    personToEdit.getTasks());
-        }
+        Person editedPerson = PersonTagEditorUtil.createEditedPersonWithUpdatedTags(personToEdit, updatedTags);
 
         model.setPerson(personToEdit, editedPerson);
 
         return new CommandResult(generateSuccessMessage(editedPerson));
     }
 
+    /**
+     * Adds the tags to every person shown who does not have them yet, as a single change to the person list.
+     * The tagged count of each tag is adjusted once, by the number of persons newly tagged with it.
+     */
+    private CommandResult executeOnAllShown(Model model) throws CommandException {
+        List<Person> shownPersons = List.copyOf(model.getFilteredPersonList());
+        if (shownPersons.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_NOTHING_TO_PERFORM_ON, "contacts", COMMAND_WORD));
+        }
+
+        List<Tag> modelTags = new ArrayList<>();
+        for (Tag tag : tagsToAdd) {
+            if (!model.hasTag(tag)) {
+                if (!force) {
+                    throw new CommandException(
+                            Messages.MESSAGE_TAG_NOT_FOUND + "\n" + Messages.MESSAGE_FORCE_TAG_TO_CONTACT
+                    );
+                }
+                new CreateTagCommand(tag).execute(model);
+            }
+            modelTags.add(model.getTag(tag));
+        }
+
+        int[] newlyTaggedCounts = new int[modelTags.size()];
+        List<Person> personsToEdit = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person person : shownPersons) {
+            Set<Tag> updatedTags = new HashSet<>(person.getTags());
+            for (int i = 0; i < modelTags.size(); i++) {
+                if (updatedTags.add(modelTags.get(i))) {
+                    newlyTaggedCounts[i]++;
+                }
+            }
+            if (updatedTags.size() != person.getTags().size()) {
+                personsToEdit.add(person);
+                editedPersons.add(PersonTagEditorUtil.createEditedPersonWithUpdatedTags(person, updatedTags));
+            }
+        }
+
+        if (personsToEdit.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_ALL_SHOWN_ALREADY_TAGGED);
+        }
+
+        for (int i = 0; i < modelTags.size(); i++) {
+            modelTags.get(i).increaseTaggedCount(newlyTaggedCounts[i]);
+        }
+        model.setPersons(personsToEdit, editedPersons);
+
+        return new CommandResult(generateSuccessMessage(
+                String.format(Messages.MESSAGE_PERSON_COUNT, personsToEdit.size())));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -154,7 +215,7 @@ public class TagCommand extends Command {
         }
 
         TagCommand otherCommand = (TagCommand) other;
-        return index.equals(otherCommand.index)
+        return Objects.equals(index, otherCommand.index)
                 && tagsToAdd.equals(otherCommand.tagsToAdd);
     }
 
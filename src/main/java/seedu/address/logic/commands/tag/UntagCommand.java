@@ -1,10 +1,13 @@
 package seedu.address.logic.commands.tag;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,7 +18,6 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Vendor;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -27,12 +29,14 @@ public class UntagCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Removes one or multiple tags from the person identified "
-            + "by the index number used in the last person listing.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "by the index number used in the last person listing, "
+            + "or from every person in the listing if " + KEYWORD_ALL_SHOWN + " is given instead of an index.\n"
+            + "Parameters: INDEX (must be a positive integer) or " + KEYWORD_ALL_SHOWN + " "
             + PREFIX_TAG + "TAG... (can specify multiple tags)\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_TAG + "florist " + PREFIX_TAG + "photographer.";
 
+    /** The index of the person to untag, or null if every person shown is untagged. */
     private final Index index;
     private final HashSet<Tag> tagsToRemove;
 
@@ -49,6 +53,21 @@ public class UntagCommand extends Command {
         this.tagsToRemove = tagsToRemove;
     }
 
+    private UntagCommand(HashSet<Tag> tagsToRemove) {
+        requireNonNull(tagsToRemove);
+        this.index = null;
+        this.tagsToRemove = tagsToRemove;
+    }
+
+    /**
+     * Returns an {@code UntagCommand} that removes tags from every person in the person list who has them.
+     *
+     * @param tagsToRemove The list of tags to be removed.
+     */
+    public static UntagCommand forAllShown(HashSet<Tag> tagsToRemove) {
+        return new UntagCommand(tagsToRemove);
+    }
+
     /**
      * Generates a command execution success message showing the removed tags and the person.
      *
@@ -56,16 +75,22 @@ public class UntagCommand extends Command {
      * @return A success message indicating the tags that were removed and the name of the person.
      */
     private String generateSuccessMessage(Person personToEdit) {
+        return generateSuccessMessage(personToEdit.getName().toString());
+    }
+
+    private String generateSuccessMessage(String untaggedPersons) {
         String removedTags = tagsToRemove.stream()
                 .map(tag -> tag.toString().replaceAll("[\\[\\]]", ""))
                 .collect(Collectors.joining(", "));
-        return String.format(
-                Messages.MESSAGE_REMOVE_TAG_SUCCESS, removedTags, personToEdit.getName().toString()
-        );
+        return String.format(Messages.MESSAGE_REMOVE_TAG_SUCCESS, removedTags, untaggedPersons);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        if (index == null) {
+            return executeOnAllShown(model);
+        }
+
         List<Person> lastShownList = model.getFilteredPersonList();
 
         if (lastShownList.isEmpty()) {
@@ -99,26 +124,7 @@ public class UntagCommand extends Command {
 
         updatedTags.removeAll(tagsToRemove);
 
-        Person editedPerson;
-        if (personToEdit instanceof Vendor) {
-            editedPerson = new Vendor(
-                    personToEdit.getName(),
-                    personToEdit.getPhone(),
-                    personToEdit.getEmail(),
-                    personToEdit.getAddress(),
-                    updatedTags,
-                    personToEdit.getWeddings(),
-                    personToEdit.getTasks());
-        } else {
-            editedPerson = new Person(
-                    personToEdit.getName(),
-                    personToEdit.getPhone(),
-                    personToEdit.getEmail(),
-                    personToEdit.getAddress(),
-                    updatedTags,
-                    personToEdit.getWeddings(),
-                    personToEdit.getTasks());
-        }
+        Person editedPerson = PersonTagEditorUtil.createEditedPersonWithUpdatedTags(personToEdit, updatedTags);
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
@@ -127,6 +133,53 @@ public class UntagCommand extends Command {
         return new CommandResult(generateSuccessMessage(personToEdit));
     }
 
+    /**
+     * Removes the tags from every person shown who has them, as a single change to the person list.
+     * The tagged count of each tag is adjusted once, by the number of persons it was removed from.
+     */
+    private CommandResult executeOnAllShown(Model model) throws CommandException {
+        List<Person> shownPersons = List.copyOf(model.getFilteredPersonList());
+        if (shownPersons.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_NOTHING_TO_PERFORM_ON, "contacts", COMMAND_WORD));
+        }
+
+        List<Tag> modelTags = new ArrayList<>();
+        for (Tag tag : tagsToRemove) {
+            if (model.hasTag(tag)) {
+                modelTags.add(model.getTag(tag));
+            }
+        }
+
+        int[] untaggedCounts = new int[modelTags.size()];
+        List<Person> personsToEdit = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person person : shownPersons) {
+            Set<Tag> updatedTags = new HashSet<>(person.getTags());
+            for (int i = 0; i < modelTags.size(); i++) {
+                if (updatedTags.remove(modelTags.get(i))) {
+                    untaggedCounts[i]++;
+                }
+            }
+            if (updatedTags.size() != person.getTags().size()) {
+                personsToEdit.add(person);
+                editedPersons.add(PersonTagEditorUtil.createEditedPersonWithUpdatedTags(person, updatedTags));
+            }
+        }
+
+        if (personsToEdit.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_TAGS_NOT_FOUND_IN_SHOWN);
+        }
+
+        for (int i = 0; i < modelTags.size(); i++) {
+            modelTags.get(i).decreaseTaggedCount(untaggedCounts[i]);
+        }
+        model.setPersons(personsToEdit, editedPersons);
+        model.updateFilteredTagList(Model.PREDICATE_SHOW_ALL_TAGS);
+
+        return new CommandResult(generateSuccessMessage(
+                String.format(Messages.MESSAGE_PERSON_COUNT, personsToEdit.size())));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -137,7 +190,7 @@ public class UntagCommand extends Command {
             return false;
         }
 
-        return index.equals(otherCommand.index)
+        return Objects.equals(index, otherCommand.index)
                 && tagsToRemove.equals(otherCommand.tagsToRemove);
     }
 
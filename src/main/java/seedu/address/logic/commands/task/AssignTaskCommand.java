@@ -1,9 +1,14 @@
 package seedu.address.logic.commands.task;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -29,11 +34,13 @@ public class AssignTaskCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds one or multiple tasks to the person identified "
-            + "by the index number used in the last person listing.\n"
-            + "Parameters: PERSON_INDEX (must be a positive integer) "
+            + "by the index number used in the last person listing, "
+            + "or to every vendor in the listing if " + KEYWORD_ALL_SHOWN + " is given instead of an index.\n"
+            + "Parameters: PERSON_INDEX (must be a positive integer) or " + KEYWORD_ALL_SHOWN + " "
             + "TASK_INDEX... (must be a positive integer)\n"
             + "Example: " + COMMAND_WORD + " 1 " + "1";
 
+    /** The index of the person to assign tasks to, or null if every vendor shown is assigned the tasks. */
     private final Index personIndex;
     private final Set<Index> taskIndexes;
 
@@ -50,6 +57,22 @@ public class AssignTaskCommand extends Command {
         this.taskIndexes = taskIndexes;
     }
 
+    private AssignTaskCommand(Set<Index> taskIndexes) {
+        requireNonNull(taskIndexes);
+        this.personIndex = null;
+        this.taskIndexes = taskIndexes;
+    }
+
+    /**
+     * Returns an {@code AssignTaskCommand} that assigns tasks to every vendor in the person list who does not
+     * have them yet.
+     *
+     * @param taskIndexes The indexes of the tasks in the task list.
+     */
+    public static AssignTaskCommand forAllShown(Set<Index> taskIndexes) {
+        return new AssignTaskCommand(taskIndexes);
+    }
+
     /**
      * Generates a command execution success message showing the added tasks and the person.
      *
@@ -57,16 +80,22 @@ public class AssignTaskCommand extends Command {
      * @return A success message indicating the tasks that were added and the name of the person.
      */
     private String generateSuccessMessage(Person personToEdit, Set<Task> taskToAdd) {
+        return generateSuccessMessage(personToEdit.getName().toString(), taskToAdd);
+    }
+
+    private String generateSuccessMessage(String assignedPersons, Collection<Task> taskToAdd) {
         String addedTasks = taskToAdd.stream()
                 .map(task -> task.toString().replaceAll("[\\[\\]]", ""))
                 .collect(Collectors.joining(", "));
-        return String.format(
-                Messages.MESSAGE_ASSIGN_TASK_SUCCESS, addedTasks, personToEdit.getName().toString()
-        );
+        return String.format(Messages.MESSAGE_ASSIGN_TASK_SUCCESS, addedTasks, assignedPersons);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        if (personIndex == null) {
+            return executeOnAllShown(model);
+        }
+
         List<Person> lastShownPersonList = model.getFilteredPersonList();
         List<Task> lastShownTaskList = model.getFilteredTaskList();
 
@@ -107,12 +136,53 @@ public class AssignTaskCommand extends Command {
         return new CommandResult(generateSuccessMessage(editedPerson, tasksToAdd));
     }
 
+    /**
+     * Assigns the tasks to every vendor shown who does not have them yet, as a single change to the person list.
+     * Persons shown who are not vendors are skipped.
+     */
+    private CommandResult executeOnAllShown(Model model) throws CommandException {
+        List<Person> shownVendors = model.getFilteredPersonList().stream().filter(Person::isVendor).toList();
+        List<Task> lastShownTaskList = model.getFilteredTaskList();
+
+        if (shownVendors.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_NOTHING_TO_PERFORM_ON, "vendors", COMMAND_WORD));
+        }
+
+        Set<Task> tasksToAdd = new LinkedHashSet<>();
+        for (Index taskIndex : taskIndexes) {
+            if (taskIndex.getZeroBased() >= lastShownTaskList.size() || taskIndex.getZeroBased() < 0) {
+                throw new CommandException(String.format(Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX,
+                        taskIndex.getOneBased(), 1, lastShownTaskList.size()));
+            }
+            tasksToAdd.add(lastShownTaskList.get(taskIndex.getZeroBased()));
+        }
+
+        List<Person> personsToEdit = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person vendor : shownVendors) {
+            Set<Task> updatedTasks = new HashSet<>(vendor.getTasks());
+            if (updatedTasks.addAll(tasksToAdd)) {
+                personsToEdit.add(vendor);
+                editedPersons.add(PersonTaskEditorUtil.createEditedPersonWithUpdatedTasks(vendor, updatedTasks));
+            }
+        }
+
+        if (personsToEdit.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_ALL_SHOWN_ALREADY_HAVE_TASKS);
+        }
+
+        model.setPersons(personsToEdit, editedPersons);
+
+        return new CommandResult(generateSuccessMessage(
+                String.format(Messages.MESSAGE_PERSON_COUNT, personsToEdit.size()), tasksToAdd));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
             return true;
         }
         AssignTaskCommand otherCommand = (AssignTaskCommand) other;
-        return personIndex.equals(otherCommand.personIndex) && taskIndexes.equals(otherCommand.taskIndexes);
+        return Objects.equals(personIndex, otherCommand.personIndex) && taskIndexes.equals(otherCommand.taskIndexes);
     }
 }
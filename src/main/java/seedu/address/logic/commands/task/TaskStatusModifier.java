@@ -1,5 +1,6 @@
 package seedu.address.logic.commands.task;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -49,7 +50,6 @@ public class TaskStatusModifier {
      */
     public Set<Task> modifyTasks(Model model) throws CommandException {
         List<Task> lastShownList = model.getFilteredTaskList();
-        List<Person> personList = model.getFilteredPersonList();
         Set<Task> modifiedTasks = new HashSet<>();
 
         for (Index targetIndex : targetIndexes) {
@@ -66,7 +66,7 @@ public class TaskStatusModifier {
                 taskToModify.markAsUndone();
             }
             modifiedTasks.add(taskToModify);
-            updatePersonsWithTask(model, personList, taskToModify);
+            updatePersonsWithTask(model, taskToModify);
 
             if (markAsDone) {
                 model.markTask(taskToModify);
@@ -81,20 +81,26 @@ public class TaskStatusModifier {
     /**
      * Updates each person in the model if they have the modified task by creating a new
      * person with an updated task set that includes the modified task.
+     * Every person in the address book is updated, including those not shown, so that none of them is left with the
+     * task counts and snapshot of the old status.
      *
      * @param model The model containing the person list.
-     * @param personList The list of persons to check and update if they have the modified task.
      * @param taskToModify The task that was modified.
      */
-    private void updatePersonsWithTask(Model model, List<Person> personList, Task taskToModify) {
-        for (Person person : personList) {
+    private void updatePersonsWithTask(Model model, Task taskToModify) {
+        List<Person> personsToEdit = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
             if (person.hasTask(taskToModify)) {
                 Set<Task> updatedPersonTasks = createUpdatedTaskSet(person, taskToModify);
-                Person editedPerson = PersonTaskEditorUtil.createEditedPersonWithUpdatedTasks(person,
-                        updatedPersonTasks);
-                model.setPerson(person, editedPerson);
+                personsToEdit.add(person);
+                editedPersons.add(PersonTaskEditorUtil.createEditedPersonWithUpdatedTasks(person,
+                        updatedPersonTasks));
             }
         }
+        if (!personsToEdit.isEmpty()) {
+            model.setPersons(personsToEdit, editedPersons);
+        }
     }
 
     /**
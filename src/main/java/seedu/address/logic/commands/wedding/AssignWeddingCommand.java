@@ -1,15 +1,22 @@
 package seedu.address.logic.commands.wedding;
 
+import static seedu.address.logic.Messages.MESSAGE_ALL_SHOWN_ALREADY_IN_WEDDINGS;
 import static seedu.address.logic.Messages.MESSAGE_ASSIGN_WEDDING_SUCCESS;
 import static seedu.address.logic.Messages.MESSAGE_FORCE_ASSIGN_WEDDING_TO_CONTACT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_NOTHING_TO_PERFORM_ON;
+import static seedu.address.logic.Messages.MESSAGE_PARTNER_FOR_ALL_SHOWN;
+import static seedu.address.logic.Messages.MESSAGE_PERSON_COUNT;
 import static seedu.address.logic.Messages.MESSAGE_WEDDING_ALREADY_ASSIGNED;
 import static seedu.address.logic.Messages.MESSAGE_WEDDING_NOT_FOUND;
+import static seedu.address.logic.parser.CliSyntax.KEYWORD_ALL_SHOWN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,15 +39,18 @@ public class AssignWeddingCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Adds one or multiple weddings to the person identified "
-            + "by the index number used in the last person listing.\n"
+            + "by the index number used in the last person listing, "
+            + "or to every person in the listing if " + KEYWORD_ALL_SHOWN + " is given instead of an index.\n"
             + "Wedding names are case insensitive.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or " + KEYWORD_ALL_SHOWN + " "
             + PREFIX_WEDDING + "WEDDING [p1/] [p2/] + ... "
             + PREFIX_WEDDING + "WEDDING [p1/] [p2/] (can specify multiple weddings)\n"
-            + "[p1/] and [p2/] can be used to set a person as the first or second partner in a Wedding.\n"
+            + "[p1/] and [p2/] can be used to set a person as the first or second partner in a Wedding, "
+            + "but not with " + KEYWORD_ALL_SHOWN + ".\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_WEDDING + "Craig's Wedding " + PREFIX_WEDDING + "Wedding April 2025 p1/.";
 
+    /** The index of the person to assign, or null if every person shown is assigned as a guest. */
     private final Index index;
     private final Map<Wedding, String> weddingsToAdd;
     private final boolean force;
@@ -57,6 +67,17 @@ public class AssignWeddingCommand extends Command {
         this.force = force;
     }
 
+    /**
+     * Returns an {@code AssignWeddingCommand} that adds every person in the person list to the guest lists of
+     * {@code weddingsToAdd}, skipping persons who are already in a wedding.
+     *
+     * @param weddingsToAdd The list of weddings to be added, which must all be assigned as guests.
+     * @param force Whether the command should force the assignment by creating the Wedding object.
+     */
+    public static AssignWeddingCommand forAllShown(Map<Wedding, String> weddingsToAdd, boolean force) {
+        return new AssignWeddingCommand(null, weddingsToAdd, force);
+    }
+
     /**
      * Generates a command execution success message showing the added weddings and the person.
      *
@@ -64,14 +85,22 @@ public class AssignWeddingCommand extends Command {
      * @return A success message indicating the weddings that were added and the name of the person.
      */
     private String generateSuccessMessage(Person personToEdit) {
+        return generateSuccessMessage(personToEdit.getName().toString());
+    }
+
+    private String generateSuccessMessage(String assignedPersons) {
         String addedWeddings = weddingsToAdd.keySet().stream()
                 .map(wedding -> wedding.toString().replaceAll("[\\[\\]]", ""))
                 .collect(Collectors.joining(", "));
-        return String.format(MESSAGE_ASSIGN_WEDDING_SUCCESS, addedWeddings, personToEdit.getName().toString());
+        return String.format(MESSAGE_ASSIGN_WEDDING_SUCCESS, addedWeddings, assignedPersons);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        if (index == null) {
+            return executeOnAllShown(model);
+        }
+
         List<Person> lastShownList = model.getFilteredPersonList();
 
         if (index.getZeroBased() >= lastShownList.size() || index.getZeroBased() < 0) {
@@ -155,13 +184,74 @@ public class AssignWeddingCommand extends Command {
         return new CommandResult(generateSuccessMessage(editedPerson));
     }
 
+    /**
+     * Adds every person shown to the guest lists of the weddings, skipping persons who are already in a wedding.
+     * Each wedding is replaced once and the persons are replaced as a single change to the person list.
+     */
+    private CommandResult executeOnAllShown(Model model) throws CommandException {
+        List<Person> shownPersons = List.copyOf(model.getFilteredPersonList());
+        if (shownPersons.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOTHING_TO_PERFORM_ON, "contacts", COMMAND_WORD));
+        }
+        if (weddingsToAdd.values().stream().anyMatch(type -> !type.equals("g"))) {
+            throw new CommandException(MESSAGE_PARTNER_FOR_ALL_SHOWN);
+        }
+
+        List<Wedding> modelWeddings = new ArrayList<>();
+        for (Wedding wedding : weddingsToAdd.keySet()) {
+            if (!model.hasWedding(wedding)) {
+                if (!force) {
+                    throw new CommandException(
+                            MESSAGE_WEDDING_NOT_FOUND + "\n" + MESSAGE_FORCE_ASSIGN_WEDDING_TO_CONTACT);
+                }
+                new CreateWeddingCommand(wedding).execute(model);
+            }
+            modelWeddings.add(model.getWedding(wedding));
+        }
+
+        List<Wedding> editedWeddings = modelWeddings.stream().map(Wedding::clone).toList();
+        List<List<Person>> newGuests = new ArrayList<>();
+        modelWeddings.forEach(wedding -> newGuests.add(new ArrayList<>()));
+        List<Person> personsToEdit = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (Person person : shownPersons) {
+            Set<Wedding> updatedWeddings = new HashSet<>(person.getWeddings());
+            List<Integer> addedTo = new ArrayList<>();
+            for (int i = 0; i < modelWeddings.size(); i++) {
+                if (!modelWeddings.get(i).hasPerson(person) && updatedWeddings.add(editedWeddings.get(i))) {
+                    addedTo.add(i);
+                }
+            }
+            if (addedTo.isEmpty()) {
+                continue;
+            }
+            Person editedPerson = PersonWeddingUtil.getNewPerson(person, updatedWeddings);
+            addedTo.forEach(i -> newGuests.get(i).add(editedPerson));
+            personsToEdit.add(person);
+            editedPersons.add(editedPerson);
+        }
+
+        if (personsToEdit.isEmpty()) {
+            throw new CommandException(MESSAGE_ALL_SHOWN_ALREADY_IN_WEDDINGS);
+        }
+
+        for (int i = 0; i < modelWeddings.size(); i++) {
+            Wedding editedWedding = editedWeddings.get(i);
+            newGuests.get(i).forEach(editedWedding::addToGuestList);
+            model.setWedding(modelWeddings.get(i), editedWedding);
+        }
+        model.setPersons(personsToEdit, editedPersons);
+
+        return new CommandResult(generateSuccessMessage(String.format(MESSAGE_PERSON_COUNT, personsToEdit.size())));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
             return true;
         }
         AssignWeddingCommand otherCommand = (AssignWeddingCommand) other;
-        return index.equals(otherCommand.index) && weddingsToAdd.keySet()
+        return Objects.equals(index, otherCommand.index) && weddingsToAdd.keySet()
                 .equals(otherCommand.weddingsToAdd.keySet())
                 && this.force == otherCommand.force;
     }
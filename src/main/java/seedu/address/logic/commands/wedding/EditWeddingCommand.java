@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_WEDDINGS;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -111,7 +110,7 @@ public class EditWeddingCommand extends Command {
         WeddingName updatedWeddingName = editWeddingDescriptor.getWeddingName().orElse(weddingToEdit.getWeddingName());
         Person partner1 = editWeddingDescriptor.getPartner1().orElse(weddingToEdit.getPartner1());
         Person partner2 = editWeddingDescriptor.getPartner2().orElse(weddingToEdit.getPartner2());
-        ArrayList<Person> guestlist = editWeddingDescriptor.getGuestList().orElse(weddingToEdit.getGuestList());
+        List<Person> guestlist = editWeddingDescriptor.getGuestList().orElse(weddingToEdit.getGuestList());
         Address updatedAddress = editWeddingDescriptor.getAddress().orElse(weddingToEdit.getAddress());
         String date = editWeddingDescriptor.getDate().orElse(weddingToEdit.getDate());
 
@@ -151,7 +150,7 @@ public class EditWeddingCommand extends Command {
         private Index partner2Index;
         private Person partner1;
         private Person partner2;
-        private ArrayList<Person> guestList;
+        private List<Person> guestList;
         private Address address;
         private String date;
 
@@ -207,11 +206,11 @@ public class EditWeddingCommand extends Command {
             this.partner2Index = partner2Index;
         }
 
-        public Optional<ArrayList<Person>> getGuestList() {
+        public Optional<List<Person>> getGuestList() {
             return Optional.ofNullable(guestList);
         }
 
-        public void setGuestList(ArrayList<Person> guestList) {
+        public void setGuestList(List<Person> guestList) {
             this.guestList = guestList;
         }
 
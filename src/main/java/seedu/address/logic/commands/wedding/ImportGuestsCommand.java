@@ -0,0 +1,231 @@
+package seedu.address.logic.commands.wedding;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Adds every person in a CSV file of names, phone numbers and emails to the guest list of a wedding.
+ * Persons not yet in the Wedlinker are created. The file is read one line at a time, and new persons are added in
+ * batches, so that a large file is neither held in memory nor added one person at a time.
+ */
+public class ImportGuestsCommand extends Command {
+
+    public static final String COMMAND_WORD = "import-guests";
+
+    public static final String COMMAND_KEYWORD = "ig";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the persons listed in a CSV file to the guest list of a wedding, "
+            + "creating the persons that are not yet in the Wedlinker.\n"
+            + "Each line of the file has a name, and optionally a phone number and an email, separated by commas. "
+            + "A first line of \"name,phone,email\" is skipped.\n"
+            + "Parameters: FILE_PATH " + PREFIX_WEDDING + "WEDDING\n"
+            + "Example: " + COMMAND_WORD + " data/guests.csv " + PREFIX_WEDDING + "Cheryl's Wedding";
+
+    /** The number of new persons added to the model at a time. */
+    static final int BATCH_SIZE = 1000;
+
+    private static final String HEADER_NAME = "name";
+    private static final int MAX_FIELDS = 3;
+
+    private final Path filePath;
+    private final Wedding wedding;
+
+    /**
+     * Creates an ImportGuestsCommand to add the persons in the file at {@code filePath} to {@code wedding}.
+     */
+    public ImportGuestsCommand(Path filePath, Wedding wedding) {
+        requireNonNull(filePath);
+        requireNonNull(wedding);
+        this.filePath = filePath;
+        this.wedding = wedding;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.hasWedding(wedding)) {
+            throw new CommandException(Messages.MESSAGE_WEDDING_NOT_FOUND);
+        }
+
+        Importer importer = new Importer(model, model.getWedding(wedding));
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = parseFields(line, lineNumber);
+                if (lineNumber == 1 && fields.get(0).equalsIgnoreCase(HEADER_NAME)) {
+                    continue;
+                }
+                importer.importGuest(parseGuest(fields, lineNumber));
+            }
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_READ_FILE_FAILURE, filePath, e.getMessage()),
+                    e);
+        }
+        importer.finish();
+
+        return new CommandResult(String.format(Messages.MESSAGE_IMPORT_GUESTS_SUCCESS,
+                importer.created + importer.linked, Messages.format(importer.wedding),
+                importer.created, importer.alreadyGuests));
+    }
+
+    private static List<String> parseFields(String line, int lineNumber) throws CommandException {
+        try {
+            List<String> fields = CsvUtil.parseLine(line);
+            if (fields.size() > MAX_FIELDS) {
+                throw new IllegalArgumentException("Expected at most " + MAX_FIELDS + " fields");
+            }
+            return fields;
+        } catch (IllegalArgumentException e) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_CSV_LINE, lineNumber, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns a person with the name, phone and email in {@code fields}, and no other details.
+     */
+    private static Person parseGuest(List<String> fields, int lineNumber) throws CommandException {
+        String name = fields.get(0);
+        String phone = fields.size() > 1 ? fields.get(1) : "";
+        String email = fields.size() > 2 ? fields.get(2) : "";
+        if (!Name.isValidName(name)) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_CSV_LINE, lineNumber,
+                    Name.MESSAGE_CONSTRAINTS));
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_CSV_LINE, lineNumber,
+                    Phone.MESSAGE_CONSTRAINTS));
+        }
+        if (!Email.isValidEmail(email)) {
+            throw new CommandException(String.format(Messages.MESSAGE_INVALID_CSV_LINE, lineNumber,
+                    Email.MESSAGE_CONSTRAINTS));
+        }
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(""),
+                new HashSet<>(), new HashSet<>(), new HashSet<>());
+    }
+
+    /**
+     * Adds guests to a wedding of the model, keeping the new persons that are yet to be added to the model, and the
+     * guests that are yet to be added to the wedding, which are added together so that undoing them is one change.
+     */
+    private static class Importer {
+        private final Model model;
+        private final Wedding wedding;
+        private final Set<Wedding> weddingSet;
+        private final Map<Name, Person> pendingPersons = new LinkedHashMap<>();
+        private final Map<Name, Person> pendingGuests = new LinkedHashMap<>();
+
+        private int created;
+        private int linked;
+        private int alreadyGuests;
+
+        Importer(Model model, Wedding wedding) {
+            this.model = model;
+            this.wedding = wedding;
+            this.weddingSet = Set.of(wedding);
+        }
+
+        /**
+         * Adds {@code guest} to the wedding, as the person with the same name if there is one.
+         */
+        void importGuest(Person guest) {
+            Person existingPerson = model.getPerson(guest);
+            if (existingPerson == null) {
+                existingPerson = pendingPersons.get(guest.getName());
+            }
+
+            if (existingPerson == null) {
+                Person newPerson = new Person(guest.getName(), guest.getPhone(), guest.getEmail(),
+                        guest.getAddress(), guest.getTags(), weddingSet, guest.getTasks());
+                pendingGuests.put(newPerson.getName(), newPerson);
+                pendingPersons.put(newPerson.getName(), newPerson);
+                created++;
+                if (pendingPersons.size() >= BATCH_SIZE) {
+                    addPendingPersons();
+                }
+            } else if (wedding.hasPerson(existingPerson) || pendingGuests.containsKey(existingPerson.getName())) {
+                alreadyGuests++;
+            } else {
+                existingPerson.addWedding(wedding);
+                pendingGuests.put(existingPerson.getName(), existingPerson);
+                linked++;
+            }
+        }
+
+        /**
+         * Adds the remaining new persons to the model and the guests to the wedding, and shows the updated persons
+         * and weddings.
+         */
+        void finish() {
+            addPendingPersons();
+            wedding.addAllToGuestList(new ArrayList<>(pendingGuests.values()));
+            model.updateFilteredWeddingList(Model.PREDICATE_SHOW_ALL_WEDDINGS);
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        }
+
+        private void addPendingPersons() {
+            if (pendingPersons.isEmpty()) {
+                return;
+            }
+            model.addPersons(new ArrayList<>(pendingPersons.values()));
+            pendingPersons.clear();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportGuestsCommand otherCommand)) {
+            return false;
+        }
+
+        return filePath.equals(otherCommand.filePath) && wedding.equals(otherCommand.wedding);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("wedding", wedding)
+                .toString();
+    }
+}
@@ -0,0 +1,286 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.parser.AddressBookParser;
+
+/**
+ * Measures how long each command takes to be parsed, executed and saved, and how many bytes the thread running it
+ * allocates meanwhile, keeping the measurements of each command word in {@link Histogram}s.
+ * Nothing is measured until metrics are enabled; while they are disabled, a command costs one extra read of a
+ * volatile field.
+ */
+public class CommandMetrics {
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been measured yet.";
+
+    /**
+     * A part of running a command that is measured on its own.
+     */
+    public enum Phase {
+        PARSE,
+        EXECUTE,
+        SAVE
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_KIB = 1024.0;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final CommandMetrics instance = new CommandMetrics();
+
+    private final Map<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+    /** Counts the bytes allocated by a thread, or null if the JVM cannot. */
+    private final com.sun.management.ThreadMXBean allocationCounter;
+    private volatile boolean isEnabled;
+    private ScheduledExecutorService dumpExecutor;
+    private Path dumpFile;
+
+    /**
+     * Creates a {@code CommandMetrics} that measures nothing until it is enabled.
+     */
+    public CommandMetrics() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+            allocationCounter = (com.sun.management.ThreadMXBean) threadBean;
+        } else {
+            allocationCounter = null;
+        }
+    }
+
+    /**
+     * Returns the metrics of the commands run by the app.
+     */
+    public static CommandMetrics getInstance() {
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Starts or stops measuring commands. Measurements already taken are kept.
+     */
+    public void setEnabled(boolean isEnabled) {
+        if (isEnabled && allocationCounter != null) {
+            allocationCounter.setThreadAllocatedMemoryEnabled(true);
+        }
+        this.isEnabled = isEnabled;
+    }
+
+    /**
+     * Starts measuring a command on the current thread. The sample measures nothing if metrics are disabled.
+     */
+    public Sample startSample() {
+        return isEnabled ? new Sample(this) : Sample.DISABLED;
+    }
+
+    /**
+     * Writes the metrics to {@code file} every {@code intervalSeconds} seconds, and once more when
+     * {@link #stopDumping()} is called. With an interval of 0, the metrics are only written by {@code stopDumping}.
+     */
+    public synchronized void startDumping(Path file, long intervalSeconds) {
+        requireNonNull(file);
+        if (intervalSeconds < 0) {
+            throw new IllegalArgumentException("The interval between metrics dumps must not be negative.");
+        }
+        stopDumping();
+        dumpFile = file;
+        if (intervalSeconds > 0) {
+            dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            dumpExecutor.scheduleAtFixedRate(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stops writing the metrics periodically, and writes them one last time if they were being written.
+     */
+    public synchronized void stopDumping() {
+        if (dumpExecutor != null) {
+            dumpExecutor.shutdownNow();
+            dumpExecutor = null;
+        }
+        if (dumpFile != null) {
+            dump();
+            dumpFile = null;
+        }
+    }
+
+    private synchronized void dump() {
+        if (dumpFile == null) {
+            return;
+        }
+        String header = "Command metrics at " + LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        try {
+            FileUtil.createParentDirsOfFile(dumpFile);
+            FileUtil.writeToFile(dumpFile, header + "\n" + format() + "\n");
+        } catch (IOException e) {
+            logger.warning("Could not write command metrics to " + dumpFile + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the number of times the command with {@code commandWord} has been measured.
+     */
+    public long getCount(String commandWord) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? 0 : stats.durations[Phase.EXECUTE.ordinal()].getCount();
+    }
+
+    /**
+     * Returns the durations in nanoseconds of {@code phase} of the command with {@code commandWord}, if it has been
+     * measured.
+     */
+    public Histogram getDurations(String commandWord, Phase phase) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null ? null : stats.durations[phase.ordinal()];
+    }
+
+    /**
+     * Returns the bytes allocated during {@code phase} of the command with {@code commandWord}, if it has been
+     * measured and the JVM counts allocated bytes.
+     */
+    public Histogram getAllocations(String commandWord, Phase phase) {
+        CommandStats stats = statsByCommandWord.get(commandWord);
+        return stats == null || stats.allocations == null ? null : stats.allocations[phase.ordinal()];
+    }
+
+    /**
+     * Returns a report of the metrics of every command measured, in alphabetical order of command word.
+     */
+    public String format() {
+        if (statsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder builder = new StringBuilder();
+        new TreeMap<>(statsByCommandWord).forEach((commandWord, stats) -> {
+            builder.append(commandWord).append(" (").append(getCount(commandWord)).append(" runs)\n");
+            for (Phase phase : PHASES) {
+                Histogram durations = stats.durations[phase.ordinal()];
+                if (durations.getCount() == 0) {
+                    continue;
+                }
+                builder.append(String.format("  %-8s p50 %.2f ms, p99 %.2f ms, max %.2f ms",
+                        phase.name().toLowerCase() + ":",
+                        durations.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                        durations.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                        durations.getMax() / NANOS_PER_MILLI));
+                if (stats.allocations != null) {
+                    builder.append(String.format(", %.1f KiB allocated on average",
+                            stats.allocations[phase.ordinal()].getMean() / BYTES_PER_KIB));
+                }
+                builder.append("\n");
+            }
+        });
+        return builder.toString().stripTrailing();
+    }
+
+    private void record(String commandWord, long[] durations, long[] allocations, int phaseCount) {
+        CommandStats stats = statsByCommandWord.computeIfAbsent(commandWord,
+                unused -> new CommandStats(allocationCounter != null));
+        for (int i = 0; i < phaseCount; i++) {
+            stats.durations[i].record(durations[i]);
+            if (stats.allocations != null) {
+                stats.allocations[i].record(allocations[i]);
+            }
+        }
+    }
+
+    private long getAllocatedBytes() {
+        return allocationCounter == null ? 0 : allocationCounter.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * The histograms of a command word, one for each phase.
+     */
+    private static class CommandStats {
+        private final Histogram[] durations = new Histogram[PHASES.length];
+        private final Histogram[] allocations;
+
+        CommandStats(boolean isCountingAllocations) {
+            allocations = isCountingAllocations ? new Histogram[PHASES.length] : null;
+            for (int i = 0; i < PHASES.length; i++) {
+                durations[i] = new Histogram();
+                if (allocations != null) {
+                    allocations[i] = new Histogram();
+                }
+            }
+        }
+    }
+
+    /**
+     * The measurements of one command, taken on the thread that runs it. The phases must be ended in order.
+     */
+    public static class Sample {
+        private static final Sample DISABLED = new Sample(null);
+
+        private final CommandMetrics metrics;
+        private final long[] durations = new long[PHASES.length];
+        private final long[] allocations = new long[PHASES.length];
+        private int endedPhaseCount;
+        private long phaseStartNanos;
+        private long phaseStartBytes;
+
+        private Sample(CommandMetrics metrics) {
+            this.metrics = metrics;
+            if (metrics != null) {
+                phaseStartBytes = metrics.getAllocatedBytes();
+                phaseStartNanos = System.nanoTime();
+            }
+        }
+
+        /**
+         * Ends {@code phase}, which starts when the previous phase ends.
+         */
+        public void endPhase(Phase phase) {
+            if (metrics == null) {
+                return;
+            }
+            assert phase.ordinal() == endedPhaseCount : phase + " is ended out of order";
+            long now = System.nanoTime();
+            long bytes = metrics.getAllocatedBytes();
+            durations[endedPhaseCount] = now - phaseStartNanos;
+            allocations[endedPhaseCount] = bytes - phaseStartBytes;
+            endedPhaseCount++;
+            phaseStartNanos = now;
+            phaseStartBytes = bytes;
+        }
+
+        /**
+         * Records the phases ended so far as a run of the command typed as {@code commandText}, after ending the
+         * phase in progress if the command stopped partway.
+         */
+        public void finish(String commandText) {
+            if (metrics == null || endedPhaseCount == 0) {
+                return;
+            }
+            if (endedPhaseCount < PHASES.length) {
+                endPhase(PHASES[endedPhaseCount]);
+            }
+            metrics.record(AddressBookParser.getCommandWord(commandText), durations, allocations, endedPhaseCount);
+        }
+    }
+}
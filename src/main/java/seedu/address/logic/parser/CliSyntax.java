@@ -15,4 +15,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_TASK = new Prefix("tk/");
     public static final Prefix PREFIX_WEDDING = new Prefix("w/");
     public static final Prefix PREFIX_FORCE = new Prefix("f/");
+    public static final Prefix PREFIX_VENDOR = new Prefix("v/");
+
+    /* Keyword used in place of an index to act on every person in the current person listing */
+    public static final String KEYWORD_ALL_SHOWN = "all";
 }
@@ -0,0 +1,179 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.findcommand.FindCommand;
+import seedu.address.logic.commands.person.AddCommand;
+import seedu.address.logic.commands.person.DeleteCommand;
+import seedu.address.logic.commands.person.EditCommand;
+import seedu.address.logic.commands.person.ListCommand;
+import seedu.address.logic.commands.tag.CreateTagCommand;
+import seedu.address.logic.commands.tag.DeleteTagCommand;
+import seedu.address.logic.commands.tag.ListTagsCommand;
+import seedu.address.logic.commands.tag.TagCommand;
+import seedu.address.logic.commands.tag.UntagCommand;
+import seedu.address.logic.commands.task.AssignTaskCommand;
+import seedu.address.logic.commands.task.CreateTaskCommand;
+import seedu.address.logic.commands.task.DeleteTaskCommand;
+import seedu.address.logic.commands.task.ListTasksCommand;
+import seedu.address.logic.commands.task.MarkTaskCommand;
+import seedu.address.logic.commands.task.UnassignTaskCommand;
+import seedu.address.logic.commands.task.UnmarkTaskCommand;
+import seedu.address.logic.commands.vendor.AssignVendorCommand;
+import seedu.address.logic.commands.vendor.UnassignVendorCommand;
+import seedu.address.logic.commands.wedding.AssignWeddingCommand;
+import seedu.address.logic.commands.wedding.CreateWeddingCommand;
+import seedu.address.logic.commands.wedding.DeleteWeddingCommand;
+import seedu.address.logic.commands.wedding.EditWeddingCommand;
+import seedu.address.logic.commands.wedding.ImportGuestsCommand;
+import seedu.address.logic.commands.wedding.ListWeddingsCommand;
+import seedu.address.logic.commands.wedding.UnassignWeddingCommand;
+import seedu.address.logic.parser.person.AddCommandParser;
+import seedu.address.logic.parser.person.DeleteCommandParser;
+import seedu.address.logic.parser.person.EditCommandParser;
+import seedu.address.logic.parser.tag.CreateTagCommandParser;
+import seedu.address.logic.parser.tag.DeleteTagCommandParser;
+import seedu.address.logic.parser.tag.TagCommandParser;
+import seedu.address.logic.parser.tag.UntagCommandParser;
+import seedu.address.logic.parser.task.AssignTaskCommandParser;
+import seedu.address.logic.parser.task.CreateTaskCommandParser;
+import seedu.address.logic.parser.task.DeleteTaskCommandParser;
+import seedu.address.logic.parser.task.MarkTaskCommandParser;
+import seedu.address.logic.parser.task.UnassignTaskCommandParser;
+import seedu.address.logic.parser.task.UnmarkTaskCommandParser;
+import seedu.address.logic.parser.vendor.AssignVendorCommandParser;
+import seedu.address.logic.parser.vendor.UnassignVendorCommandParser;
+import seedu.address.logic.parser.wedding.AssignWeddingCommandParser;
+import seedu.address.logic.parser.wedding.CreateWeddingCommandParser;
+import seedu.address.logic.parser.wedding.DeleteWeddingCommandParser;
+import seedu.address.logic.parser.wedding.EditWeddingCommandParser;
+import seedu.address.logic.parser.wedding.ImportGuestsCommandParser;
+import seedu.address.logic.parser.wedding.UnassignWeddingCommandParser;
+
+/**
+ * Maps each command word and keyword of the app to the parser of its command.
+ * Parsers are stateless, so each is created once and shared by every user input.
+ */
+public class CommandRegistry {
+
+    private static final CommandRegistry instance = new CommandRegistry();
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+    private final List<String> commandWords = new ArrayList<>();
+    /** Every command word and keyword in ascending order, to find those starting with a prefix by binary search. */
+    private final String[] sortedWords;
+
+    private CommandRegistry() {
+        register(new AddCommandParser(), AddCommand.COMMAND_WORD);
+        register(new EditCommandParser(), EditCommand.COMMAND_WORD);
+        register(new DeleteCommandParser(), DeleteCommand.COMMAND_WORD);
+        register(arguments -> new ClearCommand(), ClearCommand.COMMAND_WORD);
+        register(new FindCommandParser(), FindCommand.COMMAND_WORD);
+        register(arguments -> new ListCommand(), ListCommand.COMMAND_WORD);
+        register(arguments -> new ListWeddingsCommand(),
+                ListWeddingsCommand.COMMAND_WORD, ListWeddingsCommand.COMMAND_KEYWORD);
+        register(arguments -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        register(new ExportCommandParser(), ExportCommand.COMMAND_WORD);
+        register(arguments -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+        register(arguments -> new UndoCommand(), UndoCommand.COMMAND_WORD);
+        register(arguments -> new RedoCommand(), RedoCommand.COMMAND_WORD);
+        register(new RunCommandParser(), RunCommand.COMMAND_WORD);
+        register(arguments -> new StatsCommand(), StatsCommand.COMMAND_WORD);
+        register(new CreateTagCommandParser(), CreateTagCommand.COMMAND_WORD, CreateTagCommand.COMMAND_KEYWORD);
+        register(new DeleteTagCommandParser(), DeleteTagCommand.COMMAND_WORD, DeleteTagCommand.COMMAND_KEYWORD);
+        register(new EditWeddingCommandParser(),
+                EditWeddingCommand.COMMAND_WORD, EditWeddingCommand.COMMAND_KEYWORD);
+        register(new CreateWeddingCommandParser(),
+                CreateWeddingCommand.COMMAND_WORD, CreateWeddingCommand.COMMAND_KEYWORD);
+        register(new DeleteWeddingCommandParser(),
+                DeleteWeddingCommand.COMMAND_WORD, DeleteWeddingCommand.COMMAND_KEYWORD);
+        register(new TagCommandParser(), TagCommand.COMMAND_WORD);
+        register(new UntagCommandParser(), UntagCommand.COMMAND_WORD);
+        register(new AssignWeddingCommandParser(),
+                AssignWeddingCommand.COMMAND_WORD, AssignWeddingCommand.COMMAND_KEYWORD);
+        register(new UnassignWeddingCommandParser(),
+                UnassignWeddingCommand.COMMAND_WORD, UnassignWeddingCommand.COMMAND_KEYWORD);
+        register(new ImportGuestsCommandParser(),
+                ImportGuestsCommand.COMMAND_WORD, ImportGuestsCommand.COMMAND_KEYWORD);
+        register(new CreateTaskCommandParser(), CreateTaskCommand.COMMAND_WORD, CreateTaskCommand.COMMAND_KEYWORD);
+        register(arguments -> new ListTasksCommand(), ListTasksCommand.COMMAND_WORD, ListTasksCommand.COMMAND_KEYWORD);
+        register(arguments -> new ListTagsCommand(), ListTagsCommand.COMMAND_WORD, ListTagsCommand.COMMAND_KEYWORD);
+        register(new AssignTaskCommandParser(), AssignTaskCommand.COMMAND_WORD, AssignTaskCommand.COMMAND_KEYWORD);
+        register(new UnassignTaskCommandParser(),
+                UnassignTaskCommand.COMMAND_WORD, UnassignTaskCommand.COMMAND_KEYWORD);
+        register(new MarkTaskCommandParser(), MarkTaskCommand.COMMAND_WORD, MarkTaskCommand.COMMAND_KEYWORD);
+        register(new UnmarkTaskCommandParser(), UnmarkTaskCommand.COMMAND_WORD, UnmarkTaskCommand.COMMAND_KEYWORD);
+        register(new DeleteTaskCommandParser(), DeleteTaskCommand.COMMAND_WORD, DeleteTaskCommand.COMMAND_KEYWORD);
+        register(new AssignVendorCommandParser(),
+                AssignVendorCommand.COMMAND_WORD, AssignVendorCommand.COMMAND_KEYWORD);
+        register(new UnassignVendorCommandParser(),
+                UnassignVendorCommand.COMMAND_WORD, UnassignVendorCommand.COMMAND_KEYWORD);
+
+        sortedWords = parsers.keySet().toArray(String[]::new);
+        Arrays.sort(sortedWords);
+    }
+
+    public static CommandRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the command with {@code commandWord} and {@code keywords}.
+     */
+    private void register(Parser<? extends Command> parser, String commandWord, String... keywords) {
+        assert !parsers.containsKey(commandWord) : commandWord + " is registered twice";
+        parsers.put(commandWord, parser);
+        commandWords.add(commandWord);
+        for (String keyword : keywords) {
+            assert !parsers.containsKey(keyword) : keyword + " is registered twice";
+            parsers.put(keyword, parser);
+        }
+    }
+
+    /**
+     * Returns the parser of the command with {@code word} as its command word or keyword, if there is one.
+     */
+    public Optional<Parser<? extends Command>> getParser(String word) {
+        requireNonNull(word);
+        return Optional.ofNullable(parsers.get(word));
+    }
+
+    /**
+     * Returns the command word of every command, in the order they were registered.
+     */
+    public List<String> getCommandWords() {
+        return List.copyOf(commandWords);
+    }
+
+    /**
+     * Returns every command word and keyword that starts with {@code prefix}, in ascending order.
+     */
+    public List<String> complete(String prefix) {
+        requireNonNull(prefix);
+        int from = Arrays.binarySearch(sortedWords, prefix);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int to = from;
+        while (to < sortedWords.length && sortedWords[to].startsWith(prefix)) {
+            to++;
+        }
+        return List.of(Arrays.copyOfRange(sortedWords, from, to));
+    }
+}
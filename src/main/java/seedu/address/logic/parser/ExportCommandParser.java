@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Target;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ExportFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file name must end with "
+            + ExportFormat.CSV.getExtension() + " or " + ExportFormat.JSON_LINES.getExtension() + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] targetAndPath = args.trim().split("\\s+", 2);
+        if (targetAndPath.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Target target = parseTarget(targetAndPath[0]);
+        Path filePath = ParserUtil.parseFilePath(targetAndPath[1]);
+        ExportFormat format = ExportFormat.fromFilePath(filePath)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_FORMAT));
+        return new ExportCommand(target, filePath, format);
+    }
+
+    private static Target parseTarget(String keyword) throws ParseException {
+        for (Target target : Target.values()) {
+            if (target.getKeyword().equalsIgnoreCase(keyword)) {
+                return target;
+            }
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+}
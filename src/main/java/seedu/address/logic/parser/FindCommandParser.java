@@ -8,13 +8,16 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TASK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_VENDOR;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.logic.commands.findcommand.FindAddressCommand;
 import seedu.address.logic.commands.findcommand.FindCommand;
 import seedu.address.logic.commands.findcommand.FindEmailCommand;
+import seedu.address.logic.commands.findcommand.FindMembershipCommand;
 import seedu.address.logic.commands.findcommand.FindNameCommand;
 import seedu.address.logic.commands.findcommand.FindPhoneCommand;
 import seedu.address.logic.commands.findcommand.FindTagCommand;
@@ -41,8 +44,11 @@ public class FindCommandParser implements Parser<FindCommand> {
     public static final String TAG_CANNOT_BE_EMPTY = "Tag cannot be empty!";
     public static final String WEDDING_CANNOT_BE_EMPTY = "Wedding cannot be empty!";
     public static final String TASK_CANNOT_BE_EMPTY = "Task cannot be empty!";
+    public static final String VENDOR_FILTER_INVALID = "Vendor filter must be either 'yes' or 'no'!";
     public static final String PARSE_FAILURE_MULTIPLE_PREFIXES = "You can only specify one prefix at a time.";
 
+    /** Marks a tag or wedding keyword as excluding the contacts that match it. */
+    public static final String EXCLUDE_MARKER = "!";
 
 
     /**
@@ -54,7 +60,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
-                        PREFIX_TAG, PREFIX_WEDDING, PREFIX_TASK);
+                        PREFIX_TAG, PREFIX_WEDDING, PREFIX_TASK, PREFIX_VENDOR);
 
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
@@ -70,6 +76,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         boolean hasTagPrefix = argMultimap.getValue(PREFIX_TAG).isPresent();
         boolean hasWeddingPrefix = argMultimap.getValue(PREFIX_WEDDING).isPresent();
         boolean hasTaskPrefix = argMultimap.getValue(PREFIX_TASK).isPresent();
+        boolean hasVendorPrefix = argMultimap.getValue(PREFIX_VENDOR).isPresent();
 
         int prefixCount = 0;
         if (hasNamePrefix) {
@@ -84,10 +91,8 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (hasAddressPrefix) {
             prefixCount++;
         }
-        if (hasTagPrefix) {
-            prefixCount++;
-        }
-        if (hasWeddingPrefix) {
+        // Tags, weddings and vendors can be combined into one membership query
+        if (hasTagPrefix || hasWeddingPrefix || hasVendorPrefix) {
             prefixCount++;
         }
         if (hasTaskPrefix) {
@@ -122,6 +127,11 @@ public class FindCommandParser implements Parser<FindCommand> {
             return new FindAddressCommand(new AddressContainsKeywordsPredicate(addressKeywords));
         }
 
+        if (hasVendorPrefix || (hasTagPrefix && hasWeddingPrefix)
+                || hasExcludedKeyword(argMultimap, PREFIX_TAG) || hasExcludedKeyword(argMultimap, PREFIX_WEDDING)) {
+            return parseMembershipQuery(argMultimap);
+        }
+
         if (hasTagPrefix) {
             ArrayList<String> tagKeywords = new ArrayList<>();
             collectKeywords(argMultimap, PREFIX_TAG, TAG_CANNOT_BE_EMPTY, tagKeywords);
@@ -149,6 +159,64 @@ public class FindCommandParser implements Parser<FindCommand> {
         throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    private boolean hasExcludedKeyword(ArgumentMultimap argMultimap, Prefix prefix) {
+        return argMultimap.getAllValues(prefix).stream()
+                .anyMatch(value -> value.trim().startsWith(EXCLUDE_MARKER));
+    }
+
+    /**
+     * Parses the tag, wedding and vendor filters into a {@code FindMembershipCommand}.
+     * Tag and wedding keywords starting with {@link #EXCLUDE_MARKER} exclude contacts instead.
+     */
+    private FindMembershipCommand parseMembershipQuery(ArgumentMultimap argMultimap) throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_VENDOR);
+
+        List<String> includedTags = new ArrayList<>();
+        List<String> excludedTags = new ArrayList<>();
+        splitKeywords(argMultimap, PREFIX_TAG, TAG_CANNOT_BE_EMPTY, includedTags, excludedTags);
+        List<String> includedWeddings = new ArrayList<>();
+        List<String> excludedWeddings = new ArrayList<>();
+        splitKeywords(argMultimap, PREFIX_WEDDING, WEDDING_CANNOT_BE_EMPTY, includedWeddings, excludedWeddings);
+
+        Boolean isVendor = null;
+        if (argMultimap.getValue(PREFIX_VENDOR).isPresent()) {
+            String vendorInput = argMultimap.getValue(PREFIX_VENDOR).get().trim();
+            if (vendorInput.equalsIgnoreCase("yes")) {
+                isVendor = true;
+            } else if (vendorInput.equalsIgnoreCase("no")) {
+                isVendor = false;
+            } else {
+                throw new ParseException(VENDOR_FILTER_INVALID);
+            }
+        }
+
+        return new FindMembershipCommand(
+                includedTags.isEmpty() ? null : new TagContainsKeywordsPredicate(includedTags),
+                excludedTags.isEmpty() ? null : new TagContainsKeywordsPredicate(excludedTags),
+                includedWeddings.isEmpty() ? null : new WeddingContainsKeywordsPredicate(includedWeddings),
+                excludedWeddings.isEmpty() ? null : new WeddingContainsKeywordsPredicate(excludedWeddings),
+                isVendor);
+    }
+
+    private void splitKeywords(ArgumentMultimap argMultimap, Prefix prefix, String keywordCannotBeEmpty,
+                               List<String> included, List<String> excluded) throws ParseException {
+        for (String field : argMultimap.getAllValues(prefix)) {
+            String input = field.trim();
+            boolean isExcluded = input.startsWith(EXCLUDE_MARKER);
+            if (isExcluded) {
+                input = input.substring(EXCLUDE_MARKER.length()).trim();
+            }
+            if (input.isEmpty()) {
+                throw new ParseException(keywordCannotBeEmpty);
+            }
+            if (isExcluded) {
+                excluded.add(input);
+            } else {
+                included.add(input);
+            }
+        }
+    }
+
     private void collectKeywords(ArgumentMultimap argMultimap, Prefix prefixTag, String keywordCannotBeEmpty,
                                  ArrayList<String> keywords) throws ParseException {
         for (String field : argMultimap.getAllValues(prefixTag)) {
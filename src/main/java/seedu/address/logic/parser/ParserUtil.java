@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -13,6 +15,7 @@ import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.task.CreateTaskCommand;
@@ -36,6 +39,7 @@ import seedu.address.model.wedding.WeddingName;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not valid.";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /**
@@ -51,6 +55,28 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Returns true if {@code preamble} is {@link CliSyntax#KEYWORD_ALL_SHOWN}, ignoring case and surrounding
+     * whitespace, i.e. the command should act on every person in the current person listing.
+     */
+    public static boolean isAllShown(String preamble) {
+        requireNonNull(preamble);
+        return preamble.trim().equalsIgnoreCase(CliSyntax.KEYWORD_ALL_SHOWN);
+    }
+
+    /**
+     * Parses {@code filePath} into a {@code Path} and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified file path is empty or invalid.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
     // =======================================================================
     // Person Parsing Methods
     // =======================================================================
@@ -14,6 +14,7 @@ import seedu.address.logic.commands.tag.TagCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 
@@ -26,7 +27,7 @@ public class TagCommandParser implements Parser<TagCommand> {
      * Parses the given String of arguments in the context of the TagCommand
      * and returns a TagCommand object for execution.
      *
-     * @param args the user input string containing the index and tags to be added
+     * @param args the user input string containing the index, or {@code all}, and tags to be added
      * @return a new {@code TagCommand} object that contains the parsed index and list of tags
      * @throws ParseException if the input does not conform to the expected format (i.e., invalid index or missing tags)
      */
@@ -34,6 +35,11 @@ public class TagCommandParser implements Parser<TagCommand> {
         requireNonNull(args);
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_FORCE);
+        if (ParserUtil.isAllShown(argMultimap.getPreamble())) {
+            Set<Tag> tags = TaggingCommandParserUtil.parseTags(argMultimap, TagCommand.MESSAGE_USAGE);
+            return TagCommand.forAllShown(new HashSet<>(tags), arePrefixesPresent(argMultimap, PREFIX_FORCE));
+        }
+
         Pair<Index, Set<Tag>> indexAndTags = TaggingCommandParserUtil.parseIndexAndTags(argMultimap,
                 TagCommand.MESSAGE_USAGE);
 
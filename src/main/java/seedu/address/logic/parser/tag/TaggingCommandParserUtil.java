@@ -41,9 +41,22 @@ public class TaggingCommandParserUtil {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
         }
 
-        Set<Tag> tagValues = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        return new Pair<>(index, parseTags(argMultimap, messageUsage));
+    }
+
+    /**
+     * Parses the tags from the argument map, ignoring the preamble.
+     *
+     * @param argMultimap the argument multimap containing the tags
+     * @return the parsed tags
+     * @throws ParseException if there are no tags or the tags are invalid
+     */
+    public static Set<Tag> parseTags(ArgumentMultimap argMultimap, String messageUsage) throws ParseException {
+        if (!arePrefixesPresent(argMultimap, PREFIX_TAG)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
 
-        return new Pair<>(index, new HashSet<>(tagValues));
+        return new HashSet<>(ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG)));
     }
 
     /**
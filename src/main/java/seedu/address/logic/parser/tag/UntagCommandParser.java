@@ -12,6 +12,7 @@ import seedu.address.logic.commands.tag.UntagCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 
@@ -24,7 +25,7 @@ public class UntagCommandParser implements Parser<UntagCommand> {
      * Parses the given String of arguments in the context of the UntagCommand
      * and returns a UntagCommand object for execution.
      *
-     * @param args the user input string containing the index and tags to be removed
+     * @param args the user input string containing the index, or {@code all}, and tags to be removed
      * @return a new UntagCommand object that contains the parsed index and list of tags
      * @throws ParseException if the input does not conform to the expected format (i.e., invalid index or missing tags)
      */
@@ -32,6 +33,11 @@ public class UntagCommandParser implements Parser<UntagCommand> {
         requireNonNull(args);
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        if (ParserUtil.isAllShown(argMultimap.getPreamble())) {
+            Set<Tag> tags = TaggingCommandParserUtil.parseTags(argMultimap, UntagCommand.MESSAGE_USAGE);
+            return UntagCommand.forAllShown(new HashSet<>(tags));
+        }
+
         Pair<Index, Set<Tag>> indexAndTags = TaggingCommandParserUtil
                 .parseIndexAndTags(argMultimap, UntagCommand.MESSAGE_USAGE);
 
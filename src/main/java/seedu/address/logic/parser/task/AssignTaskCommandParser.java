@@ -1,12 +1,17 @@
 package seedu.address.logic.parser.task;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
 import seedu.address.logic.commands.task.AssignTaskCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new {@code AssignTaskCommand} object.
  */
-public class AssignTaskCommandParser {
+public class AssignTaskCommandParser implements Parser<AssignTaskCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the AssignTaskCommand
      * and returns an AssignTaskCommand object for execution.
@@ -14,6 +19,21 @@ public class AssignTaskCommandParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AssignTaskCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] splitArgs = args.trim().split("\\s+");
+        if (ParserUtil.isAllShown(splitArgs[0])) {
+            if (splitArgs.length < 2) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignTaskCommand.MESSAGE_USAGE));
+            }
+            try {
+                return AssignTaskCommand.forAllShown(TaskAssignmentParserUtil.parseMultipleIndexes(splitArgs, 1));
+            } catch (ParseException pe) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, AssignTaskCommand.MESSAGE_USAGE), pe);
+            }
+        }
+
         TaskAssignmentParserUtil.ParsedCommandData parsedData =
                 TaskAssignmentParserUtil.parseTaskCommand(args, AssignTaskCommand.MESSAGE_USAGE);
 
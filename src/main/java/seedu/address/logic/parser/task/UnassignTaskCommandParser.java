@@ -1,12 +1,13 @@
 package seedu.address.logic.parser.task;
 
 import seedu.address.logic.commands.task.UnassignTaskCommand;
+import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new {@code UnassignTaskCommand} object.
  */
-public class UnassignTaskCommandParser {
+public class UnassignTaskCommandParser implements Parser<UnassignTaskCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the UnassignTaskCommand
      * and returns an UnassignTaskCommand object for execution.
@@ -15,6 +15,7 @@ import seedu.address.logic.commands.wedding.AssignWeddingCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.wedding.Wedding;
@@ -28,7 +29,7 @@ public class AssignWeddingCommandParser implements Parser<AssignWeddingCommand>
      * Parses the given String of arguments in the context of the AssignWeddingCommand
      * and returns a AssignWeddingCommand object for execution.
      *
-     * @param args the user input string containing the index and weddings to be added
+     * @param args the user input string containing the index, or {@code all}, and weddings to be added
      * @return a new {@code AssignWeddingCommand} object that contains the parsed index and list of weddings
      * @throws ParseException if the input does not conform to the expected format (i.e., invalid index
      *      or missing weddings)
@@ -37,19 +38,22 @@ public class AssignWeddingCommandParser implements Parser<AssignWeddingCommand>
         requireNonNull(args);
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_WEDDING, PREFIX_FORCE);
-        Index index;
 
         if (!arePrefixesPresent(argMultimap, PREFIX_WEDDING)) {
             throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
                     AssignWeddingCommand.MESSAGE_USAGE));
         }
 
-        try {
-            // Parse the index from the preamble
-            index = Index.oneBasedNoConstraints(Integer.parseInt(argMultimap.getPreamble().trim()));
-        } catch (NumberFormatException e) {
-            throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
-                    AssignWeddingCommand.MESSAGE_USAGE));
+        boolean isAllShown = ParserUtil.isAllShown(argMultimap.getPreamble());
+        Index index = null;
+        if (!isAllShown) {
+            try {
+                // Parse the index from the preamble
+                index = Index.oneBasedNoConstraints(Integer.parseInt(argMultimap.getPreamble().trim()));
+            } catch (NumberFormatException e) {
+                throw new ParseException(String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT,
+                        AssignWeddingCommand.MESSAGE_USAGE));
+            }
         }
 
         List<String> weddingValues = argMultimap.getAllValues(PREFIX_WEDDING);
@@ -84,7 +88,11 @@ public class AssignWeddingCommandParser implements Parser<AssignWeddingCommand>
                         }
                 ));
 
-        return new AssignWeddingCommand(index, weddings, arePrefixesPresent(argMultimap, PREFIX_FORCE));
+        boolean force = arePrefixesPresent(argMultimap, PREFIX_FORCE);
+        if (isAllShown) {
+            return AssignWeddingCommand.forAllShown(weddings, force);
+        }
+        return new AssignWeddingCommand(index, weddings, force);
 
 
     }
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser.wedding;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.wedding.ImportGuestsCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Parses input arguments and creates a new ImportGuestsCommand object
+ */
+public class ImportGuestsCommandParser implements Parser<ImportGuestsCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportGuestsCommand
+     * and returns an ImportGuestsCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public ImportGuestsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_WEDDING);
+
+        if (argMultimap.getValue(PREFIX_WEDDING).isEmpty() || argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportGuestsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_WEDDING);
+        Path filePath = ParserUtil.parseFilePath(argMultimap.getPreamble());
+        Wedding wedding = ParserUtil.parseWedding(argMultimap.getValue(PREFIX_WEDDING).get());
+        return new ImportGuestsCommand(filePath, wedding);
+    }
+}
@@ -1,27 +1,39 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.model.person.MembershipQuery;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.Vendor;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagName;
 import seedu.address.model.tag.UniqueTagList;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.UniqueTaskList;
 import seedu.address.model.wedding.UniqueWeddingList;
 import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingName;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Every person, tag, task and wedding is given a dense integer ID that it keeps while it is in the address book.
+ * Every change is recorded in the open {@code ModelTransaction}, if any, so that it can be rolled back or undone.
+ * Undoing a change goes through the same methods, so the undo is itself recorded and can be redone.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -30,6 +42,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueTaskList tasks;
     private final UniqueWeddingList weddings;
 
+    private final IdTable<Name, Person> personIds = new IdTable<>(Person::getName);
+    private final IdTable<TagName, Tag> tagIds = new IdTable<>(Tag::getTagName);
+    private final IdTable<String, Task> taskIds = new IdTable<>(Task::getDescription);
+    private final IdTable<WeddingName, Wedding> weddingIds = new IdTable<>(Wedding::getWeddingName);
+
+    /** Bit sets of the persons in each tag and wedding, built when first queried and then kept up to date. */
+    private MembershipIndex membershipIndex;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -62,10 +82,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setTags(newData.getTagList());
-        setWeddings(newData.getWeddingList());
-        setTasks(newData.getTaskList());
+        // Every entity keeps its ID in newData, e.g. the ID it was saved with
+        resetPersons(newData.getPersonList(), newData::getPersonId);
+        resetTags(newData.getTagList(), newData::getTagId);
+        resetWeddings(newData.getWeddingList(), newData::getWeddingId);
+        resetTasks(newData.getTaskList(), newData::getTaskId);
     }
 
     /**
@@ -73,7 +94,40 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        resetPersons(persons, personIds.snapshotIds());
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, as a
+     * single change to the person list.
+     * Each target must be a person in the address book, and no edited person may have the same identity as another
+     * person in the address book.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        List<Person> oldPersons = List.copyOf(targets);
+        List<Person> newPersons = List.copyOf(editedPersons);
+        persons.setPersons(oldPersons, newPersons);
+        for (int i = 0; i < oldPersons.size(); i++) {
+            unindexPerson(oldPersons.get(i));
+            personIds.replace(oldPersons.get(i), newPersons.get(i));
+            indexPerson(newPersons.get(i));
+        }
+        ModelTransaction.recordUndo(() -> setPersons(newPersons, oldPersons), newPersons.size());
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, each of which keeps the ID given by
+     * {@code idSource} if it is free.
+     */
+    private void resetPersons(List<Person> persons, ToIntFunction<Person> idSource) {
+        if (ModelTransaction.isActive()) {
+            List<Person> oldPersons = new ArrayList<>(this.persons.asUnmodifiableObservableList());
+            ToIntFunction<Person> oldIds = personIds.snapshotIds();
+            ModelTransaction.recordUndo(() -> resetPersons(oldPersons, oldIds), oldPersons.size());
+        }
+        discardMembershipIndex();
         this.persons.setPersons(persons);
+        personIds.reset(persons, idSource);
     }
 
     /**
@@ -81,7 +135,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code weddings} must not contain duplicate tags.
      */
     public void setWeddings(List<Wedding> weddings) {
+        resetWeddings(weddings, weddingIds.snapshotIds());
+    }
+
+    /**
+     * Replaces the contents of the wedding list with {@code weddings}, each of which keeps the ID given by
+     * {@code idSource} if it is free.
+     */
+    private void resetWeddings(List<Wedding> weddings, ToIntFunction<Wedding> idSource) {
+        if (ModelTransaction.isActive()) {
+            List<Wedding> oldWeddings = new ArrayList<>(this.weddings.asUnmodifiableObservableList());
+            ToIntFunction<Wedding> oldIds = weddingIds.snapshotIds();
+            ModelTransaction.recordUndo(() -> resetWeddings(oldWeddings, oldIds), oldWeddings.size());
+        }
         this.weddings.setWeddings(weddings);
+        weddingIds.reset(weddings, idSource);
     }
 
     /**
@@ -89,7 +157,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code tasks} must not contain duplicate tasks.
      */
     public void setTasks(List<Task> tasks) {
+        resetTasks(tasks, taskIds.snapshotIds());
+    }
+
+    /**
+     * Replaces the contents of the task list with {@code tasks}, each of which keeps the ID given by
+     * {@code idSource} if it is free.
+     */
+    private void resetTasks(List<Task> tasks, ToIntFunction<Task> idSource) {
+        if (ModelTransaction.isActive()) {
+            List<Task> oldTasks = new ArrayList<>(this.tasks.asUnmodifiableObservableList());
+            ToIntFunction<Task> oldIds = taskIds.snapshotIds();
+            ModelTransaction.recordUndo(() -> resetTasks(oldTasks, oldIds), oldTasks.size());
+        }
         this.tasks.setTasks(tasks);
+        taskIds.reset(tasks, idSource);
     }
 
     //// person-level operations
@@ -99,7 +181,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return persons.contains(person);
+        return personIds.getId(person) != NO_ID;
     }
 
     /**
@@ -108,6 +190,47 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personIds.add(p);
+        indexPerson(p);
+        ModelTransaction.recordUndo(() -> removePerson(p));
+    }
+
+    /**
+     * Adds a person with the given ID to the address book.
+     * The person must not already exist in the address book, and the ID must not be in use.
+     */
+    public void addPerson(Person p, int id) {
+        checkIdAvailable(personIds, id);
+        persons.add(p);
+        personIds.add(p, id);
+        indexPerson(p);
+        ModelTransaction.recordUndo(() -> removePerson(p));
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book as a single change to the person list.
+     * None of the persons may already exist in the address book, and {@code toAdd} must not contain duplicates.
+     */
+    public void addPersons(List<Person> toAdd) {
+        List<Person> added = List.copyOf(toAdd);
+        persons.addAll(added, this::hasPerson);
+        for (Person person : added) {
+            personIds.add(person);
+            indexPerson(person);
+        }
+        ModelTransaction.recordUndo(() -> removePersons(added), added.size());
+    }
+
+    /**
+     * Removes persons added by {@link #addPersons(List)} as a single change to the person list.
+     */
+    private void removePersons(List<Person> toRemove) {
+        persons.removeAll(toRemove);
+        for (Person person : toRemove) {
+            unindexPerson(person);
+            personIds.remove(person);
+        }
+        ModelTransaction.recordUndo(() -> addPersons(toRemove), toRemove.size());
     }
 
     /**
@@ -117,7 +240,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
+        Person oldPerson = findForUndo(personIds, target);
         persons.setPerson(target, editedPerson);
+        unindexPerson(target);
+        personIds.replace(target, editedPerson);
+        indexPerson(editedPerson);
+        ModelTransaction.recordUndo(() -> setPerson(editedPerson, oldPerson));
     }
 
     /**
@@ -125,7 +253,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Person getPerson(Person person) {
         requireNonNull(person);
-        return persons.asUnmodifiableObservableList().stream().filter(person::isSamePerson).findFirst().orElse(null);
+        return personIds.get(personIds.getId(person));
     }
 
     /**
@@ -133,7 +261,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        int id = personIds.getId(key);
+        Person removed = findForUndo(personIds, key);
+        int index = persons.remove(key);
+        unindexPerson(key);
+        personIds.remove(key);
+        recordRemoval(removed, () -> {
+            persons.add(index, removed);
+            personIds.add(removed, id);
+            indexPerson(removed);
+        }, this::removePerson);
     }
 
     //// vendor-level operations
@@ -170,6 +307,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTag(Tag tag) {
         tags.add(tag);
+        tagIds.add(tag);
+        ModelTransaction.recordUndo(() -> removeTag(tag));
+    }
+
+    /**
+     * Adds a tag with the given ID to the Wedlinker.
+     * The tag must not already exist in the Wedlinker, and the ID must not be in use.
+     */
+    public void addTag(Tag tag, int id) {
+        checkIdAvailable(tagIds, id);
+        tags.add(tag);
+        tagIds.add(tag, id);
+        ModelTransaction.recordUndo(() -> removeTag(tag));
     }
 
     /**
@@ -188,6 +338,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTask(Task task) {
         tasks.add(task);
+        taskIds.add(task);
+        ModelTransaction.recordUndo(() -> removeTask(task));
+    }
+
+    /**
+     * Adds a task with the given ID to the Wedlinker.
+     * The task must not already exist in the Wedlinker, and the ID must not be in use.
+     */
+    public void addTask(Task task, int id) {
+        checkIdAvailable(taskIds, id);
+        tasks.add(task);
+        taskIds.add(task, id);
+        ModelTransaction.recordUndo(() -> removeTask(task));
     }
 
     /**
@@ -243,7 +406,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
+        Task oldTask = findForUndo(taskIds, target);
         tasks.setTask(target, editedTask);
+        taskIds.replace(target, editedTask);
+        ModelTransaction.recordUndo(() -> setTask(editedTask, oldTask));
     }
 
 
@@ -252,7 +418,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeTask(Task key) {
-        tasks.remove(key);
+        int id = taskIds.getId(key);
+        Task removed = findForUndo(taskIds, key);
+        int index = tasks.remove(key);
+        taskIds.remove(key);
+        recordRemoval(removed, () -> {
+            tasks.add(index, removed);
+            taskIds.add(removed, id);
+        }, this::removeTask);
     }
 
     /**
@@ -262,6 +435,19 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addWedding(Wedding wedding) {
         weddings.add(wedding);
+        weddingIds.add(wedding);
+        ModelTransaction.recordUndo(() -> removeWedding(wedding));
+    }
+
+    /**
+     * Adds a wedding with the given ID to the Wedlinker.
+     * The wedding must not already exist in the Wedlinker, and the ID must not be in use.
+     */
+    public void addWedding(Wedding wedding, int id) {
+        checkIdAvailable(weddingIds, id);
+        weddings.add(wedding);
+        weddingIds.add(wedding, id);
+        ModelTransaction.recordUndo(() -> removeWedding(wedding));
     }
 
 
@@ -272,8 +458,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setWedding(Wedding target, Wedding editedWedding) {
         requireNonNull(editedWedding);
-
+        Wedding oldWedding = findForUndo(weddingIds, target);
         weddings.setWedding(target, editedWedding);
+        weddingIds.replace(target, editedWedding);
+        ModelTransaction.recordUndo(() -> setWedding(editedWedding, oldWedding));
     }
 
     /**
@@ -297,7 +485,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeWedding(Wedding key) {
-        weddings.remove(key);
+        int id = weddingIds.getId(key);
+        Wedding removed = findForUndo(weddingIds, key);
+        int index = weddings.remove(key);
+        weddingIds.remove(key);
+        recordRemoval(removed, () -> {
+            weddings.add(index, removed);
+            weddingIds.add(removed, id);
+        }, this::removeWedding);
     }
 
     /**
@@ -307,8 +502,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTag(Tag target, Tag editedTag) {
         requireNonNull(editedTag);
-
+        Tag oldTag = findForUndo(tagIds, target);
         tags.setTag(target, editedTag);
+        tagIds.replace(target, editedTag);
+        ModelTransaction.recordUndo(() -> setTag(editedTag, oldTag));
     }
 
     /**
@@ -316,7 +513,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code tags} must not contain duplicate tags.
      */
     public void setTags(List<Tag> tags) {
+        resetTags(tags, tagIds.snapshotIds());
+    }
+
+    /**
+     * Replaces the contents of the tag list with {@code tags}, each of which keeps the ID given by
+     * {@code idSource} if it is free.
+     */
+    private void resetTags(List<Tag> tags, ToIntFunction<Tag> idSource) {
+        if (ModelTransaction.isActive()) {
+            List<Tag> oldTags = new ArrayList<>(this.tags.asUnmodifiableObservableList());
+            ToIntFunction<Tag> oldIds = tagIds.snapshotIds();
+            ModelTransaction.recordUndo(() -> resetTags(oldTags, oldIds), oldTags.size());
+        }
         this.tags.setTags(tags);
+        tagIds.reset(tags, idSource);
     }
 
     /**
@@ -324,7 +535,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeTag(Tag key) {
-        tags.remove(key);
+        int id = tagIds.getId(key);
+        Tag removed = findForUndo(tagIds, key);
+        int index = tags.remove(key);
+        tagIds.remove(key);
+        recordRemoval(removed, () -> {
+            tags.add(index, removed);
+            tagIds.add(removed, id);
+        }, this::removeTag);
     }
 
     /**
@@ -335,6 +553,170 @@ public class AddressBook implements ReadOnlyAddressBook {
         return tags.getTag(target);
     }
 
+    //// ID operations
+
+    @Override
+    public int getPersonId(Person person) {
+        requireNonNull(person);
+        return personIds.getId(person);
+    }
+
+    @Override
+    public int getTagId(Tag tag) {
+        requireNonNull(tag);
+        return tagIds.getId(tag);
+    }
+
+    @Override
+    public int getTaskId(Task task) {
+        requireNonNull(task);
+        return taskIds.getId(task);
+    }
+
+    @Override
+    public int getWeddingId(Wedding wedding) {
+        requireNonNull(wedding);
+        return weddingIds.getId(wedding);
+    }
+
+    IdTable<Name, Person> getPersonIds() {
+        return personIds;
+    }
+
+    IdTable<TagName, Tag> getTagIds() {
+        return tagIds;
+    }
+
+    IdTable<String, Task> getTaskIds() {
+        return taskIds;
+    }
+
+    IdTable<WeddingName, Wedding> getWeddingIds() {
+        return weddingIds;
+    }
+
+    /**
+     * Returns the person with the given ID, or null if there is none.
+     */
+    public Person getPersonById(int id) {
+        return personIds.get(id);
+    }
+
+    /**
+     * Returns the tag with the given ID, or null if there is none.
+     */
+    public Tag getTagById(int id) {
+        return tagIds.get(id);
+    }
+
+    /**
+     * Returns the task with the given ID, or null if there is none.
+     */
+    public Task getTaskById(int id) {
+        return taskIds.get(id);
+    }
+
+    /**
+     * Returns the wedding with the given ID, or null if there is none.
+     */
+    public Wedding getWeddingById(int id) {
+        return weddingIds.get(id);
+    }
+
+    //// membership queries
+
+    /**
+     * Returns true if {@code person} matches {@code query}.
+     * Persons in this address book are looked up in the membership index; any others are tested directly.
+     */
+    public boolean matches(MembershipQuery query, Person person) {
+        requireAllNonNull(query, person);
+        MembershipIndex index = getMembershipIndex();
+        int id = personIds.getId(person);
+        // The person list notifies its listeners before the IDs are updated, so the index may not know this person yet
+        if (!index.contains(id, person)) {
+            return query.test(person);
+        }
+        return index.getMatchingIds(query).get(id);
+    }
+
+    /**
+     * Returns the IDs of the persons in this address book that match {@code query}.
+     */
+    public BitSet getMatchingPersonIds(MembershipQuery query) {
+        requireNonNull(query);
+        return (BitSet) getMembershipIndex().getMatchingIds(query).clone();
+    }
+
+    private MembershipIndex getMembershipIndex() {
+        if (membershipIndex == null) {
+            membershipIndex = new MembershipIndex(persons, personIds::getId);
+        }
+        return membershipIndex;
+    }
+
+    /**
+     * Adds {@code person}, which has just been given its ID, to the membership index, if the index is in use.
+     */
+    private void indexPerson(Person person) {
+        if (membershipIndex != null) {
+            membershipIndex.add(person, personIds.getId(person));
+        }
+    }
+
+    /**
+     * Removes the person with the same identity as {@code person}, which is about to lose its ID, from the membership
+     * index, if the index is in use.
+     */
+    private void unindexPerson(Person person) {
+        if (membershipIndex != null) {
+            int id = personIds.getId(person);
+            Person indexedPerson = personIds.get(id);
+            if (indexedPerson != null) {
+                membershipIndex.remove(indexedPerson, id);
+            }
+        }
+    }
+
+    /**
+     * Stops using the membership index, e.g. as the IDs of every person may change. It is built again when next
+     * queried.
+     */
+    private void discardMembershipIndex() {
+        if (membershipIndex != null) {
+            membershipIndex.detach();
+            membershipIndex = null;
+        }
+    }
+
+    private static void checkIdAvailable(IdTable<?, ?> idTable, int id) {
+        if (!idTable.isAvailable(id)) {
+            throw new IllegalArgumentException("ID " + id + " is not available.");
+        }
+    }
+
+    //// transaction helpers
+
+    /**
+     * Returns the entity in {@code idTable} with the same key as {@code key}, so that an open
+     * {@code ModelTransaction} can put the exact instance back later. Returns {@code key} itself if there is none.
+     */
+    private static <V> V findForUndo(IdTable<?, V> idTable, V key) {
+        V found = idTable.get(idTable.getId(key));
+        return found == null ? key : found;
+    }
+
+    /**
+     * Records {@code reinsert} as the way to put {@code removed} back at the position it was just removed from, which
+     * the list reported, so that no search is needed. The reinsertion is itself recorded as undoable by {@code remove}.
+     */
+    private static <T> void recordRemoval(T removed, Runnable reinsert, Consumer<T> remove) {
+        ModelTransaction.recordUndo(() -> {
+            reinsert.run();
+            ModelTransaction.recordUndo(() -> remove.accept(removed));
+        });
+    }
+
     //// util methods
 
     @Override
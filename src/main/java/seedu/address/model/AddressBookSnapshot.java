@@ -0,0 +1,160 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagName;
+import seedu.address.model.task.Task;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingName;
+
+/**
+ * An address book as it was when a transaction was committed, which never changes and so can be read from any
+ * thread without locking.
+ * Its lists hold snapshots of the persons, tags, tasks and weddings of the address book. A list, and every entity
+ * in it, is shared with the previous snapshot if it has not changed since, so only the entities that changed are
+ * copied. Finding them still looks at every entity, and the IDs of a kind of entity are copied again whenever one of
+ * them is added or removed, so taking a snapshot takes time linear in the size of the address book.
+ * The tags and tasks of a person are snapshots too, and its weddings hold only their names (see
+ * {@link Person#getSnapshot()}). The partners and guests of a wedding are the persons of the address book itself,
+ * of which only the names can safely be read. Anything else about them is found by looking them up in this snapshot.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final SnapshotList<Name, Person> persons;
+    private final SnapshotList<TagName, Tag> tags;
+    private final SnapshotList<String, Task> tasks;
+    private final SnapshotList<WeddingName, Wedding> weddings;
+
+    /**
+     * Takes a snapshot of {@code addressBook}, sharing with {@code previous}, if not null, every list and entity
+     * that has not changed since it was taken. Must be called by the thread that changes the address book.
+     */
+    AddressBookSnapshot(AddressBook addressBook, AddressBookSnapshot previous) {
+        requireNonNull(addressBook);
+        persons = SnapshotList.of(addressBook.getPersonList(), addressBook.getPersonIds(), Person::getSnapshot,
+                previous == null ? null : previous.persons);
+        tags = SnapshotList.of(addressBook.getTagList(), addressBook.getTagIds(), Tag::getSnapshot,
+                previous == null ? null : previous.tags);
+        tasks = SnapshotList.of(addressBook.getTaskList(), addressBook.getTaskIds(), Task::getSnapshot,
+                previous == null ? null : previous.tasks);
+        weddings = SnapshotList.of(addressBook.getWeddingList(), addressBook.getWeddingIds(), Wedding::getSnapshot,
+                previous == null ? null : previous.weddings);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons.items;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags.items;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks.items;
+    }
+
+    @Override
+    public ObservableList<Wedding> getWeddingList() {
+        return weddings.items;
+    }
+
+    @Override
+    public int getPersonId(Person person) {
+        requireNonNull(person);
+        return persons.getId(person);
+    }
+
+    @Override
+    public int getTagId(Tag tag) {
+        requireNonNull(tag);
+        return tags.getId(tag);
+    }
+
+    @Override
+    public int getTaskId(Task task) {
+        requireNonNull(task);
+        return tasks.getId(task);
+    }
+
+    @Override
+    public int getWeddingId(Wedding wedding) {
+        requireNonNull(wedding);
+        return weddings.getId(wedding);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons.items)
+                .add("tags", tags.items)
+                .add("tasks", tasks.items)
+                .add("weddings", weddings.items)
+                .toString();
+    }
+
+    /**
+     * The snapshots of the entities of one kind, in the order of the address book, with their IDs.
+     */
+    private static class SnapshotList<K, V> {
+        private final IdTable<K, V> idTable;
+        private final int modificationCount;
+        private final Map<K, Integer> ids;
+        private final ObservableList<V> items;
+
+        private SnapshotList(IdTable<K, V> idTable, Map<K, Integer> ids, List<V> items) {
+            this.idTable = idTable;
+            this.modificationCount = idTable.getModificationCount();
+            this.ids = ids;
+            this.items = FXCollections.unmodifiableObservableList(FXCollections.observableList(items));
+        }
+
+        /**
+         * Returns the snapshots of {@code entities}, made by {@code snapshotFunction}, or {@code previous} itself if
+         * none of them has changed since it was taken.
+         * The IDs are copied again only if an entity has been added or removed since.
+         */
+        static <K, V> SnapshotList<K, V> of(List<V> entities, IdTable<K, V> idTable, UnaryOperator<V> snapshotFunction,
+                SnapshotList<K, V> previous) {
+            boolean isSameIds = previous != null && previous.idTable == idTable
+                    && previous.modificationCount == idTable.getModificationCount();
+            if (isSameIds && isSameItems(entities, snapshotFunction, previous.items)) {
+                return previous;
+            }
+
+            List<V> items = entities.stream().map(snapshotFunction).toList();
+            return new SnapshotList<>(idTable, isSameIds ? previous.ids : idTable.copyIds(), items);
+        }
+
+        /**
+         * Returns true if the snapshots of {@code entities} are exactly {@code items}, in order.
+         */
+        private static <V> boolean isSameItems(List<V> entities, UnaryOperator<V> snapshotFunction, List<V> items) {
+            if (entities.size() != items.size()) {
+                return false;
+            }
+            for (int i = 0; i < entities.size(); i++) {
+                if (snapshotFunction.apply(entities.get(i)) != items.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int getId(V entity) {
+            return ids.getOrDefault(idTable.getKey(entity), NO_ID);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import javafx.collections.transformation.FilteredList;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event for a filtered list of the {@link ModelManager} being recomputed with a new predicate.
+ */
+@Name(FilterEvent.NAME)
+@Label("Filtered List Update")
+@Category({"WedLinker", "Model"})
+@Description("A filtered list recomputed with a new predicate")
+@StackTrace(false)
+class FilterEvent extends Event {
+
+    static final String NAME = "seedu.address.Filter";
+
+    @Label("List")
+    private String list;
+
+    @Label("Entries")
+    @Description("Entries the predicate was tested on")
+    private int sourceSize;
+
+    @Label("Shown")
+    @Description("Entries that match the predicate")
+    private int shownSize;
+
+    /**
+     * Ends the event for {@code filteredList}, named {@code listName}, and commits it if it is being recorded.
+     */
+    void endAndCommit(String listName, FilteredList<?> filteredList) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        list = listName;
+        sourceSize = filteredList.getSource().size();
+        shownSize = filteredList.size();
+        commit();
+    }
+}
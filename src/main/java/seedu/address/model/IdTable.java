@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Assigns dense integer IDs to the entities of one kind in an {@code AddressBook}.
+ * An entity keeps its ID while it stays in the address book, including when it is replaced by an edited copy with
+ * the same key. IDs of removed entities are reused, so IDs stay small enough to index arrays and bit sets.
+ *
+ * @param <K> the type of the key identifying an entity, e.g. its name.
+ * @param <V> the type of the entities.
+ */
+class IdTable<K, V> {
+
+    private final Function<V, K> keyFunction;
+    private final Map<K, Integer> ids = new HashMap<>();
+    private final List<V> entities = new ArrayList<>();
+    private final BitSet usedIds = new BitSet();
+    private int modificationCount;
+
+    /**
+     * Creates an empty table that identifies entities by the key returned by {@code keyFunction}.
+     */
+    IdTable(Function<V, K> keyFunction) {
+        this.keyFunction = requireNonNull(keyFunction);
+    }
+
+    /**
+     * Returns the key identifying {@code entity}.
+     */
+    K getKey(V entity) {
+        return keyFunction.apply(entity);
+    }
+
+    /**
+     * Returns an unmodifiable copy of the IDs in this table, by the keys of their entities.
+     */
+    Map<K, Integer> copyIds() {
+        return Map.copyOf(ids);
+    }
+
+    /**
+     * Returns the IDs in this table as they are now, by the keys of their entities, to reset the table with later.
+     */
+    ToIntFunction<V> snapshotIds() {
+        Map<K, Integer> snapshot = copyIds();
+        return entity -> snapshot.getOrDefault(keyFunction.apply(entity), ReadOnlyAddressBook.NO_ID);
+    }
+
+    /**
+     * Returns the ID of the entity with the same key as {@code entity}, or {@code ReadOnlyAddressBook#NO_ID} if there
+     * is none.
+     */
+    int getId(V entity) {
+        return ids.getOrDefault(keyFunction.apply(entity), ReadOnlyAddressBook.NO_ID);
+    }
+
+    /**
+     * Returns the entity with the given ID, or null if there is none.
+     */
+    V get(int id) {
+        return id >= 0 && id < entities.size() ? entities.get(id) : null;
+    }
+
+    /**
+     * Returns true if {@code id} can be given to a new entity.
+     */
+    boolean isAvailable(int id) {
+        return id >= 0 && !usedIds.get(id);
+    }
+
+    /**
+     * Returns one more than the largest ID in use, i.e. the length an array indexed by ID must have.
+     */
+    int getCapacity() {
+        return usedIds.length();
+    }
+
+    /**
+     * Returns a number that changes whenever an entity is added to or removed from this table.
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Gives {@code entity} the smallest unused ID and returns it.
+     */
+    int add(V entity) {
+        int id = usedIds.nextClearBit(0);
+        add(entity, id);
+        return id;
+    }
+
+    /**
+     * Gives {@code entity} the ID {@code id}.
+     *
+     * @throws IllegalArgumentException if {@code id} is negative or already in use.
+     */
+    void add(V entity, int id) {
+        requireNonNull(entity);
+        if (!isAvailable(id)) {
+            throw new IllegalArgumentException("ID " + id + " is not available.");
+        }
+        ids.put(keyFunction.apply(entity), id);
+        while (entities.size() <= id) {
+            entities.add(null);
+        }
+        entities.set(id, entity);
+        usedIds.set(id);
+        modificationCount++;
+    }
+
+    /**
+     * Frees the ID of the entity with the same key as {@code entity}, if any.
+     */
+    void remove(V entity) {
+        Integer id = ids.remove(keyFunction.apply(entity));
+        if (id != null) {
+            entities.set(id, null);
+            usedIds.clear(id);
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Gives {@code editedEntity} the ID of {@code target}.
+     */
+    void replace(V target, V editedEntity) {
+        int id = getId(target);
+        remove(target);
+        if (id == ReadOnlyAddressBook.NO_ID) {
+            add(editedEntity);
+        } else {
+            add(editedEntity, id);
+        }
+    }
+
+    /**
+     * Replaces the contents of this table with {@code newEntities}.
+     * Each entity keeps the ID given by {@code idSource}, e.g. its ID in the address book it is copied from, unless
+     * that is {@code ReadOnlyAddressBook#NO_ID} or already taken, in which case it is given an unused ID.
+     */
+    void reset(List<? extends V> newEntities, ToIntFunction<? super V> idSource) {
+        ids.clear();
+        entities.clear();
+        usedIds.clear();
+        modificationCount++;
+
+        List<V> newlyAdded = new ArrayList<>();
+        for (V entity : newEntities) {
+            int id = idSource.applyAsInt(entity);
+            if (id != ReadOnlyAddressBook.NO_ID && isAvailable(id)) {
+                add(entity, id);
+            } else {
+                newlyAdded.add(entity);
+            }
+        }
+        newlyAdded.forEach(this::add);
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.person.MembershipObserver;
+import seedu.address.model.person.MembershipQuery;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Which persons of an {@code AddressBook} are in each tag and wedding, as bit sets over person IDs.
+ * A {@code MembershipQuery} is answered with word-parallel AND, OR and AND NOT over these bit sets instead of
+ * looking at the tags and weddings of every person.
+ * The index is kept up to date one person at a time: the address book adds and removes persons as it does, and each
+ * indexed person tells the index before its tags or weddings change. The bits of a changed person are cleared at once
+ * and set again from its new tags and weddings by the next query.
+ */
+class MembershipIndex implements MembershipObserver {
+
+    private final ToIntFunction<Person> idFunction;
+
+    private final List<Person> personsById = new ArrayList<>();
+    private final BitSet allPersons = new BitSet();
+    private final BitSet vendors = new BitSet();
+    private final Map<Tag, BitSet> tagMembers = new HashMap<>();
+    private final Map<Wedding, BitSet> weddingMembers = new HashMap<>();
+    /** IDs of the persons whose tags and weddings have changed since they were last indexed. */
+    private final BitSet changedIds = new BitSet();
+
+    private MembershipQuery lastQuery;
+    private BitSet lastResult;
+
+    /**
+     * Indexes {@code persons}, whose IDs are given by {@code idFunction}, and observes them until they are removed or
+     * the index is {@link #detach() detached}.
+     */
+    MembershipIndex(Iterable<Person> persons, ToIntFunction<Person> idFunction) {
+        this.idFunction = idFunction;
+        for (Person person : persons) {
+            add(person, idFunction.applyAsInt(person));
+        }
+    }
+
+    /**
+     * Indexes {@code person} with the ID {@code id}, and observes it until it is removed.
+     */
+    void add(Person person, int id) {
+        if (id == ReadOnlyAddressBook.NO_ID || contains(id, person)) {
+            return;
+        }
+        if (id < personsById.size() && personsById.get(id) != null) {
+            remove(personsById.get(id), id);
+        }
+        while (personsById.size() <= id) {
+            personsById.add(null);
+        }
+        personsById.set(id, person);
+        allPersons.set(id);
+        if (person.isVendor()) {
+            vendors.set(id);
+        }
+        setMemberships(person, id);
+        person.addMembershipObserver(this);
+        lastQuery = null;
+    }
+
+    /**
+     * Removes {@code person}, which has the ID {@code id}, from the index, if it is indexed.
+     */
+    void remove(Person person, int id) {
+        if (!contains(id, person)) {
+            return;
+        }
+        if (!changedIds.get(id)) {
+            clearMemberships(person, id);
+        }
+        changedIds.clear(id);
+        personsById.set(id, null);
+        allPersons.clear(id);
+        vendors.clear(id);
+        person.removeMembershipObserver(this);
+        lastQuery = null;
+    }
+
+    /**
+     * Stops observing every indexed person, as the index is no longer used.
+     */
+    void detach() {
+        for (Person person : personsById) {
+            if (person != null) {
+                person.removeMembershipObserver(this);
+            }
+        }
+    }
+
+    @Override
+    public void membershipChanging(Person person) {
+        int id = idFunction.applyAsInt(person);
+        if (!contains(id, person) || changedIds.get(id)) {
+            return;
+        }
+        clearMemberships(person, id);
+        changedIds.set(id);
+        lastQuery = null;
+    }
+
+    /**
+     * Returns true if {@code person} itself is indexed as the person with ID {@code id}.
+     */
+    boolean contains(int id, Person person) {
+        return id >= 0 && id < personsById.size() && personsById.get(id) == person;
+    }
+
+    /**
+     * Returns the IDs of the persons matching {@code query}. The result must not be modified.
+     * The result of the last query is kept until a person changes, as a filtered list tests each person against the
+     * same query in turn.
+     */
+    BitSet getMatchingIds(MembershipQuery query) {
+        if (!changedIds.isEmpty()) {
+            for (int id = changedIds.nextSetBit(0); id >= 0; id = changedIds.nextSetBit(id + 1)) {
+                setMemberships(personsById.get(id), id);
+            }
+            changedIds.clear();
+        }
+        if (!query.equals(lastQuery)) {
+            lastResult = evaluate(query);
+            lastQuery = query;
+        }
+        return lastResult;
+    }
+
+    private void setMemberships(Person person, int id) {
+        for (Tag tag : person.getTags()) {
+            tagMembers.computeIfAbsent(tag, unused -> new BitSet()).set(id);
+        }
+        for (Wedding wedding : person.getWeddings()) {
+            weddingMembers.computeIfAbsent(wedding, unused -> new BitSet()).set(id);
+        }
+    }
+
+    private void clearMemberships(Person person, int id) {
+        for (Tag tag : person.getTags()) {
+            clearMember(tagMembers, tag, id);
+        }
+        for (Wedding wedding : person.getWeddings()) {
+            clearMember(weddingMembers, wedding, id);
+        }
+    }
+
+    /**
+     * Removes {@code id} from the members of {@code key}, and the group itself once it has no members left.
+     */
+    private static <T> void clearMember(Map<T, BitSet> members, T key, int id) {
+        BitSet memberIds = members.get(key);
+        if (memberIds != null) {
+            memberIds.clear(id);
+            if (memberIds.isEmpty()) {
+                members.remove(key);
+            }
+        }
+    }
+
+    private BitSet evaluate(MembershipQuery query) {
+        BitSet result = (BitSet) allPersons.clone();
+        query.getIncludedTags().ifPresent(predicate -> result.and(union(tagMembers, predicate)));
+        query.getExcludedTags().ifPresent(predicate -> result.andNot(union(tagMembers, predicate)));
+        query.getIncludedWeddings().ifPresent(predicate -> result.and(union(weddingMembers, predicate)));
+        query.getExcludedWeddings().ifPresent(predicate -> result.andNot(union(weddingMembers, predicate)));
+        query.getIsVendor().ifPresent(isVendor -> {
+            if (isVendor) {
+                result.and(vendors);
+            } else {
+                result.andNot(vendors);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns the persons in any of the groups whose key is accepted by {@code predicate}.
+     */
+    private static <T> BitSet union(Map<T, BitSet> members, Predicate<? super T> predicate) {
+        BitSet union = new BitSet();
+        members.forEach((key, memberIds) -> {
+            if (predicate.test(key)) {
+                union.or(memberIds);
+            }
+        });
+        return union;
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.MembershipQuery;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
@@ -50,6 +52,46 @@ public interface Model {
      */
     void setAddressBookFilePath(Path addressBookFilePath);
 
+    /**
+     * Starts recording changes to the model so that they can be kept or reverted together.
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Keeps all changes made to the model since {@link #beginTransaction()}.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Reverts all changes made to the model since {@link #beginTransaction()}.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if there is a change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the most recent change to the address book.
+     * {@link #canUndoAddressBook()} must be true.
+     */
+    void undoAddressBook();
+
+    /**
+     * Reapplies the most recently undone change to the address book.
+     * {@link #canRedoAddressBook()} must be true.
+     */
+    void redoAddressBook();
+
     /**
      * Replaces address book data with the data in {@code addressBook}.
      */
@@ -58,6 +100,13 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the address book as it was when the last transaction was committed.
+     * The snapshot never changes, so it can be read from any thread, e.g. by a background job, while the model
+     * goes on changing. Only the thread that changes the model may call the other methods of the model.
+     */
+    ReadOnlyAddressBook getSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -75,6 +124,14 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons as a single change to the person list.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicates.
+     * Unlike {@link #addPerson(Person)}, this leaves the filtered person list as it is, so that a caller adding
+     * persons in batches can show them all once it is done.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Gets the model's version of the {@code Person}
      */
@@ -103,6 +160,13 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, as a
+     * single change to the person list.
+     * Each target must be a person in the address book, such as one from the filtered person list.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
     void setTag(Tag target, Tag editedTag);
 
     /** Returns an unmodifiable view of the filtered person list */
@@ -126,6 +190,12 @@ public interface Model {
      */
     void updateFilteredPersonListByWedding(Predicate<Wedding> weddingPredicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given tag and wedding membership {@code query}.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonListByMembership(MembershipQuery query);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code taskPredicate}.
      * @throws NullPointerException if {@code taskPredicate} is null.
@@ -0,0 +1,138 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A bounded history of committed {@code ModelTransaction}s that can be undone and redone.
+ * Each entry only holds the inverse of the changes made by one command, so its cost is proportional to what the
+ * command changed. The oldest entries are discarded once the history holds more than {@code maxDepth} entries
+ * or more than {@code maxBytes} estimated bytes, except that the entry just recorded is kept even if it alone is
+ * over {@code maxBytes}, so that a large command can still be undone.
+ */
+class ModelHistory {
+
+    private static final Logger logger = LogsCenter.getLogger(ModelHistory.class);
+
+    private final Deque<ModelTransaction> undoStack = new ArrayDeque<>();
+    private final Deque<ModelTransaction> redoStack = new ArrayDeque<>();
+    private int maxDepth;
+    private long maxBytes;
+    private long estimatedBytes;
+
+    /**
+     * Creates an empty history holding at most {@code maxDepth} entries using at most {@code maxBytes} bytes.
+     */
+    ModelHistory(int maxDepth, long maxBytes) {
+        setLimits(maxDepth, maxBytes);
+    }
+
+    /**
+     * Changes the limits of this history, discarding the oldest entries that no longer fit.
+     */
+    void setLimits(int maxDepth, long maxBytes) {
+        if (maxDepth < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("History limits must not be negative.");
+        }
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+        trim(null);
+    }
+
+    /**
+     * Records {@code transaction} as the most recent change. Changes that were undone can no longer be redone.
+     */
+    void push(ModelTransaction transaction) {
+        requireNonNull(transaction);
+        while (!redoStack.isEmpty()) {
+            estimatedBytes -= redoStack.pop().getEstimatedBytes();
+        }
+        pushUndo(transaction);
+    }
+
+    /**
+     * Records {@code transaction} as the most recent change, keeping the changes that can be redone.
+     */
+    void pushUndo(ModelTransaction transaction) {
+        requireNonNull(transaction);
+        undoStack.push(transaction);
+        estimatedBytes += transaction.getEstimatedBytes();
+        trim(transaction);
+    }
+
+    /**
+     * Records {@code transaction} as the most recently undone change.
+     */
+    void pushRedo(ModelTransaction transaction) {
+        requireNonNull(transaction);
+        redoStack.push(transaction);
+        estimatedBytes += transaction.getEstimatedBytes();
+        trim(transaction);
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Removes and returns the most recent change.
+     */
+    ModelTransaction popUndo() {
+        ModelTransaction transaction = undoStack.pop();
+        estimatedBytes -= transaction.getEstimatedBytes();
+        return transaction;
+    }
+
+    /**
+     * Removes and returns the most recently undone change.
+     */
+    ModelTransaction popRedo() {
+        ModelTransaction transaction = redoStack.pop();
+        estimatedBytes -= transaction.getEstimatedBytes();
+        return transaction;
+    }
+
+    int getUndoDepth() {
+        return undoStack.size();
+    }
+
+    int getRedoDepth() {
+        return redoStack.size();
+    }
+
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Discards the oldest entries until the history is within its limits.
+     * Undoable changes are older than redoable ones, so they are discarded first.
+     * {@code newest}, the entry just recorded, if any, is only discarded to keep within {@code maxDepth}.
+     */
+    private void trim(ModelTransaction newest) {
+        while (undoStack.size() + redoStack.size() > maxDepth || estimatedBytes > maxBytes) {
+            Deque<ModelTransaction> oldest = undoStack.isEmpty() ? redoStack : undoStack;
+            if (oldest.peekLast() == newest && undoStack.size() + redoStack.size() <= maxDepth) {
+                oldest = oldest == undoStack ? redoStack : undoStack;
+                if (oldest.isEmpty()) {
+                    logger.warning(() -> "Keeping a change of about " + newest.getEstimatedBytes()
+                            + " bytes in the undo history, over its limit of " + maxBytes + " bytes");
+                    return;
+                }
+            }
+            Iterator<ModelTransaction> iterator = oldest.descendingIterator();
+            estimatedBytes -= iterator.next().getEstimatedBytes();
+            iterator.remove();
+        }
+    }
+}
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +14,7 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.MembershipQuery;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
@@ -19,6 +22,8 @@ import seedu.address.model.wedding.Wedding;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The model is changed by one thread at a time, the writer, which publishes a snapshot of the address book each time
+ * it commits a transaction. Other threads read the latest snapshot without locking, see {@link #getSnapshot()}.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -31,13 +36,22 @@ public class ModelManager implements Model {
 
     private final FilteredList<Task> filteredTasks;
 
+    private final ModelHistory history;
+    private ModelTransaction transaction;
+    private HistoryStep pendingStep;
+    private ModelTransaction pendingStepEntry;
+    private final AtomicReference<AddressBookSnapshot> snapshot = new AtomicReference<>();
+
+    /** A move through the undo history made by the open transaction. */
+    private enum HistoryStep { UNDO, REDO }
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
@@ -45,6 +59,8 @@ public class ModelManager implements Model {
         filteredTags = new FilteredList<>(this.addressBook.getTagList());
         filteredWeddings = new FilteredList<>(this.addressBook.getWeddingList());
         filteredTasks = new FilteredList<>(this.addressBook.getTaskList());
+        history = new ModelHistory(this.userPrefs.getUndoHistoryDepth(), this.userPrefs.getUndoHistoryMaxBytes());
+        publishSnapshot();
     }
 
     public ModelManager() {
@@ -57,6 +73,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        history.setLimits(this.userPrefs.getUndoHistoryDepth(), this.userPrefs.getUndoHistoryMaxBytes());
     }
 
     @Override
@@ -86,11 +103,137 @@ public class ModelManager implements Model {
         userPrefs.setAddressBookFilePath(addressBookFilePath);
     }
 
+    //=========== Transactions ===============================================================================
+
+    @Override
+    public void beginTransaction() {
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction is already in progress.");
+        }
+        transaction = ModelTransaction.begin();
+    }
+
+    @Override
+    public void commitTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction in progress.");
+        }
+        transaction.commit();
+        if (transaction.hasChanges()) {
+            if (pendingStep == HistoryStep.UNDO) {
+                history.pushRedo(transaction);
+            } else if (pendingStep == HistoryStep.REDO) {
+                history.pushUndo(transaction);
+            } else {
+                history.push(transaction);
+            }
+        }
+        clearTransaction();
+        publishSnapshot();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction in progress.");
+        }
+        logger.fine(() -> "Rolling back " + transaction.size() + " change(s)");
+        transaction.rollback();
+        if (pendingStep == HistoryStep.UNDO) {
+            history.pushUndo(pendingStepEntry);
+        } else if (pendingStep == HistoryStep.REDO) {
+            history.pushRedo(pendingStepEntry);
+        }
+        clearTransaction();
+    }
+
+    /**
+     * Publishes a snapshot of the address book as it is now, sharing the entities that have not changed with the last
+     * one.
+     */
+    private void publishSnapshot() {
+        snapshot.set(new AddressBookSnapshot(addressBook, snapshot.get()));
+    }
+
+    private void clearTransaction() {
+        transaction = null;
+        pendingStep = null;
+        pendingStepEntry = null;
+    }
+
+    /**
+     * Sets {@code predicate} on {@code filteredList}, named {@code listName} in the {@code FilterEvent} it emits,
+     * recording the previous predicate in the open transaction.
+     */
+    private static <T> void setPredicate(FilteredList<T> filteredList, String listName,
+            Predicate<? super T> predicate) {
+        Predicate<? super T> oldPredicate = filteredList.getPredicate();
+        FilterEvent event = new FilterEvent();
+        event.begin();
+        filteredList.setPredicate(predicate);
+        event.endAndCommit(listName, filteredList);
+        ModelTransaction.recordViewUndo(() -> filteredList.setPredicate(oldPredicate));
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        stepHistory(HistoryStep.UNDO);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        stepHistory(HistoryStep.REDO);
+    }
+
+    /**
+     * Reverts the most recent entry on the undo or redo side of the history.
+     * The reverting changes are recorded in the open transaction, or in a new one if none is open, and become the
+     * entry on the opposite side of the history once that transaction is committed.
+     */
+    private void stepHistory(HistoryStep step) {
+        if (pendingStep != null) {
+            throw new IllegalStateException("Only one undo or redo can be made per transaction.");
+        }
+        boolean isOwnTransaction = transaction == null;
+        if (isOwnTransaction) {
+            beginTransaction();
+        }
+        pendingStep = step;
+        pendingStepEntry = step == HistoryStep.UNDO ? history.popUndo() : history.popRedo();
+        logger.fine(() -> step + " of " + pendingStepEntry.size() + " change(s)");
+        try {
+            pendingStepEntry.revert();
+        } catch (RuntimeException e) {
+            if (isOwnTransaction) {
+                rollbackTransaction();
+            }
+            throw e;
+        }
+        if (isOwnTransaction) {
+            commitTransaction();
+        }
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        if (transaction == null) {
+            publishSnapshot();
+        }
     }
 
     @Override
@@ -98,6 +241,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getSnapshot() {
+        return snapshot.get();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -115,12 +263,24 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        addressBook.setPersons(targets, editedPersons);
+    }
+
     @Override
     public Person getPerson(Person person) {
         requireNonNull(person);
@@ -272,13 +432,13 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setPredicate(filteredPersons, "persons", predicate);
     }
 
     @Override
     public void updateFilteredPersonListByTag(Predicate<Tag> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(person -> person.getTags().stream().anyMatch(predicate));
+        updateFilteredPersonListByMembership(MembershipQuery.withTag(predicate));
     }
 
     @Override
@@ -289,7 +449,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredTagList(Predicate<Tag> predicate) {
         requireNonNull(predicate);
-        filteredTags.setPredicate(predicate);
+        setPredicate(filteredTags, "tags", predicate);
     }
 
     @Override
@@ -300,13 +460,13 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
-        filteredTasks.setPredicate(predicate);
+        setPredicate(filteredTasks, "tasks", predicate);
     }
 
     @Override
     public void updateFilteredPersonListByTask(Predicate<Task> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(person -> person.getTasks().stream().anyMatch(predicate));
+        setPredicate(filteredPersons, "persons", person -> person.getTasks().stream().anyMatch(predicate));
     }
 
     @Override
@@ -317,13 +477,19 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredWeddingList(Predicate<Wedding> predicate) {
         requireNonNull(predicate);
-        filteredWeddings.setPredicate(predicate);
+        setPredicate(filteredWeddings, "weddings", predicate);
     }
 
     @Override
     public void updateFilteredPersonListByWedding(Predicate<Wedding> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(person -> person.getWeddings().stream().anyMatch(predicate));
+        updateFilteredPersonListByMembership(MembershipQuery.inWedding(predicate));
+    }
+
+    @Override
+    public void updateFilteredPersonListByMembership(MembershipQuery query) {
+        requireNonNull(query);
+        setPredicate(filteredPersons, "persons", person -> addressBook.matches(query, person));
     }
 
     @Override
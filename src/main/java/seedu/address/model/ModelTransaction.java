@@ -0,0 +1,191 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Records how to revert every change made to the model while a command is executing, so that a failed command
+ * can be rolled back, or a successful one undone, without copying the address book.
+ * List-level changes are recorded by {@code AddressBook} and {@code ModelManager}. Entities that are mutated in place
+ * (e.g. {@code Tag#increaseTaggedCount()}) capture their own state the first time they are touched, so the cost of a
+ * transaction is proportional to what the command changed rather than to the size of the address book.
+ */
+public class ModelTransaction {
+
+    /** Rough heap cost of one recorded change: the undo action, its captured references and the deque slot. */
+    private static final long ESTIMATED_BYTES_PER_CHANGE = 64;
+
+    /** Rough heap cost of one element copied into a recorded change. */
+    private static final long ESTIMATED_BYTES_PER_COPIED_ELEMENT = 16;
+
+    /** The transaction open on the current thread, if any. */
+    private static final ThreadLocal<ModelTransaction> active = new ThreadLocal<>();
+
+    private final Deque<Runnable> undoActions = new ArrayDeque<>();
+    private final Deque<Runnable> viewUndoActions = new ArrayDeque<>();
+    private final Set<Object> capturedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long estimatedBytes;
+
+    private ModelTransaction() {}
+
+    /**
+     * Opens a new transaction on the current thread.
+     *
+     * @throws IllegalStateException if a transaction is already open on the current thread.
+     */
+    static ModelTransaction begin() {
+        if (active.get() != null) {
+            throw new IllegalStateException("A transaction is already in progress.");
+        }
+        ModelTransaction transaction = new ModelTransaction();
+        active.set(transaction);
+        return transaction;
+    }
+
+    /**
+     * Returns true if a transaction is open on the current thread.
+     */
+    public static boolean isActive() {
+        return active.get() != null;
+    }
+
+    /**
+     * Returns true if a transaction is open on the current thread and {@code entity} has not been captured by it.
+     * Entities with expensive state can use this to avoid copying their state when it would be discarded.
+     */
+    public static boolean needsCapture(Object entity) {
+        ModelTransaction transaction = active.get();
+        return transaction != null && !transaction.capturedEntities.contains(entity);
+    }
+
+    /**
+     * Records {@code undoAction} as the inverse of a change to the address book that was just made.
+     * Does nothing if no transaction is open.
+     */
+    public static void recordUndo(Runnable undoAction) {
+        recordUndo(undoAction, 0);
+    }
+
+    /**
+     * Records {@code undoAction} as the inverse of a change to the address book that was just made,
+     * where {@code undoAction} holds a copy of {@code copiedElements} elements.
+     * Does nothing if no transaction is open.
+     */
+    public static void recordUndo(Runnable undoAction, int copiedElements) {
+        requireNonNull(undoAction);
+        ModelTransaction transaction = active.get();
+        if (transaction != null) {
+            transaction.push(undoAction, copiedElements);
+        }
+    }
+
+    /**
+     * Records {@code undoAction} as the inverse of a change to what is displayed, e.g. a filtered list predicate.
+     * Such changes are reverted on rollback but are not kept once the transaction is committed.
+     * Does nothing if no transaction is open.
+     */
+    public static void recordViewUndo(Runnable undoAction) {
+        requireNonNull(undoAction);
+        ModelTransaction transaction = active.get();
+        if (transaction != null) {
+            transaction.viewUndoActions.push(undoAction);
+        }
+    }
+
+    /**
+     * Records {@code restoreAction} as the way to restore {@code entity} to its state before the transaction.
+     * Only the first capture of each entity is kept, as later captures would restore an intermediate state.
+     * Does nothing if no transaction is open.
+     */
+    public static void capture(Object entity, Runnable restoreAction) {
+        capture(entity, restoreAction, 0);
+    }
+
+    /**
+     * Records {@code restoreAction}, which holds a copy of {@code copiedElements} elements, as the way to restore
+     * {@code entity} to its state before the transaction.
+     *
+     * @see #capture(Object, Runnable)
+     */
+    public static void capture(Object entity, Runnable restoreAction, int copiedElements) {
+        requireNonNull(entity);
+        requireNonNull(restoreAction);
+        ModelTransaction transaction = active.get();
+        if (transaction != null && transaction.capturedEntities.add(entity)) {
+            transaction.push(restoreAction, copiedElements);
+        }
+    }
+
+    private void push(Runnable undoAction, int copiedElements) {
+        undoActions.push(undoAction);
+        estimatedBytes += ESTIMATED_BYTES_PER_CHANGE + copiedElements * ESTIMATED_BYTES_PER_COPIED_ELEMENT;
+    }
+
+    /**
+     * Returns the number of changes to the address book recorded so far.
+     */
+    public int size() {
+        return undoActions.size();
+    }
+
+    /**
+     * Returns true if this transaction recorded any change to the address book.
+     */
+    public boolean hasChanges() {
+        return !undoActions.isEmpty();
+    }
+
+    /**
+     * Returns an estimate of the heap used by the recorded changes, in bytes.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Keeps all changes made during this transaction and closes it.
+     * The changes to the address book stay recorded so that they can later be {@link #revert() reverted}.
+     */
+    void commit() {
+        close();
+        viewUndoActions.clear();
+        capturedEntities.clear();
+    }
+
+    /**
+     * Reverts all changes made during this transaction, most recent first, and closes it.
+     */
+    void rollback() {
+        // Close first so that the undo actions themselves are not recorded
+        close();
+        revert();
+        while (!viewUndoActions.isEmpty()) {
+            viewUndoActions.pop().run();
+        }
+        undoActions.clear();
+        capturedEntities.clear();
+    }
+
+    /**
+     * Reverts the changes to the address book recorded by this transaction, most recent first.
+     * If another transaction is open on the current thread, it records the reverting changes, so that they can in
+     * turn be reverted. The recorded changes are kept, so this transaction can be reverted again if that fails.
+     */
+    void revert() {
+        // undoActions is used as a stack, so iteration runs from the most recent change
+        for (Runnable undoAction : undoActions) {
+            undoAction.run();
+        }
+    }
+
+    private void close() {
+        if (active.get() == this) {
+            active.remove();
+        }
+    }
+}
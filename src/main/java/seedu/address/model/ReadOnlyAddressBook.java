@@ -11,6 +11,9 @@ import seedu.address.model.wedding.Wedding;
  */
 public interface ReadOnlyAddressBook {
 
+    /** The ID returned for an entity that is not in the address book. */
+    int NO_ID = -1;
+
     /**
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
@@ -35,4 +38,24 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Wedding> getWeddingList();
 
+    /**
+     * Returns the ID of the person with the same identity as {@code person}, or {@link #NO_ID} if there is none.
+     */
+    int getPersonId(Person person);
+
+    /**
+     * Returns the ID of the tag with the same name as {@code tag}, or {@link #NO_ID} if there is none.
+     */
+    int getTagId(Tag tag);
+
+    /**
+     * Returns the ID of the task with the same description as {@code task}, or {@link #NO_ID} if there is none.
+     */
+    int getTaskId(Task task);
+
+    /**
+     * Returns the ID of the wedding with the same name as {@code wedding}, or {@link #NO_ID} if there is none.
+     */
+    int getWeddingId(Wedding wedding);
+
 }
@@ -15,6 +15,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int undoHistoryDepth = 50;
+    private long undoHistoryMaxBytes = 4 * 1024 * 1024;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryMaxBytes(newUserPrefs.getUndoHistoryMaxBytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +60,34 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the maximum number of commands that can be undone.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        if (undoHistoryDepth < 0) {
+            throw new IllegalArgumentException("Undo history depth must not be negative.");
+        }
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    /**
+     * Sets the estimated memory, in bytes, that the undo history may use.
+     */
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        if (undoHistoryMaxBytes < 0) {
+            throw new IllegalArgumentException("Undo history memory limit must not be negative.");
+        }
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +101,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoHistoryMaxBytes == otherUserPrefs.undoHistoryMaxBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryDepth, undoHistoryMaxBytes);
     }
 
     @Override
@@ -82,6 +116,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nUndo history memory limit : " + undoHistoryMaxBytes + " bytes");
         return sb.toString();
     }
 
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+/**
+ * Is told when the tags or weddings of a {@code Person} are about to change, so that an index over them can be kept
+ * up to date without looking at every person again.
+ *
+ * @see Person#addMembershipObserver(MembershipObserver)
+ */
+public interface MembershipObserver {
+
+    /**
+     * Called just before the tags, weddings or tasks of {@code person} change, by the thread that changes them.
+     * The person still has its old tags and weddings when this is called.
+     */
+    void membershipChanging(Person person);
+}
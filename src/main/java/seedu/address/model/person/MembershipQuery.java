@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Tests that a {@code Person} has a tag and is in a wedding matching the given predicates, has no tag and is in no
+ * wedding matching the excluding predicates, and is or is not a vendor.
+ * Every part of the query is optional, and a query with no parts matches every person.
+ * An {@code AddressBook} can answer these queries with set operations over the persons in each tag and wedding.
+ */
+public class MembershipQuery implements Predicate<Person> {
+
+    private final Predicate<? super Tag> includedTags;
+    private final Predicate<? super Tag> excludedTags;
+    private final Predicate<? super Wedding> includedWeddings;
+    private final Predicate<? super Wedding> excludedWeddings;
+    private final Boolean isVendor;
+
+    /**
+     * Creates a query from the given parts, any of which may be null to leave that part out.
+     *
+     * @param includedTags matches persons with at least one tag accepted by it.
+     * @param excludedTags matches persons with no tag accepted by it.
+     * @param includedWeddings matches persons in at least one wedding accepted by it.
+     * @param excludedWeddings matches persons in no wedding accepted by it.
+     * @param isVendor matches persons who are vendors if true, or who are not vendors if false.
+     */
+    public MembershipQuery(Predicate<? super Tag> includedTags, Predicate<? super Tag> excludedTags,
+            Predicate<? super Wedding> includedWeddings, Predicate<? super Wedding> excludedWeddings,
+            Boolean isVendor) {
+        this.includedTags = includedTags;
+        this.excludedTags = excludedTags;
+        this.includedWeddings = includedWeddings;
+        this.excludedWeddings = excludedWeddings;
+        this.isVendor = isVendor;
+    }
+
+    /**
+     * Returns a query matching persons with at least one tag accepted by {@code tagPredicate}.
+     */
+    public static MembershipQuery withTag(Predicate<? super Tag> tagPredicate) {
+        return new MembershipQuery(tagPredicate, null, null, null, null);
+    }
+
+    /**
+     * Returns a query matching persons in at least one wedding accepted by {@code weddingPredicate}.
+     */
+    public static MembershipQuery inWedding(Predicate<? super Wedding> weddingPredicate) {
+        return new MembershipQuery(null, null, weddingPredicate, null, null);
+    }
+
+    public Optional<Predicate<? super Tag>> getIncludedTags() {
+        return Optional.ofNullable(includedTags);
+    }
+
+    public Optional<Predicate<? super Tag>> getExcludedTags() {
+        return Optional.ofNullable(excludedTags);
+    }
+
+    public Optional<Predicate<? super Wedding>> getIncludedWeddings() {
+        return Optional.ofNullable(includedWeddings);
+    }
+
+    public Optional<Predicate<? super Wedding>> getExcludedWeddings() {
+        return Optional.ofNullable(excludedWeddings);
+    }
+
+    public Optional<Boolean> getIsVendor() {
+        return Optional.ofNullable(isVendor);
+    }
+
+    /**
+     * Tests {@code person} against this query by looking at its tags and weddings directly.
+     */
+    @Override
+    public boolean test(Person person) {
+        return (includedTags == null || person.getTags().stream().anyMatch(includedTags))
+                && (excludedTags == null || person.getTags().stream().noneMatch(excludedTags))
+                && (includedWeddings == null || person.getWeddings().stream().anyMatch(includedWeddings))
+                && (excludedWeddings == null || person.getWeddings().stream().noneMatch(excludedWeddings))
+                && (isVendor == null || person.isVendor() == isVendor);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MembershipQuery otherQuery)) {
+            return false;
+        }
+
+        return Objects.equals(includedTags, otherQuery.includedTags)
+                && Objects.equals(excludedTags, otherQuery.excludedTags)
+                && Objects.equals(includedWeddings, otherQuery.includedWeddings)
+                && Objects.equals(excludedWeddings, otherQuery.excludedWeddings)
+                && Objects.equals(isVendor, otherQuery.isVendor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("includedTags", includedTags)
+                .add("excludedTags", excludedTags)
+                .add("includedWeddings", includedWeddings)
+                .add("excludedWeddings", excludedWeddings)
+                .add("isVendor", isVendor)
+                .toString();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} '/.-]*";
 
     public final String fullName;
+    private final String foldedFullName;
 
     /**
      * Constructs a {@code Name}.
@@ -30,6 +33,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        foldedFullName = StringUtil.toCaseInsensitiveKey(name);
     }
 
     /**
@@ -57,12 +61,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return foldedFullName.equals(otherName.foldedFullName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return foldedFullName.hashCode();
     }
 
 }
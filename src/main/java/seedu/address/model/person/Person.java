@@ -3,15 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.ModelTransaction;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskSummary;
 import seedu.address.model.wedding.Wedding;
 
 /**
@@ -27,6 +33,7 @@ public class Person {
             new HashSet<>(),
             new HashSet<>(),
             new HashSet<>());
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -34,9 +41,18 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Task> tasks = new HashSet<>();
-    private final Set<Wedding> weddings = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Task> tasks;
+    private final Set<Wedding> weddings;
+
+    /** A copy of this person that never changes, or null if this person has changed since it was made. */
+    private Person snapshot;
+
+    /** The summary of the tasks of this person, or null if it has not been counted since they last changed. */
+    private TaskSummary taskSummary;
+
+    /** The observers told before the tags, weddings or tasks of this person change, or null if there are none. */
+    private List<MembershipObserver> membershipObservers;
 
     /**
      * Every field must be present and not null.
@@ -48,9 +64,9 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.weddings.addAll(weddings);
-        this.tasks.addAll(tasks);
+        this.tags = new HashSet<>(tags);
+        this.weddings = new HashSet<>(weddings);
+        this.tasks = new HashSet<>(tasks);
     }
 
     /**
@@ -61,9 +77,25 @@ public class Person {
         this.phone = person.getPhone();
         this.email = person.getEmail();
         this.address = person.getAddress();
-        this.tags.addAll(person.getTags());
-        this.weddings.addAll(person.getWeddings());
-        this.tasks.addAll(person.getTasks());
+        this.tags = new HashSet<>(person.getTags());
+        this.weddings = new HashSet<>(person.getWeddings());
+        this.tasks = new HashSet<>(person.getTasks());
+    }
+
+    /**
+     * Creates a snapshot of {@code person} that holds {@code tagSnapshots}, {@code weddingSnapshots} and
+     * {@code taskSnapshots} themselves, which must never change.
+     */
+    Person(Person person, Set<Tag> tagSnapshots, Set<Wedding> weddingSnapshots, Set<Task> taskSnapshots) {
+        this.name = person.getName();
+        this.phone = person.getPhone();
+        this.email = person.getEmail();
+        this.address = person.getAddress();
+        this.tags = tagSnapshots;
+        this.weddings = weddingSnapshots;
+        this.tasks = taskSnapshots;
+        this.taskSummary = person.getTaskSummary();
+        this.snapshot = this;
     }
 
     /**
@@ -110,6 +142,7 @@ public class Person {
      */
     public void addTag(Tag tag) {
         requireNonNull(tag);
+        captureState();
         this.tags.add(tag);
     }
 
@@ -119,6 +152,7 @@ public class Person {
      */
     public void setTag(Tag oldTag, Tag newTag) {
         assert tags.contains(oldTag);
+        captureState();
         tags.remove(oldTag);
         tags.add(newTag);
     }
@@ -130,12 +164,8 @@ public class Person {
      * @return true if the specified tag is assigned to this person, false otherwise.
      */
     public boolean hasTag(Tag tag) {
-        for (Tag eachTag : tags) {
-            if (eachTag.isSameTag(tag)) {
-                return true;
-            }
-        }
-        return false;
+        // Tag#equals is the same as Tag#isSameTag, so the set can be used as an index
+        return tags.contains(tag);
     }
 
     /**
@@ -158,10 +188,24 @@ public class Person {
         return Collections.unmodifiableSet(tasks);
     }
 
+    /**
+     * Returns the numbers of done, pending and overdue tasks of this person.
+     * The tasks are counted once and the counts reused until the tasks of this person change. A task that is marked
+     * or unmarked is given to its persons again (see {@code TaskStatusModifier}), which makes new persons, so the
+     * counts of a person always match the status of its tasks.
+     */
+    public TaskSummary getTaskSummary() {
+        if (taskSummary == null) {
+            taskSummary = TaskSummary.of(tasks);
+        }
+        return taskSummary;
+    }
+
     /**
      * Replaces the original set of tags with a new specified one.
      */
     public void setTags(Set<Tag> newTag) {
+        captureState();
         tags.clear();
         tags.addAll(newTag);
     }
@@ -177,6 +221,7 @@ public class Person {
      * Removes all tasks from the Person's task list
      */
     public void clearTasks() {
+        captureState();
         this.tasks.clear();
     }
 
@@ -201,6 +246,7 @@ public class Person {
      * @param task The task to remove.
      */
     public void removeTask(Task task) {
+        captureState();
         tasks.remove(task);
     }
 
@@ -216,6 +262,7 @@ public class Person {
      * Replaces the original set of weddings with a new specified one.
      */
     public void setWeddings(Set<Wedding> newWedding) {
+        captureState();
         weddings.clear();
         weddings.addAll(newWedding);
     }
@@ -226,6 +273,7 @@ public class Person {
      */
     public void setWedding(Wedding oldWedding, Wedding newWedding) {
         assert weddings.contains(oldWedding);
+        captureState();
         weddings.remove(oldWedding);
         weddings.add(newWedding);
     }
@@ -235,6 +283,7 @@ public class Person {
      */
     public void addWedding(Wedding wedding) {
         requireNonNull(wedding);
+        captureState();
         weddings.add(wedding);
     }
 
@@ -244,6 +293,7 @@ public class Person {
      * @param wedding The wedding to remove.
      */
     public void removeWedding(Wedding wedding) {
+        captureState();
         weddings.remove(wedding);
     }
 
@@ -251,7 +301,108 @@ public class Person {
      * Checks if the wedding exists in the person's list of weddings
      */
     public boolean hasWedding(Wedding wedding) {
-        return weddings.stream().anyMatch(wedding::isSameWedding);
+        // Wedding#equals is the same as Wedding#isSameWedding, so the set can be used as an index
+        return weddings.contains(wedding);
+    }
+
+    /**
+     * Tells {@code observer} before every later change to the tags, weddings or tasks of this person, until it is
+     * removed. Must be called by the thread that changes the model.
+     */
+    public void addMembershipObserver(MembershipObserver observer) {
+        requireNonNull(observer);
+        if (membershipObservers == null) {
+            membershipObservers = new ArrayList<>(1);
+        }
+        membershipObservers.add(observer);
+    }
+
+    /**
+     * Stops telling {@code observer} about changes to this person, if it was being told.
+     */
+    public void removeMembershipObserver(MembershipObserver observer) {
+        if (membershipObservers != null && membershipObservers.remove(observer) && membershipObservers.isEmpty()) {
+            membershipObservers = null;
+        }
+    }
+
+    /**
+     * Returns a copy of this person as it is now, which never changes and so can be read from any thread.
+     * Its tags and tasks are snapshots too, and its weddings are copies holding only their names (see
+     * {@link Wedding#getNameOnlySnapshot()}), all held in compact sets that cannot be changed.
+     * The copy is reused until this person or one of its tasks next changes, so unchanged persons cost nothing to
+     * snapshot again. Must be called by the thread that changes the model.
+     */
+    public Person getSnapshot() {
+        if (snapshot != null && !hasCurrentTasks(snapshot)) {
+            // A task was marked or unmarked in place, so its counts are out of date as well
+            snapshot = null;
+            taskSummary = null;
+        }
+        if (snapshot == null) {
+            Set<Tag> tagSnapshots = copySnapshots(tags, Tag::getSnapshot);
+            Set<Wedding> weddingSnapshots = copySnapshots(weddings, Wedding::getNameOnlySnapshot);
+            Set<Task> taskSnapshots = copySnapshots(tasks, Task::getSnapshot);
+            snapshot = isVendor()
+                    ? new Vendor(this, tagSnapshots, weddingSnapshots, taskSnapshots)
+                    : new Person(this, tagSnapshots, weddingSnapshots, taskSnapshots);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns true if {@code snapshot} holds a snapshot of every task of this person as the task is now.
+     */
+    private boolean hasCurrentTasks(Person snapshot) {
+        if (snapshot.tasks.size() != tasks.size()) {
+            return false;
+        }
+        for (Task task : tasks) {
+            if (!snapshot.tasks.contains(task.getSnapshot())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> Set<T> copySnapshots(Set<T> entities, UnaryOperator<T> snapshotFunction) {
+        return entities.stream().map(snapshotFunction).collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Records the tags, weddings and tasks of this person so that an open {@code ModelTransaction} can restore them,
+     * and tells the membership observers of this person that they are about to change.
+     * Called before every change to them.
+     *
+     * @throws UnsupportedOperationException if this person is a snapshot.
+     */
+    private void captureState() {
+        if (snapshot == this) {
+            throw new UnsupportedOperationException("A snapshot of a person cannot be changed.");
+        }
+        snapshot = null;
+        taskSummary = null;
+        if (membershipObservers != null) {
+            for (MembershipObserver observer : membershipObservers) {
+                observer.membershipChanging(this);
+            }
+        }
+        if (!ModelTransaction.needsCapture(this)) {
+            return;
+        }
+        Set<Tag> oldTags = new HashSet<>(tags);
+        Set<Wedding> oldWeddings = new HashSet<>(weddings);
+        Set<Task> oldTasks = new HashSet<>(tasks);
+        int copiedElements = oldTags.size() + oldWeddings.size() + oldTasks.size();
+        ModelTransaction.capture(this, () -> {
+            captureState();
+            tags.clear();
+            tags.addAll(oldTags);
+            weddings.clear();
+            weddings.addAll(oldWeddings);
+            tasks.clear();
+            tasks.addAll(oldTasks);
+        }, copiedElements);
     }
 
     /**
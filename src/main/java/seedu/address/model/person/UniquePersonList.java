@@ -1,10 +1,18 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -57,6 +65,37 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds a person to the list at the given position.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change to the list.
+     * None of the persons may already exist in the list, which {@code isInList} is asked instead of searching the
+     * list, so that a caller keeping an index of the persons can add a batch in time proportional to the batch.
+     * {@code toAdd} must not contain duplicate persons.
+     *
+     * @param isInList tells whether a person with the same identity as the given person is in the list.
+     */
+    public void addAll(List<Person> toAdd, Predicate<Person> isInList) {
+        requireAllNonNull(toAdd, isInList);
+        Set<Name> names = new HashSet<>();
+        for (Person person : toAdd) {
+            if (!names.add(person.getName()) || isInList.test(person)) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -80,10 +119,30 @@ public class UniquePersonList implements Iterable<Person> {
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
+     *
+     * @return the position the person was removed from.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        internalList.remove(index);
+        return index;
+    }
+
+    /**
+     * Removes exactly the given person objects from the list as a single change to the list.
+     * All of them must exist in the list.
+     */
+    public void removeAll(List<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(toRemove);
+        int expectedSize = internalList.size() - removed.size();
+        internalList.removeAll(removed);
+        if (internalList.size() != expectedSize) {
             throw new PersonNotFoundException();
         }
     }
@@ -106,6 +165,46 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, as a
+     * single change to the list. Each target must be in the list itself, not just an equal person.
+     * The person identity of an edited person must not be the same as another person in the list.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Each target must have one edited person.");
+
+        Map<Person, Person> replacements = new IdentityHashMap<>();
+        Set<Name> names = new HashSet<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Person target = targets.get(i);
+            Person editedPerson = editedPersons.get(i);
+            if (!target.isSamePerson(editedPerson)) {
+                if (names.isEmpty()) {
+                    internalList.forEach(person -> names.add(person.getName()));
+                }
+                if (!names.add(editedPerson.getName())) {
+                    throw new DuplicatePersonException();
+                }
+            }
+            replacements.put(target, editedPerson);
+        }
+
+        List<Person> updatedList = new ArrayList<>(internalList.size());
+        int replaced = 0;
+        for (Person person : internalList) {
+            Person editedPerson = replacements.get(person);
+            if (editedPerson != null) {
+                replaced++;
+            }
+            updatedList.add(editedPerson == null ? person : editedPerson);
+        }
+        if (replaced != replacements.size()) {
+            throw new PersonNotFoundException();
+        }
+        internalList.setAll(updatedList);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
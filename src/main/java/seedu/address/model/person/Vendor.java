@@ -29,6 +29,15 @@ public class Vendor extends Person {
                 person.getWeddings(), person.getTasks());
     }
 
+    /**
+     * Creates a snapshot of {@code vendor}.
+     *
+     * @see Person#getSnapshot()
+     */
+    Vendor(Person vendor, Set<Tag> tagSnapshots, Set<Wedding> weddingSnapshots, Set<Task> taskSnapshots) {
+        super(vendor, tagSnapshots, weddingSnapshots, taskSnapshots);
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two vendors.
@@ -2,6 +2,8 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.model.ModelTransaction;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,6 +16,9 @@ public class Tag {
     private final TagName tagName;
     private int taggedCount;
 
+    /** A copy of this tag that never changes, or null if this tag has changed since it was made. */
+    private Tag snapshot;
+
     /**
      * Constructs a {@code Tag}.
      * @param tagName A valid {@code TagName}.
@@ -63,14 +68,68 @@ public class Tag {
         return taggedCount;
     }
 
+    /**
+     * Increases the number of persons tagged with this tag by one.
+     */
     public void increaseTaggedCount() {
+        captureState();
         taggedCount++;
     }
 
+    /**
+     * Increases the number of persons tagged with this tag by {@code amount}.
+     */
+    public void increaseTaggedCount(int amount) {
+        captureState();
+        taggedCount += amount;
+    }
+
+    /**
+     * Decreases the number of persons tagged with this tag by one.
+     */
     public void decreaseTaggedCount() {
+        captureState();
         taggedCount--;
     }
 
+    /**
+     * Decreases the number of persons tagged with this tag by {@code amount}.
+     */
+    public void decreaseTaggedCount(int amount) {
+        captureState();
+        taggedCount -= amount;
+    }
+
+    /**
+     * Returns a copy of this tag as it is now, which never changes and so can be read from any thread.
+     * The copy is reused until this tag next changes. Must be called by the thread that changes the model.
+     */
+    public Tag getSnapshot() {
+        if (snapshot == null) {
+            Tag copy = new Tag(tagName, taggedCount);
+            copy.snapshot = copy;
+            snapshot = copy;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Records the current tagged count so that an open {@code ModelTransaction} can restore it.
+     *
+     * @throws UnsupportedOperationException if this tag is a snapshot.
+     */
+    private void captureState() {
+        if (snapshot == this) {
+            throw new UnsupportedOperationException("A snapshot of a tag cannot be changed.");
+        }
+        snapshot = null;
+        int oldCount = taggedCount;
+        ModelTransaction.capture(this, () -> {
+            captureState();
+            taggedCount = oldCount;
+        });
+    }
+
     public int getTagCount() {
         return taggedCount;
     }
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a {@code Tag}'s name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,7 @@ public class TagName {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String tagName;
+    private final String foldedTagName;
 
     /**
      * Constructs a {@code TagName}.
@@ -28,6 +31,7 @@ public class TagName {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         tagName = name;
+        foldedTagName = StringUtil.toCaseInsensitiveKey(name);
     }
 
     /**
@@ -55,12 +59,12 @@ public class TagName {
         }
 
         TagName otherName = (TagName) other;
-        return tagName.equalsIgnoreCase(otherName.tagName);
+        return foldedTagName.equals(otherName.foldedTagName);
     }
 
     @Override
     public int hashCode() {
-        return tagName.hashCode();
+        return foldedTagName.hashCode();
     }
 
     public boolean matches(String validationRegex) {
@@ -3,8 +3,12 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -27,12 +31,15 @@ public class UniqueTagList implements Iterable<Tag> {
     private final ObservableList<Tag> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Intern table holding the canonical instance of each tag in the list, keyed by name. */
+    private final Map<TagName, Tag> internTable = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTag);
+        return internTable.containsKey(toCheck.getTagName());
     }
 
     /**
@@ -45,6 +52,20 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
         internalList.add(toAdd);
+        internTable.put(toAdd.getTagName(), toAdd);
+    }
+
+    /**
+     * Adds a tag to the list at the given position.
+     * The tag must not already exist in the list.
+     */
+    public void add(int index, Tag toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateTagException();
+        }
+        internalList.add(index, toAdd);
+        internTable.put(toAdd.getTagName(), toAdd);
     }
 
     /**
@@ -64,23 +85,32 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
 
-        internalList.set(index, editedTag);
+        Tag replaced = internalList.set(index, editedTag);
+        internTable.remove(replaced.getTagName());
+        internTable.put(editedTag.getTagName(), editedTag);
     }
 
     public void setTag(UniqueTagList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildInternTable();
     }
 
     /**
      * Removes the equivalent tag from the list.
      * The tag must exist in the list.
+     *
+     * @return the position the tag was removed from.
      */
-    public void remove(Tag toRemove) {
+    public int remove(Tag toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TagNotFoundException();
         }
+        Tag removed = internalList.remove(index);
+        internTable.remove(removed.getTagName());
+        return index;
     }
 
     /**
@@ -94,6 +124,14 @@ public class UniqueTagList implements Iterable<Tag> {
         }
 
         internalList.setAll(tags);
+        rebuildInternTable();
+    }
+
+    private void rebuildInternTable() {
+        internTable.clear();
+        for (Tag tag : internalList) {
+            internTable.put(tag.getTagName(), tag);
+        }
     }
 
     /**
@@ -105,17 +143,16 @@ public class UniqueTagList implements Iterable<Tag> {
 
     public Tag getTag(Tag target) {
         requireNonNull(target);
-        return internalList.stream().filter(target::isSameTag).findFirst().orElse(null);
+        return internTable.get(target.getTagName());
     }
     /**
      * Returns true if {@code tags} contains only unique tags.
      */
     private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).isSameTag(tags.get(j))) {
-                    return false;
-                }
+        Set<TagName> seen = new HashSet<>();
+        for (Tag tag : tags) {
+            if (!seen.add(tag.getTagName())) {
+                return false;
             }
         }
         return true;
@@ -3,6 +3,8 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Task's description in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}.
@@ -17,6 +19,7 @@ public class Description {
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
     public final String value;
+    private final String foldedValue;
 
     /**
      * Constructs a {@code Description}.
@@ -27,6 +30,7 @@ public class Description {
         requireNonNull(description);
         checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
         value = description;
+        foldedValue = StringUtil.toCaseInsensitiveKey(description);
     }
 
     /**
@@ -52,11 +56,11 @@ public class Description {
         }
 
         Description otherDescription = (Description) other;
-        return value.equalsIgnoreCase(otherDescription.value);
+        return foldedValue.equals(otherDescription.foldedValue);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return foldedValue.hashCode();
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.task;
 
 import java.util.Objects;
 
+import seedu.address.model.ModelTransaction;
+
 //@@author {DanzaSeah}-reused
 //Reused from https://github.com/DanzaSeah/ip/blob/master/src/main/java/babblebot/task/Task.java
 //With minor modifications
@@ -9,10 +11,13 @@ import java.util.Objects;
  * The Task class represents a general task with a description and a completion status.
  * It serves as the base class for more specific types of tasks such as Todo, Deadline, and Event.
  */
-public class Task {
+public class Task implements Cloneable {
     protected Description description;
     protected boolean isDone;
 
+    /** A copy of this task that never changes, or null if this task has changed since it was made. */
+    private Task snapshot;
+
     /**
      * Constructs a Task with the specified description.
      * The task is initially marked as not done.
@@ -67,6 +72,7 @@ public class Task {
      * Marks the task as done.
      */
     public void markAsDone() {
+        captureState();
         isDone = true;
     }
 
@@ -74,9 +80,45 @@ public class Task {
      * Marks the task as not done.
      */
     public void markAsUndone() {
+        captureState();
         isDone = false;
     }
 
+    /**
+     * Returns a copy of this task as it is now, which never changes and so can be read from any thread.
+     * The copy is reused until this task next changes. Must be called by the thread that changes the model.
+     */
+    public Task getSnapshot() {
+        if (snapshot == null) {
+            try {
+                // Every other field of a task is immutable, so a shallow copy keeps the type and dates of the task
+                Task copy = (Task) super.clone();
+                copy.snapshot = copy;
+                snapshot = copy;
+            } catch (CloneNotSupportedException e) {
+                throw new AssertionError(e);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Records the current completion status so that an open {@code ModelTransaction} can restore it.
+     *
+     * @throws UnsupportedOperationException if this task is a snapshot.
+     */
+    private void captureState() {
+        if (snapshot == this) {
+            throw new UnsupportedOperationException("A snapshot of a task cannot be changed.");
+        }
+        snapshot = null;
+        boolean oldIsDone = isDone;
+        ModelTransaction.capture(this, () -> {
+            captureState();
+            isDone = oldIsDone;
+        });
+    }
+
     /**
      * Returns the presence of the given keyword if it is
      * within a partial/full word in the description, case-insensitive.
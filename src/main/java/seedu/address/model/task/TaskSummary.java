@@ -0,0 +1,132 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Counts the done, pending and overdue tasks among a set of tasks.
+ * The due dates of the pending tasks are kept sorted, so the number of overdue tasks on any day is found without
+ * going through the tasks again.
+ * Guarantees: immutable.
+ */
+public final class TaskSummary {
+
+    public static final TaskSummary EMPTY = new TaskSummary(0, 0, new LocalDate[0]);
+
+    private final int doneCount;
+    private final int pendingCount;
+    /** Due dates of the pending tasks that have one, in ascending order. */
+    private final LocalDate[] pendingDueDates;
+
+    private TaskSummary(int doneCount, int pendingCount, LocalDate[] pendingDueDates) {
+        this.doneCount = doneCount;
+        this.pendingCount = pendingCount;
+        this.pendingDueDates = pendingDueDates;
+    }
+
+    /**
+     * Returns the summary of {@code tasks} as they are now.
+     */
+    public static TaskSummary of(Collection<Task> tasks) {
+        requireNonNull(tasks);
+        if (tasks.isEmpty()) {
+            return EMPTY;
+        }
+        int doneCount = 0;
+        int dueDateCount = 0;
+        LocalDate[] dueDates = new LocalDate[tasks.size()];
+        for (Task task : tasks) {
+            if (task.getIsDone()) {
+                doneCount++;
+                continue;
+            }
+            LocalDate dueDate = getDueDate(task);
+            if (dueDate != null) {
+                dueDates[dueDateCount++] = dueDate;
+            }
+        }
+        LocalDate[] pendingDueDates = Arrays.copyOf(dueDates, dueDateCount);
+        Arrays.sort(pendingDueDates);
+        return new TaskSummary(doneCount, tasks.size() - doneCount, pendingDueDates);
+    }
+
+    /**
+     * Returns the date a pending task is overdue after: the deadline of a {@code Deadline}, or the end of an
+     * {@code Event}. Returns null for tasks without a date.
+     */
+    private static LocalDate getDueDate(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getBy().getDate();
+        } else if (task instanceof Event) {
+            return ((Event) task).getTo().getDate();
+        }
+        return null;
+    }
+
+    public int getTotalCount() {
+        return doneCount + pendingCount;
+    }
+
+    public int getDoneCount() {
+        return doneCount;
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Returns the number of pending tasks that were due before {@code today}.
+     */
+    public int getOverdueCount(LocalDate today) {
+        requireNonNull(today);
+        int low = 0;
+        int high = pendingDueDates.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (pendingDueDates[middle].isBefore(today)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TaskSummary)) {
+            return false;
+        }
+
+        TaskSummary otherSummary = (TaskSummary) other;
+        return doneCount == otherSummary.doneCount
+                && pendingCount == otherSummary.pendingCount
+                && Arrays.equals(pendingDueDates, otherSummary.pendingDueDates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(doneCount, pendingCount, Arrays.hashCode(pendingDueDates));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("done", doneCount)
+                .add("pending", pendingCount)
+                .add("pendingDueDates", Arrays.toString(pendingDueDates))
+                .toString();
+    }
+}
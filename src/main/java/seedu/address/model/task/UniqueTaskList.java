@@ -3,9 +3,13 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -29,12 +33,15 @@ public class UniqueTaskList implements Iterable<Task> {
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Intern table holding the canonical instance of each task in the list, keyed by description. */
+    private final Map<String, Task> internTable = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return internTable.containsKey(toCheck.getDescription());
     }
 
     /**
@@ -47,6 +54,20 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
         internalList.add(toAdd);
+        internTable.put(toAdd.getDescription(), toAdd);
+    }
+
+    /**
+     * Adds a Task to the list at the given position.
+     * The Task must not already exist in the list.
+     */
+    public void add(int index, Task toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateTaskException();
+        }
+        internalList.add(index, toAdd);
+        internTable.put(toAdd.getDescription(), toAdd);
     }
 
     /**
@@ -66,23 +87,32 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, editedTask);
+        Task replaced = internalList.set(index, editedTask);
+        internTable.remove(replaced.getDescription());
+        internTable.put(editedTask.getDescription(), editedTask);
     }
 
     /**
      * Removes the equivalent Task from the list.
      * The task must exist in the list.
+     *
+     * @return the position the task was removed from.
      */
-    public void remove(Task toRemove) {
+    public int remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        Task removed = internalList.remove(index);
+        internTable.remove(removed.getDescription());
+        return index;
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildInternTable();
     }
 
     /**
@@ -96,6 +126,7 @@ public class UniqueTaskList implements Iterable<Task> {
         }
 
         internalList.setAll(tasks);
+        rebuildInternTable();
     }
 
     /**
@@ -106,12 +137,18 @@ public class UniqueTaskList implements Iterable<Task> {
      * @throws NoSuchElementException if the task is not found.
      */
     public Task getTask(Task task) {
-        for (Task eachTask : internalList) {
-            if (eachTask.isSameTask(task)) {
-                return eachTask;
-            }
+        Task eachTask = internTable.get(task.getDescription());
+        if (eachTask == null) {
+            throw new NoSuchElementException("Task not found in UniqueTaskList.");
+        }
+        return eachTask;
+    }
+
+    private void rebuildInternTable() {
+        internTable.clear();
+        for (Task task : internalList) {
+            internTable.put(task.getDescription(), task);
         }
-        throw new NoSuchElementException("Task not found in UniqueTaskList.");
     }
 
     /**
@@ -155,11 +192,10 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<String> seen = new HashSet<>();
+        for (Task task : tasks) {
+            if (!seen.add(task.getDescription())) {
+                return false;
             }
         }
         return true;
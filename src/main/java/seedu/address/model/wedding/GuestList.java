@@ -0,0 +1,231 @@
+package seedu.address.model.wedding;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * The guests of a wedding, in the order they were added.
+ * A guest is identified by name, as in {@code Person#isSamePerson(Person)}, so the list holds at most one person
+ * with each name. Looking up a guest takes constant time, and adding, replacing and removing one take logarithmic
+ * time, as each guest is kept under a position that does not change when other guests are added or removed.
+ */
+public class GuestList implements Iterable<Person> {
+
+    /** The position returned for a person who is not in the list. */
+    public static final long NO_POSITION = -1;
+
+    private final Map<Name, Long> positions = new HashMap<>();
+    private final NavigableMap<Long, Person> guests = new TreeMap<>();
+    private long nextPosition;
+
+    public GuestList() {}
+
+    /**
+     * Creates a guest list with {@code persons}, in order. A later person replaces an earlier one with the same name.
+     */
+    public GuestList(Collection<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Creates a copy of {@code toCopy}, in which every guest keeps its position.
+     */
+    public GuestList(GuestList toCopy) {
+        requireNonNull(toCopy);
+        positions.putAll(toCopy.positions);
+        guests.putAll(toCopy.guests);
+        nextPosition = toCopy.nextPosition;
+    }
+
+    /**
+     * Returns true if the list contains a guest with the same name as {@code person}.
+     */
+    public boolean contains(Person person) {
+        requireNonNull(person);
+        return positions.containsKey(person.getName());
+    }
+
+    /**
+     * Returns the guest with the same name as {@code person}, or null if there is none.
+     */
+    public Person get(Person person) {
+        requireNonNull(person);
+        Long position = positions.get(person.getName());
+        return position == null ? null : guests.get(position);
+    }
+
+    /**
+     * Returns the position of the guest with the same name as {@code person}, or {@link #NO_POSITION} if there is
+     * none. Positions only order the guests; they are not indexes into {@link #asList()}.
+     */
+    public long getPosition(Person person) {
+        requireNonNull(person);
+        return positions.getOrDefault(person.getName(), NO_POSITION);
+    }
+
+    /**
+     * Adds {@code person} to the end of the list and returns its position.
+     * If a guest with the same name is already in the list, {@code person} replaces it at its position instead.
+     */
+    public long add(Person person) {
+        requireNonNull(person);
+        Long position = positions.get(person.getName());
+        if (position == null) {
+            position = nextPosition++;
+            positions.put(person.getName(), position);
+        }
+        guests.put(position, person);
+        return position;
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list, in order, and returns the position of the first of them.
+     * The persons are given consecutive positions, so that {@link #removeRange(long, long)} can remove them together.
+     * None of {@code persons} may be in the list, and {@code persons} must not contain two persons with the same name.
+     */
+    public long addAll(List<Person> persons) {
+        requireNonNull(persons);
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (contains(person) || !names.add(person.getName())) {
+                throw new IllegalArgumentException("Guest " + person.getName() + " is already in the list.");
+            }
+        }
+        long firstPosition = nextPosition;
+        persons.forEach(this::add);
+        return firstPosition;
+    }
+
+    /**
+     * Puts {@code persons} back at consecutive positions starting at {@code firstPosition}, e.g. to undo the removal
+     * of a range. None of the positions nor a guest with the same name as one of {@code persons} may be in the list.
+     */
+    public void insertAll(long firstPosition, List<Person> persons) {
+        requireNonNull(persons);
+        long position = firstPosition;
+        for (Person person : persons) {
+            insert(position++, person);
+        }
+    }
+
+    /**
+     * Puts {@code person} back at {@code position}, e.g. to undo its removal.
+     * Neither the position nor a guest with the same name may be in the list.
+     */
+    public void insert(long position, Person person) {
+        requireNonNull(person);
+        if (position < 0 || guests.containsKey(position) || contains(person)) {
+            throw new IllegalArgumentException("Position " + position + " or guest " + person.getName()
+                    + " is already in use.");
+        }
+        positions.put(person.getName(), position);
+        guests.put(position, person);
+        nextPosition = Math.max(nextPosition, position + 1);
+    }
+
+    /**
+     * Replaces the guest with the same name as {@code target} with {@code editedPerson}, keeping its position.
+     *
+     * @throws PersonNotFoundException if there is no guest with the same name as {@code target}.
+     */
+    public void set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Long position = positions.get(target.getName());
+        if (position == null) {
+            throw new PersonNotFoundException();
+        }
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new IllegalArgumentException("Guest " + editedPerson.getName() + " is already in the list.");
+        }
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), position);
+        guests.put(position, editedPerson);
+    }
+
+    /**
+     * Removes the guest with the same name as {@code person}, and returns the position it had,
+     * or {@link #NO_POSITION} if there was no such guest.
+     */
+    public long remove(Person person) {
+        requireNonNull(person);
+        Long position = positions.remove(person.getName());
+        if (position == null) {
+            return NO_POSITION;
+        }
+        guests.remove(position);
+        return position;
+    }
+
+    /**
+     * Removes the guests at positions from {@code fromPosition}, inclusive, to {@code toPosition}, exclusive,
+     * and returns them in order.
+     */
+    public List<Person> removeRange(long fromPosition, long toPosition) {
+        NavigableMap<Long, Person> range = guests.subMap(fromPosition, true, toPosition, false);
+        List<Person> removed = new ArrayList<>(range.values());
+        removed.forEach(person -> positions.remove(person.getName()));
+        range.clear();
+        return removed;
+    }
+
+    public int size() {
+        return guests.size();
+    }
+
+    public boolean isEmpty() {
+        return guests.isEmpty();
+    }
+
+    /**
+     * Returns the guests in order, as a new list.
+     */
+    public List<Person> asList() {
+        return new ArrayList<>(guests.values());
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return Collections.unmodifiableCollection(guests.values()).iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GuestList otherGuestList)) {
+            return false;
+        }
+
+        return asList().equals(otherGuestList.asList());
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return guests.values().toString();
+    }
+}
@@ -3,8 +3,12 @@ package seedu.address.model.wedding;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -27,12 +31,15 @@ public class UniqueWeddingList implements Iterable<Wedding> {
     private final ObservableList<Wedding> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /** Intern table holding the canonical instance of each wedding in the list, keyed by name. */
+    private final Map<WeddingName, Wedding> internTable = new HashMap<>();
+
     /**
      * Returns true if the list contains an equivalent wedding as the given argument.
      */
     public boolean contains(Wedding toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameWedding);
+        return internTable.containsKey(toCheck.getWeddingName());
     }
 
     /**
@@ -45,6 +52,20 @@ public class UniqueWeddingList implements Iterable<Wedding> {
             throw new DuplicateWeddingException();
         }
         internalList.add(toAdd);
+        internTable.put(toAdd.getWeddingName(), toAdd);
+    }
+
+    /**
+     * Adds a wedding to the list at the given position.
+     * The wedding must not already exist in the list.
+     */
+    public void add(int index, Wedding toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateWeddingException();
+        }
+        internalList.add(index, toAdd);
+        internTable.put(toAdd.getWeddingName(), toAdd);
     }
 
     /**
@@ -64,7 +85,9 @@ public class UniqueWeddingList implements Iterable<Wedding> {
             throw new DuplicateWeddingException();
         }
 
-        internalList.set(index, editedWedding);
+        Wedding replaced = internalList.set(index, editedWedding);
+        internTable.remove(replaced.getWeddingName());
+        internTable.put(editedWedding.getWeddingName(), editedWedding);
     }
 
     /**
@@ -72,18 +95,24 @@ public class UniqueWeddingList implements Iterable<Wedding> {
      */
     public Wedding getWedding(Wedding target) {
         requireNonNull(target);
-        return internalList.stream().filter(target::isSameWedding).findFirst().orElse(null);
+        return internTable.get(target.getWeddingName());
     }
 
     /**
      * Removes the equivalent wedding from the list.
      * The wedding must exist in the list.
+     *
+     * @return the position the wedding was removed from.
      */
-    public void remove(Wedding toRemove) {
+    public int remove(Wedding toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new WeddingNotFoundException();
         }
+        Wedding removed = internalList.remove(index);
+        internTable.remove(removed.getWeddingName());
+        return index;
     }
 
     /**
@@ -97,6 +126,14 @@ public class UniqueWeddingList implements Iterable<Wedding> {
         }
 
         internalList.setAll(weddings);
+        rebuildInternTable();
+    }
+
+    private void rebuildInternTable() {
+        internTable.clear();
+        for (Wedding wedding : internalList) {
+            internTable.put(wedding.getWeddingName(), wedding);
+        }
     }
 
     /**
@@ -110,11 +147,10 @@ public class UniqueWeddingList implements Iterable<Wedding> {
      * Returns true if {@code weddings} contains only unique weddings.
      */
     private boolean weddingsAreUnique(List<Wedding> weddings) {
-        for (int i = 0; i < weddings.size() - 1; i++) {
-            for (int j = i + 1; j < weddings.size(); j++) {
-                if (weddings.get(i).isSameWedding(weddings.get(j))) {
-                    return false;
-                }
+        Set<WeddingName> seen = new HashSet<>();
+        for (Wedding wedding : weddings) {
+            if (!seen.add(wedding.getWeddingName())) {
+                return false;
             }
         }
         return true;
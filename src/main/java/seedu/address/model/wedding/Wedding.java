@@ -1,8 +1,9 @@
 package seedu.address.model.wedding;
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.List;
 
+import seedu.address.model.ModelTransaction;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -15,10 +16,16 @@ public class Wedding {
     private final WeddingName weddingName;
     private Person partner1;
     private Person partner2;
-    private ArrayList<Person> guestList = new ArrayList<>();
+    private final GuestList guestList;
     private Address address;
     private String date;
 
+    /** A copy of this wedding that never changes, or null if this wedding has changed since it was made. */
+    private Wedding snapshot;
+
+    /** A copy of this wedding that holds only its name, or null if it has not been needed yet. */
+    private Wedding nameOnlySnapshot;
+
     /**
      * Constructs a {@code Wedding} with the specified {@code weddingName}
      * @param weddingName A valid {@code WeddingName}
@@ -26,14 +33,25 @@ public class Wedding {
     public Wedding(WeddingName weddingName) {
         requireNonNull(weddingName);
         this.weddingName = weddingName;
+        this.guestList = new GuestList();
     }
 
     /**
      * Constructs a {@code Wedding} with the specified {@code weddingName}
      * @param weddingName A valid {@code WeddingName}
+     * @param guestList The guests of the wedding, in order, which are copied. May be null if there are none.
      */
     public Wedding(WeddingName weddingName, Person partner1, Person partner2,
-                   ArrayList<Person> guestList, Address address, String date) {
+                   List<Person> guestList, Address address, String date) {
+        this(weddingName, partner1, partner2, guestList == null ? new GuestList() : new GuestList(guestList),
+                address, date);
+    }
+
+    /**
+     * Constructs a {@code Wedding} that uses {@code guestList} itself as its guest list.
+     */
+    private Wedding(WeddingName weddingName, Person partner1, Person partner2,
+                    GuestList guestList, Address address, String date) {
         requireNonNull(weddingName);
         this.weddingName = weddingName;
         this.partner1 = partner1;
@@ -71,6 +89,7 @@ public class Wedding {
      * @param partner1 A {@code Person} object to be set as {@code partner1}
      */
     public void setPartner1(Person partner1) {
+        captureState();
         this.partner1 = partner1;
     }
 
@@ -94,6 +113,7 @@ public class Wedding {
      * @param partner2 A {@code Person} object to be set as {@code partner2}
      */
     public void setPartner2(Person partner2) {
+        captureState();
         this.partner2 = partner2;
     }
 
@@ -107,31 +127,62 @@ public class Wedding {
     /**
      * Returns guest list associated with wedding
      *
-     * @return An {@code ArrayList<Person>} object of the guest list of the wedding
+     * @return A new {@code List<Person>} of the guests of the wedding, in the order they were added
+     */
+    public List<Person> getGuestList() {
+        return guestList.asList();
+    }
+
+    /**
+     * Returns the number of guests in the guest list, without copying it.
      */
-    public ArrayList<Person> getGuestList() {
-        return this.guestList;
+    public int getGuestCount() {
+        return guestList.size();
     }
 
     /**
-     * Adds {@code Person} to guest list in this wedding
+     * Adds {@code Person} to guest list in this wedding.
+     * If a guest with the same name is already in the guest list, {@code person} replaces it instead.
      *
      * @param person An {@code Person} object of the guest list of the wedding
      */
     public void addToGuestList(Person person) {
-        this.guestList.add(person);
+        requireNonNull(person);
+        Person existingGuest = guestList.get(person);
+        if (existingGuest != null) {
+            replaceGuest(existingGuest, person);
+        } else {
+            markChanged();
+            guestList.add(person);
+            ModelTransaction.recordUndo(() -> removeGuest(person));
+        }
+    }
+
+    /**
+     * Adds {@code persons} to the end of the guest list, in order, as a single change, which is undone by removing
+     * them together. None of {@code persons} may be in the guest list, and no two of them may have the same name.
+     */
+    public void addAllToGuestList(List<Person> persons) {
+        requireNonNull(persons);
+        if (persons.isEmpty()) {
+            return;
+        }
+        markChanged();
+        long firstPosition = guestList.addAll(persons);
+        long endPosition = firstPosition + persons.size();
+        ModelTransaction.recordUndo(() -> removeGuests(firstPosition, endPosition));
     }
 
     /**
-     * Replaces a person in the guest list with a new person
+     * Replaces a person in the guest list with a new person, keeping their place in the guest list
      */
     public void setGuest(Person oldPerson, Person newPerson) {
-        int index = guestList.indexOf(oldPerson);
-        if (index == -1) {
+        Person existingGuest = guestList.get(oldPerson);
+        if (existingGuest == null) {
             throw new PersonNotFoundException();
         }
 
-        guestList.set(index, newPerson);
+        replaceGuest(existingGuest, newPerson);
     }
 
     /**
@@ -140,7 +191,7 @@ public class Wedding {
     public boolean hasPerson(Person person) {
         return (person.isSamePerson(partner1)
                 || person.isSamePerson(partner2)
-                || guestList.stream().anyMatch(person::isSamePerson));
+                || guestList.contains(person));
     }
 
     /**
@@ -149,7 +200,7 @@ public class Wedding {
     public Person getPerson(Person person) {
         return person.isSamePerson(partner1) ? partner1
                 : person.isSamePerson(partner2) ? partner2
-                : guestList.stream().filter(person::isSamePerson).findFirst().orElse(null);
+                : guestList.get(person);
     }
 
     /**
@@ -157,13 +208,126 @@ public class Wedding {
      */
     public void removePerson(Person person) {
         if (person.isSamePerson(partner1)) {
+            captureState();
             partner1 = null;
         } else if (person.isSamePerson(partner2)) {
+            captureState();
             partner2 = null;
         } else {
-            Person match = guestList.stream().filter(person::isSamePerson).findFirst().orElse(null);
-            guestList.remove(match);
+            removeGuest(person);
+        }
+    }
+
+    /**
+     * Replaces {@code oldGuest} with {@code newGuest} at the same place in the guest list.
+     */
+    private void replaceGuest(Person oldGuest, Person newGuest) {
+        markChanged();
+        guestList.set(oldGuest, newGuest);
+        ModelTransaction.recordUndo(() -> replaceGuest(newGuest, oldGuest));
+    }
+
+    /**
+     * Removes the guest with the same name as {@code person}, if any, so that undoing it puts the guest back in
+     * the same place in the guest list.
+     */
+    private void removeGuest(Person person) {
+        Person removedGuest = guestList.get(person);
+        if (removedGuest == null) {
+            return;
         }
+        markChanged();
+        long position = guestList.remove(removedGuest);
+        ModelTransaction.recordUndo(() -> insertGuest(position, removedGuest));
+    }
+
+    /**
+     * Removes the guests added by {@link #addAllToGuestList(List)}, which are at positions from
+     * {@code firstPosition}, inclusive, to {@code endPosition}, exclusive.
+     */
+    private void removeGuests(long firstPosition, long endPosition) {
+        markChanged();
+        List<Person> removedGuests = guestList.removeRange(firstPosition, endPosition);
+        ModelTransaction.recordUndo(() -> insertGuests(firstPosition, removedGuests), removedGuests.size());
+    }
+
+    /**
+     * Puts {@code guests} back at consecutive positions from {@code firstPosition}, undoing their removal.
+     */
+    private void insertGuests(long firstPosition, List<Person> guests) {
+        markChanged();
+        guestList.insertAll(firstPosition, guests);
+        long endPosition = firstPosition + guests.size();
+        ModelTransaction.recordUndo(() -> removeGuests(firstPosition, endPosition));
+    }
+
+    /**
+     * Puts {@code guest} back at {@code position} in the guest list, undoing its removal.
+     */
+    private void insertGuest(long position, Person guest) {
+        markChanged();
+        guestList.insert(position, guest);
+        ModelTransaction.recordUndo(() -> removeGuest(guest));
+    }
+
+    /**
+     * Records the partners of this wedding so that an open {@code ModelTransaction} can restore them.
+     * Changes to the guest list are recorded one guest at a time instead, so that they need no copy of the guests.
+     */
+    private void captureState() {
+        markChanged();
+        if (!ModelTransaction.needsCapture(this)) {
+            return;
+        }
+        Person oldPartner1 = partner1;
+        Person oldPartner2 = partner2;
+        ModelTransaction.capture(this, () -> {
+            captureState();
+            partner1 = oldPartner1;
+            partner2 = oldPartner2;
+        });
+    }
+
+    /**
+     * Discards the snapshot of this wedding, as it is about to change.
+     *
+     * @throws UnsupportedOperationException if this wedding is a snapshot.
+     */
+    private void markChanged() {
+        if (snapshot == this) {
+            throw new UnsupportedOperationException("A snapshot of a wedding cannot be changed.");
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Returns a copy of this wedding as it is now, with its own copy of the guest list, which never changes and so
+     * can be read from any thread. The copy is reused until this wedding next changes.
+     * Must be called by the thread that changes the model.
+     */
+    public Wedding getSnapshot() {
+        if (snapshot == null) {
+            Wedding copy = new Wedding(weddingName, partner1, partner2, guestList.asList(), address, date);
+            copy.snapshot = copy;
+            snapshot = copy;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a copy of this wedding that holds only its name, with no partners, guests, address or date, and never
+     * changes. As the name of a wedding never changes either, the copy is made once and kept.
+     * Snapshots of persons hold these rather than full snapshots, which would each keep a copy of the guest list
+     * alive for as long as any guest is unchanged. Must be called by the thread that changes the model.
+     */
+    public Wedding getNameOnlySnapshot() {
+        if (nameOnlySnapshot == null) {
+            Wedding copy = new Wedding(weddingName);
+            copy.snapshot = copy;
+            copy.nameOnlySnapshot = copy;
+            nameOnlySnapshot = copy;
+        }
+        return nameOnlySnapshot;
     }
 
     /**
@@ -207,7 +371,7 @@ public class Wedding {
         }
 
         if (!(obj instanceof Wedding otherWedding)) {
-            return true;
+            return false;
         }
 
         return weddingName.equals(otherWedding.weddingName);
@@ -236,12 +400,12 @@ public class Wedding {
         return '[' + weddingName.toString() + ']';
     }
 
+    /**
+     * Returns a copy of this wedding with its own copy of the guest list, in which every guest keeps its position, so
+     * that changing either wedding leaves the other as it was. The copy has no snapshots until it makes them.
+     */
     @Override
     public Wedding clone() {
-        try {
-            return (Wedding) super.clone();
-        } catch (CloneNotSupportedException e) {
-            return new Wedding(weddingName, partner1, partner2, guestList, address, date);
-        }
+        return new Wedding(weddingName, partner1, partner2, new GuestList(guestList), address, date);
     }
 }
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a {@code Wedding}'s name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,7 @@ public class WeddingName {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} /.,'&:()]*";
     private final String weddingName;
+    private final String foldedWeddingName;
 
     /**
      * Constructs a {@code WeddingName}
@@ -29,6 +32,7 @@ public class WeddingName {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         weddingName = name;
+        foldedWeddingName = StringUtil.toCaseInsensitiveKey(name);
     }
 
     /**
@@ -56,12 +60,12 @@ public class WeddingName {
         }
 
         WeddingName otherWeddingName = (WeddingName) obj;
-        return this.weddingName.equalsIgnoreCase(otherWeddingName.weddingName);
+        return foldedWeddingName.equals(otherWeddingName.foldedWeddingName);
     }
 
     @Override
     public int hashCode() {
-        return weddingName.hashCode();
+        return foldedWeddingName.hashCode();
     }
 
     /**
@@ -0,0 +1,273 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.ExportFormat;
+import seedu.address.storage.ListExporter;
+
+/**
+ * Serves commands to clients without a UI, one request per line and one JSON response per line.
+ * <p>
+ * A request is either a command, as typed into the command box, or a read of the form
+ * {@code get persons|weddings|tasks}, which returns every entry of that list.
+ * Commands are executed one at a time by a single writer thread, in the order they arrive from all clients.
+ * Reads are answered on each client's own thread from the latest snapshot of the address book, without waiting for
+ * the writer. The snapshot is rendered as JSON by the first read after a command, and shared by every read until the
+ * next command.
+ */
+public class CommandServer implements AutoCloseable {
+
+    public static final String READ_WORD = "get";
+    public static final String MESSAGE_UNKNOWN_LIST = "Only persons, weddings and tasks can be read with "
+            + READ_WORD + ".";
+
+    /** How long {@link #close()} waits for the command being executed, and the commands waiting, to finish. */
+    private static final long CLOSE_TIMEOUT_SECONDS = 60;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Logic logic;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable ->
+            createDaemonThread(runnable, "server-writer"));
+    private final ExecutorService connections = Executors.newCachedThreadPool(runnable ->
+            createDaemonThread(runnable, "server-connection"));
+    /** The latest snapshot of the address book rendered as JSON, or null if none has been rendered yet. */
+    private final AtomicReference<RenderedSnapshot> rendered = new AtomicReference<>();
+
+    /**
+     * Creates a {@code CommandServer} that executes commands with {@code logic}.
+     * {@code logic} must not be used by anything else while the server is open.
+     */
+    public CommandServer(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    private static Thread createDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Answers the requests read from {@code in}, writing the responses to {@code out}, until {@code in} ends or an
+     * exit command is executed. Neither stream is closed.
+     */
+    public void serve(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Writer responseWriter = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        String request;
+        while ((request = reader.readLine()) != null) {
+            if (request.isBlank()) {
+                continue;
+            }
+            Response response = handle(request);
+            responseWriter.write(response.json);
+            responseWriter.write('\n');
+            responseWriter.flush();
+            if (response.isExit) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Accepts clients on {@code serverSocket} until it is closed, answering each client on its own thread.
+     */
+    public void listen(ServerSocket serverSocket) throws IOException {
+        requireNonNull(serverSocket);
+        logger.info("Serving commands on " + serverSocket.getLocalSocketAddress());
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            connections.execute(() -> serveClient(socket));
+        }
+    }
+
+    private void serveClient(Socket socket) {
+        logger.fine(() -> "Client connected from " + socket.getRemoteSocketAddress());
+        try (socket) {
+            serve(socket.getInputStream(), socket.getOutputStream());
+        } catch (IOException e) {
+            logger.warning("Connection with " + socket.getRemoteSocketAddress() + " failed: " + e);
+        }
+    }
+
+    /**
+     * Returns the response to {@code request}.
+     * Safe to call from any thread.
+     */
+    Response handle(String request) {
+        String trimmedRequest = request.trim();
+        String[] words = trimmedRequest.split("\\s+");
+        if (words.length == 2 && words[0].equals(READ_WORD)) {
+            return read(words[1]);
+        }
+        return execute(trimmedRequest);
+    }
+
+    private Response execute(String commandText) {
+        CommandResult result;
+        try {
+            result = writer.submit(() -> logic.execute(commandText)).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                return Response.failure(cause.getMessage());
+            }
+            logger.severe("Command " + commandText + " failed unexpectedly: " + cause);
+            return Response.failure(String.valueOf(cause));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Response.failure("The server is stopping.");
+        }
+
+        ObjectNode json = objectMapper.createObjectNode()
+                .put("success", true)
+                .put("feedback", result.getFeedbackToUser())
+                .put("view", result.getView().name())
+                .put("exit", result.isExit());
+        // The job reads only what it copied when the command executed, so it runs here rather than on the writer
+        result.getBackgroundJob().ifPresent(job -> json.put("jobResult", job.run(progress -> {})));
+        return new Response(json.toString(), result.isExit());
+    }
+
+    private Response read(String listName) {
+        RenderedSnapshot currentSnapshot;
+        try {
+            currentSnapshot = render(logic.getSnapshot());
+        } catch (IOException e) {
+            logger.severe("Rendering the address book failed: " + e);
+            return Response.failure(String.valueOf(e));
+        }
+
+        String records = switch (listName) {
+        case "persons" -> currentSnapshot.persons;
+        case "weddings" -> currentSnapshot.weddings;
+        case "tasks" -> currentSnapshot.tasks;
+        default -> null;
+        };
+        if (records == null) {
+            return Response.failure(MESSAGE_UNKNOWN_LIST);
+        }
+        // The records are already JSON, so they are not parsed again just to be written out
+        return new Response("{\"success\":true,\"" + listName + "\":" + records + "}", false);
+    }
+
+    /**
+     * Returns {@code snapshot} rendered as JSON, rendering it unless it has been already.
+     * Two reads may both render a new snapshot, in which case either rendering is kept, as they are the same.
+     */
+    private RenderedSnapshot render(ReadOnlyAddressBook snapshot) throws IOException {
+        RenderedSnapshot currentSnapshot = rendered.get();
+        if (currentSnapshot != null && currentSnapshot.source == snapshot) {
+            return currentSnapshot;
+        }
+        RenderedSnapshot newSnapshot = new RenderedSnapshot(snapshot,
+                toJsonArray(ListExporter.PERSONS, snapshot.getPersonList()),
+                toJsonArray(ListExporter.WEDDINGS, snapshot.getWeddingList()),
+                toJsonArray(ListExporter.TASKS, snapshot.getTaskList()));
+        rendered.compareAndSet(currentSnapshot, newSnapshot);
+        return newSnapshot;
+    }
+
+    private static <T> String toJsonArray(ListExporter<T> exporter, List<? extends T> items) throws IOException {
+        StringWriter records = new StringWriter();
+        exporter.write(items, records, ExportFormat.JSON_LINES);
+        return records.toString().lines().collect(Collectors.joining(",", "[", "]"));
+    }
+
+    /**
+     * Stops executing commands, and waits for the commands already given to the writer to finish, so that a save is
+     * not cut off. Clients waiting for those commands are told that the server is stopping.
+     * Safe to call more than once, and from any thread.
+     */
+    @Override
+    public void close() {
+        connections.shutdownNow();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Closing without waiting any longer for the command being executed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The lists of a snapshot of the address book, as JSON arrays.
+     */
+    private static class RenderedSnapshot {
+        final ReadOnlyAddressBook source;
+        final String persons;
+        final String weddings;
+        final String tasks;
+
+        RenderedSnapshot(ReadOnlyAddressBook source, String persons, String weddings, String tasks) {
+            this.source = source;
+            this.persons = persons;
+            this.weddings = weddings;
+            this.tasks = tasks;
+        }
+    }
+
+    /**
+     * A response to a request, as a single line of JSON.
+     */
+    static class Response {
+        final String json;
+        /** The client should not send further requests. */
+        final boolean isExit;
+
+        Response(String json, boolean isExit) {
+            this.json = json;
+            this.isExit = isExit;
+        }
+
+        static Response failure(String error) {
+            return new Response(objectMapper.createObjectNode()
+                    .put("success", false)
+                    .put("error", error)
+                    .toString(), false);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+
+import seedu.address.commons.util.CsvUtil;
+
+/**
+ * Writes records as lines of comma-separated values, after a line of column names.
+ * A list of values is written as a single field, with the values separated by {@value #LIST_SEPARATOR}.
+ */
+class CsvRecordWriter implements RecordWriter {
+
+    static final String LIST_SEPARATOR = "; ";
+
+    private final Writer writer;
+    private boolean isFirstValue = true;
+
+    /**
+     * Creates a {@code CsvRecordWriter} that writes to {@code writer}, and writes the column names.
+     */
+    CsvRecordWriter(Writer writer, List<String> columnNames) throws IOException {
+        this.writer = writer;
+        writer.write(CsvUtil.toLine(columnNames));
+        writer.write(System.lineSeparator());
+    }
+
+    @Override
+    public void writeValue(String value) throws IOException {
+        if (!isFirstValue) {
+            writer.write(',');
+        }
+        writer.write(CsvUtil.escape(value));
+        isFirstValue = false;
+    }
+
+    @Override
+    public void writeValues(Iterator<String> values) throws IOException {
+        StringBuilder field = new StringBuilder();
+        while (values.hasNext()) {
+            field.append(values.next());
+            if (values.hasNext()) {
+                field.append(LIST_SEPARATOR);
+            }
+        }
+        writeValue(field.toString());
+    }
+
+    @Override
+    public void endRecord() throws IOException {
+        writer.write(System.lineSeparator());
+        isFirstValue = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The file formats that lists can be exported to.
+ */
+public enum ExportFormat {
+    CSV(".csv"),
+    JSON_LINES(".jsonl");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the format given by the extension of {@code filePath}, if it is a known one.
+     */
+    public static Optional<ExportFormat> fromFilePath(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String lowerCaseFileName = fileName.toString().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (lowerCaseFileName.endsWith(format.extension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a {@code RecordWriter} that writes records with the given columns to {@code writer} in this format.
+     */
+    RecordWriter open(Writer writer, List<String> columnNames) throws IOException {
+        return switch (this) {
+        case CSV -> new CsvRecordWriter(writer, columnNames);
+        case JSON_LINES -> new JsonLinesRecordWriter(writer, columnNames);
+        };
+    }
+}
@@ -7,9 +7,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -26,19 +29,40 @@ import seedu.address.model.wedding.WeddingName;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * Tags, weddings and tasks that are in the address book are stored by their ID; any others are stored in full.
  */
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String UNKNOWN_ID_MESSAGE_FORMAT = "Person's %s with ID %d does not exist!";
 
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final boolean isVendor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<WeddingName> weddings = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<Integer> tagIds = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<Integer> weddingIds = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<Integer> taskIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details, without an ID.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tags,
+            List<WeddingName> weddings, List<JsonAdaptedTask> tasks, boolean isVendor) {
+        this(name, phone, email, address, tags, weddings, tasks, isVendor, null, null, null, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
@@ -49,7 +73,11 @@ class JsonAdaptedPerson {
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
             @JsonProperty("weddings") List<WeddingName> weddings,
             @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
-            @JsonProperty("isVendor") boolean isVendor) {
+            @JsonProperty("isVendor") boolean isVendor,
+            @JsonProperty("id") Integer id,
+            @JsonProperty("tagIds") List<Integer> tagIds,
+            @JsonProperty("weddingIds") List<Integer> weddingIds,
+            @JsonProperty("taskIds") List<Integer> taskIds) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -64,7 +92,16 @@ class JsonAdaptedPerson {
             this.weddings.addAll(weddings);
         }
         this.isVendor = isVendor;
-
+        this.id = id;
+        if (tagIds != null) {
+            this.tagIds.addAll(tagIds);
+        }
+        if (weddingIds != null) {
+            this.weddingIds.addAll(weddingIds);
+        }
+        if (taskIds != null) {
+            this.taskIds.addAll(taskIds);
+        }
     }
 
     /**
@@ -85,6 +122,51 @@ class JsonAdaptedPerson {
                 .map(this::mapToJsonAdaptedTask)
                 .collect(Collectors.toList()));
         isVendor = source.isVendor();
+        id = null;
+    }
+
+    /**
+     * Converts a given {@code Person} in {@code addressBook} into this class for Jackson use.
+     * The person's tags, weddings and tasks are stored by their ID in {@code addressBook}.
+     */
+    public JsonAdaptedPerson(Person source, ReadOnlyAddressBook addressBook) {
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        isVendor = source.isVendor();
+        id = toNullableId(addressBook.getPersonId(source));
+        for (Tag tag : source.getTags()) {
+            int tagId = addressBook.getTagId(tag);
+            if (tagId == ReadOnlyAddressBook.NO_ID) {
+                tags.add(new JsonAdaptedTag(tag));
+            } else {
+                tagIds.add(tagId);
+            }
+        }
+        for (Wedding wedding : source.getWeddings()) {
+            int weddingId = addressBook.getWeddingId(wedding);
+            if (weddingId == ReadOnlyAddressBook.NO_ID) {
+                weddings.add(wedding.getWeddingName());
+            } else {
+                weddingIds.add(weddingId);
+            }
+        }
+        for (Task task : source.getTasks()) {
+            int taskId = addressBook.getTaskId(task);
+            if (taskId == ReadOnlyAddressBook.NO_ID) {
+                tasks.add(mapToJsonAdaptedTask(task));
+            } else {
+                taskIds.add(taskId);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code id} boxed, or null if it is {@link ReadOnlyAddressBook#NO_ID}.
+     */
+    static Integer toNullableId(int id) {
+        return id == ReadOnlyAddressBook.NO_ID ? null : id;
     }
 
     protected String getName() {
@@ -120,7 +202,15 @@ class JsonAdaptedPerson {
     }
 
     protected boolean hasTasks() {
-        return !this.tasks.isEmpty();
+        return !this.tasks.isEmpty() || !this.taskIds.isEmpty();
+    }
+
+    protected Integer getId() {
+        return id;
+    }
+
+    protected List<Integer> getWeddingIds() {
+        return weddingIds;
     }
 
     /**
@@ -145,6 +235,18 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(new AddressBook());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object,
+     * looking up the tags and tasks stored by ID in {@code addressBook}.
+     * Stores blank weddings with only the wedding name, and ignores weddings stored by ID.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person,
+     *     or if a tag or task ID does not exist in {@code addressBook}.
+     */
+    public Person toModelType(AddressBook addressBook) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         final List<Wedding> personWeddings = new ArrayList<>();
         final List<Task> personTasks = new ArrayList<>();
@@ -154,10 +256,26 @@ class JsonAdaptedPerson {
             personTags.add(toAdd);
         }
 
+        for (Integer tagId : tagIds) {
+            Tag tag = tagId == null ? null : addressBook.getTagById(tagId);
+            if (tag == null) {
+                throw new IllegalValueException(String.format(UNKNOWN_ID_MESSAGE_FORMAT, "tag", tagId));
+            }
+            personTags.add(tag);
+        }
+
         for (JsonAdaptedTask task : tasks) {
             personTasks.add(task.toModelType());
         }
 
+        for (Integer taskId : taskIds) {
+            Task task = taskId == null ? null : addressBook.getTaskById(taskId);
+            if (task == null) {
+                throw new IllegalValueException(String.format(UNKNOWN_ID_MESSAGE_FORMAT, "task", taskId));
+            }
+            personTasks.add(task);
+        }
+
         for (WeddingName weddingName : weddings) {
             if (!Wedding.isValidWeddingName(weddingName.toString())) {
                 throw new IllegalValueException(WeddingName.MESSAGE_CONSTRAINTS);
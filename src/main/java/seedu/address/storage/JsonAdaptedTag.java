@@ -1,7 +1,8 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.Tag;
@@ -9,30 +10,52 @@ import seedu.address.model.tag.TagName;
 
 /**
  * Jackson-friendly version of {@link Tag}.
+ * Tags are also read from plain strings, the format of files saved without IDs.
  */
 class JsonAdaptedTag {
     private final String tagName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
 
     /**
      * Constructs a {@code JsonAdaptedTag} with the given {@code tagName}.
      */
-    @JsonCreator
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
     public JsonAdaptedTag(String tagName) {
+        this(tagName, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedTag} with the given {@code tagName} and {@code id}.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public JsonAdaptedTag(@JsonProperty("tagName") String tagName, @JsonProperty("id") Integer id) {
         this.tagName = tagName;
+        this.id = id;
     }
 
     /**
      * Converts a given {@code Tag} into this class for Jackson use.
      */
     public JsonAdaptedTag(Tag source) {
-        tagName = source.getTagName().toString();
+        this(source.getTagName().toString(), null);
+    }
+
+    /**
+     * Converts a given {@code Tag} with the given ID into this class for Jackson use.
+     */
+    public JsonAdaptedTag(Tag source, int id) {
+        this(source.getTagName().toString(), JsonAdaptedPerson.toNullableId(id));
     }
 
-    @JsonValue
     public String getTagName() {
         return tagName;
     }
 
+    public Integer getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object.
      *
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
@@ -31,6 +32,10 @@ public abstract class JsonAdaptedTask {
     protected final String description;
     protected final boolean isDone;
 
+    /** The ID of the task in the address book. Set by Jackson after construction, as subclasses do not take it. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    protected Integer id;
+
     /**
      * Constructs a {@code JsonAdaptedTask} with the given description and completion status.
      *
@@ -46,6 +51,14 @@ public abstract class JsonAdaptedTask {
 
     public abstract Task toModelType() throws IllegalValueException;
 
+    public Integer getId() {
+        return id;
+    }
+
+    void setId(int id) {
+        this.id = JsonAdaptedPerson.toNullableId(id);
+    }
+
     /**
      * Converts the description string into a {@code Description} object, validating it in the process.
      *
@@ -4,9 +4,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Person;
 import seedu.address.model.wedding.Wedding;
@@ -14,14 +17,36 @@ import seedu.address.model.wedding.WeddingName;
 
 /**
  * Jackson-friendly version of {@link Wedding}.
+ * Partners and guests that are in the address book are stored by their ID; any others are stored in full.
  */
 public class JsonAdaptedWedding {
+    public static final String UNKNOWN_ID_MESSAGE_FORMAT = "Wedding's person with ID %d does not exist!";
+
     private final String weddingName;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedPerson partner1;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedPerson partner2;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private List<JsonAdaptedPerson> guestList = new ArrayList<>();
     private final String address;
     private final String date;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer partner1Id;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer partner2Id;
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<Integer> guestIds = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedWedding} with the given wedding details, without IDs.
+     */
+    public JsonAdaptedWedding(String weddingName, JsonAdaptedPerson partner1, JsonAdaptedPerson partner2,
+            List<JsonAdaptedPerson> guestList, String address, String date) {
+        this(weddingName, partner1, partner2, guestList, address, date, null, null, null, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedWedding} with the given wedding details.
@@ -33,7 +58,11 @@ public class JsonAdaptedWedding {
             @JsonProperty("partner2") JsonAdaptedPerson partner2,
             @JsonProperty("guestList") List<JsonAdaptedPerson> guestList,
             @JsonProperty("address") String address,
-            @JsonProperty("date") String date) {
+            @JsonProperty("date") String date,
+            @JsonProperty("id") Integer id,
+            @JsonProperty("partner1Id") Integer partner1Id,
+            @JsonProperty("partner2Id") Integer partner2Id,
+            @JsonProperty("guestIds") List<Integer> guestIds) {
         this.weddingName = weddingName;
         this.partner1 = partner1;
         this.partner2 = partner2;
@@ -42,6 +71,12 @@ public class JsonAdaptedWedding {
         }
         this.address = address;
         this.date = date;
+        this.id = id;
+        this.partner1Id = partner1Id;
+        this.partner2Id = partner2Id;
+        if (guestIds != null) {
+            this.guestIds.addAll(guestIds);
+        }
     }
 
     /**
@@ -58,6 +93,40 @@ public class JsonAdaptedWedding {
         }
         address = (source.getAddress() != null) ? source.getAddress().toString() : null;
         date = source.getDate();
+        id = null;
+        partner1Id = null;
+        partner2Id = null;
+    }
+
+    /**
+     * Converts a given {@code Wedding} in {@code addressBook} into this class for Jackson use.
+     * The wedding's partners and guests are stored by their ID in {@code addressBook}.
+     */
+    public JsonAdaptedWedding(Wedding source, ReadOnlyAddressBook addressBook) {
+        weddingName = source.getWeddingName().toString();
+        id = JsonAdaptedPerson.toNullableId(addressBook.getWeddingId(source));
+
+        Person sourcePartner1 = source.getPartner1();
+        partner1Id = sourcePartner1 != null ? JsonAdaptedPerson.toNullableId(addressBook.getPersonId(sourcePartner1))
+                : null;
+        partner1 = sourcePartner1 != null && partner1Id == null ? new JsonAdaptedPerson(sourcePartner1) : null;
+        Person sourcePartner2 = source.getPartner2();
+        partner2Id = sourcePartner2 != null ? JsonAdaptedPerson.toNullableId(addressBook.getPersonId(sourcePartner2))
+                : null;
+        partner2 = sourcePartner2 != null && partner2Id == null ? new JsonAdaptedPerson(sourcePartner2) : null;
+
+        if (source.getGuestList() != null) {
+            for (Person guest : source.getGuestList()) {
+                int guestId = addressBook.getPersonId(guest);
+                if (guestId == ReadOnlyAddressBook.NO_ID) {
+                    guestList.add(new JsonAdaptedPerson(guest));
+                } else {
+                    guestIds.add(guestId);
+                }
+            }
+        }
+        address = (source.getAddress() != null) ? source.getAddress().toString() : null;
+        date = source.getDate();
     }
 
     /**
@@ -66,14 +135,27 @@ public class JsonAdaptedWedding {
      * @throws IllegalValueException if there were any data constraints violated in the adapted wedding.
      */
     public Wedding toModelType() throws IllegalValueException {
+        return toModelType(new AddressBook());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted wedding object into the model's {@code Wedding} object,
+     * looking up the partners and guests stored by ID in {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted wedding,
+     *     or if a person ID does not exist in {@code addressBook}.
+     */
+    public Wedding toModelType(AddressBook addressBook) throws IllegalValueException {
         // Validate wedding name
         if (!Wedding.isValidWeddingName(weddingName)) {
             throw new IllegalValueException(WeddingName.MESSAGE_CONSTRAINTS);
         }
 
         // Handle null for partner1 and partner2
-        Person modelPartner1 = (partner1 != null) ? partner1.toModelType() : null;
-        Person modelPartner2 = (partner2 != null) ? partner2.toModelType() : null;
+        Person modelPartner1 = (partner1Id != null) ? getPersonById(addressBook, partner1Id)
+                : (partner1 != null) ? partner1.toModelType() : null;
+        Person modelPartner2 = (partner2Id != null) ? getPersonById(addressBook, partner2Id)
+                : (partner2 != null) ? partner2.toModelType() : null;
 
         // Handle null or empty guestList
         ArrayList<Person> modelGuestList = new ArrayList<>();
@@ -82,6 +164,9 @@ public class JsonAdaptedWedding {
                 modelGuestList.add(guest.toModelType());
             }
         }
+        for (Integer guestId : guestIds) {
+            modelGuestList.add(getPersonById(addressBook, guestId));
+        }
 
         // Handle null for address
         Address modelAddress = (address != null) ? new Address(address) : null;
@@ -98,8 +183,20 @@ public class JsonAdaptedWedding {
     }
 
 
+    private static Person getPersonById(AddressBook addressBook, Integer id) throws IllegalValueException {
+        Person person = id == null ? null : addressBook.getPersonById(id);
+        if (person == null) {
+            throw new IllegalValueException(String.format(UNKNOWN_ID_MESSAGE_FORMAT, id));
+        }
+        return person;
+    }
+
     public String getWeddingName() {
         return weddingName;
     }
 
+    public Integer getId() {
+        return id;
+    }
+
 }
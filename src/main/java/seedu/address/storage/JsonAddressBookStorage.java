@@ -20,6 +20,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final String FORMAT = "json";
 
     private Path filePath;
 
@@ -45,6 +46,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBookFromFile(filePath);
+            isSuccessful = true;
+            return addressBook;
+        } finally {
+            event.endAndCommit(StorageEvent.OPERATION_LOAD, FORMAT, filePath, isSuccessful);
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFromFile(Path filePath) throws DataLoadingException {
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (!jsonAddressBook.isPresent()) {
@@ -73,8 +87,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        boolean isSuccessful = false;
+        try {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+            isSuccessful = true;
+        } finally {
+            event.endAndCommit(StorageEvent.OPERATION_SAVE, FORMAT, filePath, isSuccessful);
+        }
     }
 
 }
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes each record as a JSON object on its own line, keyed by the column names.
+ * A list of values is written as a JSON array.
+ */
+class JsonLinesRecordWriter implements RecordWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private final List<String> columnNames;
+    private int column;
+
+    /**
+     * Creates a {@code JsonLinesRecordWriter} that writes to {@code writer}.
+     */
+    JsonLinesRecordWriter(Writer writer, List<String> columnNames) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(writer);
+        // Records are separated by line breaks instead of the default space
+        generator.setRootValueSeparator(null);
+        this.columnNames = List.copyOf(columnNames);
+    }
+
+    @Override
+    public void writeValue(String value) throws IOException {
+        startValue();
+        generator.writeString(value);
+    }
+
+    @Override
+    public void writeValues(Iterator<String> values) throws IOException {
+        startValue();
+        generator.writeStartArray();
+        while (values.hasNext()) {
+            generator.writeString(values.next());
+        }
+        generator.writeEndArray();
+    }
+
+    private void startValue() throws IOException {
+        if (column == 0) {
+            generator.writeStartObject();
+        }
+        generator.writeFieldName(columnNames.get(column++));
+    }
+
+    @Override
+    public void endRecord() throws IOException {
+        if (column == 0) {
+            generator.writeStartObject();
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        column = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
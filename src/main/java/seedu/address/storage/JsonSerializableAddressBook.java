@@ -15,6 +15,7 @@ import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Vendor;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Deadline;
@@ -25,10 +26,13 @@ import seedu.address.model.wedding.Wedding;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Entities are saved with their IDs in the address book, and refer to each other by ID.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
+    public static final String MESSAGE_DUPLICATE_ID = "ID %d is invalid or used more than once!";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
     private final List<JsonAdaptedWedding> weddings = new ArrayList<>();
@@ -55,10 +59,20 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        tags.addAll(source.getTagList().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()));
-        weddings.addAll(source.getWeddingList().stream().map(JsonAdaptedWedding::new).collect(Collectors.toList()));
-        tasks.addAll(source.getTaskList().stream().map(this::mapToJsonAdaptedTask).collect(Collectors.toList()));;
+        persons.addAll(source.getPersonList().stream()
+                .map(person -> new JsonAdaptedPerson(person, source))
+                .collect(Collectors.toList()));
+        tags.addAll(source.getTagList().stream()
+                .map(tag -> new JsonAdaptedTag(tag, source.getTagId(tag)))
+                .collect(Collectors.toList()));
+        weddings.addAll(source.getWeddingList().stream()
+                .map(wedding -> new JsonAdaptedWedding(wedding, source))
+                .collect(Collectors.toList()));
+        for (Task task : source.getTaskList()) {
+            JsonAdaptedTask jsonAdaptedTask = mapToJsonAdaptedTask(task);
+            jsonAdaptedTask.setId(source.getTaskId(task));
+            tasks.add(jsonAdaptedTask);
+        }
     }
 
     /**
@@ -68,10 +82,12 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        loadAllPersons(addressBook);
+        // Tags and tasks are loaded first, so that persons can refer to them by ID
         loadAllTags(addressBook);
         loadAllTasks(addressBook);
+        List<Person> loadedPersons = loadAllPersons(addressBook);
         loadAllWeddings(addressBook);
+        loadWeddingIds(addressBook, loadedPersons);
         // load tags and weddings from people after loading weddings and tags, because if tag or wedding already exist,
         // method will throw an error
         for (Person person : addressBook.getPersonList()) {
@@ -86,22 +102,30 @@ class JsonSerializableAddressBook {
     /**
      * Loads all {@code Person} objects in the AddressBook
      * @param addressBook The {@code AddressBook} object to load objects into
+     * @return the loaded persons, in the same order as {@code persons}
      */
-    private void loadAllPersons(AddressBook addressBook) throws IllegalValueException {
+    private List<Person> loadAllPersons(AddressBook addressBook) throws IllegalValueException {
+        List<Person> loadedPersons = new ArrayList<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             // Each person will store blank weddings with only the wedding name at this point
-            Person person = jsonAdaptedPerson.toModelType();
+            Person person = jsonAdaptedPerson.toModelType(addressBook);
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(Messages.MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
-            if (jsonAdaptedPerson.isVendor()) {
-                addressBook.addVendor(person);
+            // A person with tasks is loaded as a vendor, even if not saved as one
+            if (jsonAdaptedPerson.hasTasks() && !person.isVendor()) {
+                person = new Vendor(person);
             }
-            if (jsonAdaptedPerson.hasTasks()) {
-                addressBook.addVendor(person);
+            Integer id = jsonAdaptedPerson.getId();
+            if (id == null) {
+                addressBook.addPerson(person);
+            } else {
+                checkIdAvailable(addressBook.getPersonById(id) == null && id >= 0, id);
+                addressBook.addPerson(person, id);
             }
+            loadedPersons.add(person);
         }
+        return loadedPersons;
     }
 
     /**
@@ -114,7 +138,13 @@ class JsonSerializableAddressBook {
             if (addressBook.hasTask(task)) {
                 throw new IllegalValueException(Messages.MESSAGE_DUPLICATE_TASK_IN_WEDLINKER);
             }
-            addressBook.addTask(task);
+            Integer id = jsonAdaptedTask.getId();
+            if (id == null) {
+                addressBook.addTask(task);
+            } else {
+                checkIdAvailable(addressBook.getTaskById(id) == null && id >= 0, id);
+                addressBook.addTask(task, id);
+            }
         }
     }
 
@@ -128,7 +158,13 @@ class JsonSerializableAddressBook {
             if (addressBook.hasTag(tag)) {
                 throw new IllegalValueException(Messages.MESSAGE_DUPLICATE_TAG);
             }
-            addressBook.addTag(tag);
+            Integer id = jsonAdaptedTag.getId();
+            if (id == null) {
+                addressBook.addTag(tag);
+            } else {
+                checkIdAvailable(addressBook.getTagById(id) == null && id >= 0, id);
+                addressBook.addTag(tag, id);
+            }
         }
     }
 
@@ -138,11 +174,17 @@ class JsonSerializableAddressBook {
      */
     private void loadAllWeddings(AddressBook addressBook) throws IllegalValueException {
         for (JsonAdaptedWedding jsonAdaptedWedding : weddings) {
-            Wedding wedding = jsonAdaptedWedding.toModelType();
+            Wedding wedding = jsonAdaptedWedding.toModelType(addressBook);
             if (addressBook.hasWedding(wedding)) {
                 throw new IllegalValueException(Messages.MESSAGE_DUPLICATE_WEDDING);
             }
-            addressBook.addWedding(wedding);
+            Integer id = jsonAdaptedWedding.getId();
+            if (id == null) {
+                addressBook.addWedding(wedding);
+            } else {
+                checkIdAvailable(addressBook.getWeddingById(id) == null && id >= 0, id);
+                addressBook.addWedding(wedding, id);
+            }
             if (wedding.hasPartner1()) {
                 addressBook.getPerson(wedding.getPartner1()).addWedding(wedding);
                 // Replaces the Wedding object's Person with the Person object from the Wedlinker
@@ -169,6 +211,28 @@ class JsonSerializableAddressBook {
         }
     }
 
+    /**
+     * Adds the weddings stored by ID in each person to the corresponding loaded person.
+     */
+    private void loadWeddingIds(AddressBook addressBook, List<Person> loadedPersons) throws IllegalValueException {
+        for (int i = 0; i < persons.size(); i++) {
+            for (Integer weddingId : persons.get(i).getWeddingIds()) {
+                Wedding wedding = weddingId == null ? null : addressBook.getWeddingById(weddingId);
+                if (wedding == null) {
+                    throw new IllegalValueException(
+                            String.format(JsonAdaptedPerson.UNKNOWN_ID_MESSAGE_FORMAT, "wedding", weddingId));
+                }
+                loadedPersons.get(i).addWedding(wedding);
+            }
+        }
+    }
+
+    private static void checkIdAvailable(boolean isAvailable, int id) throws IllegalValueException {
+        if (!isAvailable) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, id));
+        }
+    }
+
     /**
      * Adds tags to model that were in person but not in model, and makes model and
      * person store the same tags
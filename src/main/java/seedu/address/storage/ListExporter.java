@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Event;
+import seedu.address.model.task.Task;
+import seedu.address.model.wedding.Wedding;
+
+/**
+ * Writes a list of persons, weddings or tasks to a file, one record per item.
+ * Records are written through a buffered writer as they are read from the list, so only one record is held in
+ * memory at a time.
+ *
+ * @param <T> the type of the items exported.
+ */
+public class ListExporter<T> {
+
+    /** The number of records written between each report of progress. */
+    public static final int PROGRESS_INTERVAL = 5000;
+
+    public static final ListExporter<Person> PERSONS = new ListExporter<Person>()
+            .column("name", person -> person.getName().fullName)
+            .column("phone", person -> person.getPhone().value)
+            .column("email", person -> person.getEmail().value)
+            .column("address", person -> person.getAddress().value)
+            .column("vendor", person -> String.valueOf(person.isVendor()))
+            .listColumn("tags", person -> person.getTags().stream().map(tag -> tag.getTagName().toString()).iterator())
+            .listColumn("weddings", person -> person.getWeddings().stream()
+                    .map(wedding -> wedding.getWeddingName().toString()).iterator())
+            .listColumn("tasks", person -> person.getTasks().stream().map(Task::getDescription).iterator());
+
+    public static final ListExporter<Wedding> WEDDINGS = new ListExporter<Wedding>()
+            .column("name", wedding -> wedding.getWeddingName().toString())
+            .column("date", wedding -> Objects.toString(wedding.getDate(), ""))
+            .column("address", wedding -> wedding.getAddress() == null ? "" : wedding.getAddress().value)
+            .column("partner1", wedding -> wedding.hasPartner1() ? wedding.getPartner1().getName().fullName : "")
+            .column("partner2", wedding -> wedding.hasPartner2() ? wedding.getPartner2().getName().fullName : "")
+            .column("guests", wedding -> String.valueOf(wedding.getGuestCount()));
+
+    public static final ListExporter<Task> TASKS = new ListExporter<Task>()
+            .column("type", ListExporter::getTaskType)
+            .column("description", Task::getDescription)
+            .column("done", task -> String.valueOf(task.getIsDone()))
+            .column("from", task -> task instanceof Event event ? event.getFrom().getDate().toString()
+                    : task instanceof Deadline deadline ? deadline.getBy().getDate().toString() : "")
+            .column("to", task -> task instanceof Event event ? event.getTo().getDate().toString() : "");
+
+    private final List<String> columnNames = new ArrayList<>();
+    private final List<Function<T, String>> valueFunctions = new ArrayList<>();
+    private final List<Function<T, Iterator<String>>> listValueFunctions = new ArrayList<>();
+
+    private ListExporter() {}
+
+    private ListExporter<T> column(String name, Function<T, String> valueFunction) {
+        columnNames.add(name);
+        valueFunctions.add(valueFunction);
+        listValueFunctions.add(null);
+        return this;
+    }
+
+    private ListExporter<T> listColumn(String name, Function<T, Iterator<String>> listValueFunction) {
+        columnNames.add(name);
+        valueFunctions.add(null);
+        listValueFunctions.add(listValueFunction);
+        return this;
+    }
+
+    private static String getTaskType(Task task) {
+        if (task instanceof Event) {
+            return "event";
+        } else if (task instanceof Deadline) {
+            return "deadline";
+        } else {
+            return "todo";
+        }
+    }
+
+    public List<String> getColumnNames() {
+        return List.copyOf(columnNames);
+    }
+
+    /**
+     * Writes {@code items} to {@code filePath} in {@code format}, replacing the file if it exists.
+     * Parent directories are created if they are missing. The records are written to a temporary file that then
+     * replaces {@code filePath}, so an export that is cut off part way leaves no file that looks finished.
+     *
+     * @param progressListener is given the number of records written so far, every {@link #PROGRESS_INTERVAL}
+     *     records.
+     * @throws IOException if the file cannot be written.
+     */
+    public void export(List<? extends T> items, Path filePath, ExportFormat format, IntConsumer progressListener)
+            throws IOException {
+        requireAllNonNull(items, filePath, format, progressListener);
+        FileUtil.writeAtomically(filePath, file -> {
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                write(items, writer, format, progressListener);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code items} to {@code writer} in {@code format}, and closes {@code writer}.
+     */
+    public void write(List<? extends T> items, Writer writer, ExportFormat format) throws IOException {
+        requireAllNonNull(items, writer, format);
+        write(items, writer, format, unused -> {});
+    }
+
+    private void write(List<? extends T> items, Writer writer, ExportFormat format, IntConsumer progressListener)
+            throws IOException {
+        try (RecordWriter recordWriter = format.open(writer, columnNames)) {
+            int written = 0;
+            for (T item : items) {
+                writeRecord(recordWriter, item);
+                written++;
+                if (written % PROGRESS_INTERVAL == 0) {
+                    progressListener.accept(written);
+                }
+            }
+        }
+    }
+
+    private void writeRecord(RecordWriter recordWriter, T item) throws IOException {
+        requireNonNull(item);
+        for (int i = 0; i < columnNames.size(); i++) {
+            if (valueFunctions.get(i) != null) {
+                recordWriter.writeValue(valueFunctions.get(i).apply(item));
+            } else {
+                recordWriter.writeValues(listValueFunctions.get(i).apply(item));
+            }
+        }
+        recordWriter.endRecord();
+    }
+}
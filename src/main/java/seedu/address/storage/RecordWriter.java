@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Writes records, each with a value for every one of a fixed list of columns, one record at a time.
+ * The values of a record are written in the order of the columns.
+ */
+interface RecordWriter extends Closeable {
+
+    /**
+     * Writes the value of the next column of the current record.
+     */
+    void writeValue(String value) throws IOException;
+
+    /**
+     * Writes a list of values as the value of the next column of the current record.
+     */
+    void writeValues(Iterator<String> values) throws IOException;
+
+    /**
+     * Ends the current record. The next value written starts a new record.
+     */
+    void endRecord() throws IOException;
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event for the address book being read from or saved to a file.
+ */
+@Name(StorageEvent.NAME)
+@Label("Address Book Storage")
+@Category({"WedLinker", "Storage"})
+@Description("The address book read from or saved to a file")
+@StackTrace(false)
+class StorageEvent extends Event {
+
+    static final String NAME = "seedu.address.Storage";
+    static final String OPERATION_LOAD = "load";
+    static final String OPERATION_SAVE = "save";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Format")
+    private String format;
+
+    @Label("File")
+    private String path;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Successful")
+    private boolean successful;
+
+    /**
+     * Ends the event for {@code operation} on the file at {@code filePath} in {@code format}, and commits it if it is
+     * being recorded.
+     */
+    void endAndCommit(String operation, String format, Path filePath, boolean isSuccessful) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.operation = operation;
+        this.format = format;
+        path = filePath.toString();
+        successful = isSuccessful;
+        try {
+            bytes = Files.size(filePath);
+        } catch (IOException e) {
+            // The file is missing or unreadable, which the event records as a size of 0
+        }
+        commit();
+    }
+}
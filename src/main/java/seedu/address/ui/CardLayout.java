@@ -0,0 +1,103 @@
+package seedu.address.ui;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+/**
+ * Builds the parts shared by the layouts of the list cards.
+ * Cards are built in code rather than loaded from FXML, as a list creates them while it is scrolled. The nodes keep
+ * the ids and style classes that the style sheets select them by.
+ */
+final class CardLayout {
+
+    private CardLayout() {}
+
+    /**
+     * Returns an empty root for a card, with the id {@code cardPane}.
+     */
+    static HBox createCardPane() {
+        HBox cardPane = new HBox();
+        cardPane.setId("cardPane");
+        return cardPane;
+    }
+
+    /**
+     * Puts {@code content} in {@code cardPane}, in a single column that grows with the width of the list and is at
+     * least {@code prefWidth} wide.
+     */
+    static void setContent(HBox cardPane, Node content, double prefWidth) {
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(10);
+        column.setPrefWidth(prefWidth);
+
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.add(content, 0, 0);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+        cardPane.getChildren().setAll(grid);
+    }
+
+    /**
+     * Returns a column of {@code children}, with the height and padding of a full-sized card.
+     */
+    static VBox createContent(Node... children) {
+        return createContent(105, new Insets(5, 5, 5, 15), children);
+    }
+
+    /**
+     * Returns a column of {@code children}, aligned to the left and at least {@code minHeight} high.
+     */
+    static VBox createContent(double minHeight, Insets padding, Node... children) {
+        VBox content = new VBox(children);
+        content.setAlignment(Pos.CENTER_LEFT);
+        content.setMinHeight(minHeight);
+        content.setPadding(padding);
+        return content;
+    }
+
+    /**
+     * Returns a row of {@code children}, aligned to the left.
+     */
+    static HBox createRow(double spacing, Node... children) {
+        HBox row = new HBox(spacing, children);
+        row.setAlignment(Pos.CENTER_LEFT);
+        return row;
+    }
+
+    /**
+     * Returns an empty label with the style class {@code styleClass}.
+     */
+    static Label createLabel(String styleClass) {
+        Label label = new Label();
+        label.getStyleClass().add(styleClass);
+        return label;
+    }
+
+    /**
+     * Returns an empty label for the index of a card, which is never truncated.
+     */
+    static Label createIndexLabel(String styleClass) {
+        Label label = createLabel(styleClass);
+        label.setMinWidth(Region.USE_PREF_SIZE);
+        return label;
+    }
+
+    /**
+     * Returns an empty flow pane with the id {@code id}, for a row of labels such as tags.
+     */
+    static FlowPane createFlowPane(String id) {
+        FlowPane pane = new FlowPane();
+        pane.setId(id);
+        return pane;
+    }
+}
@@ -1,34 +1,59 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Commands are executed off the JavaFX application thread. The command box takes no input until the command entered
+ * has finished, and shows a spinner if it takes longer than {@link #SPINNER_DELAY}.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    /** How long a command may run before the spinner is shown, so that quick commands do not make it flicker. */
+    public static final Duration SPINNER_DELAY = Duration.millis(200);
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final PauseTransition spinnerDelay = new PauseTransition(SPINNER_DELAY);
+    private boolean isExecuting;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator commandSpinner;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // Tab completes the command word instead of moving the focus out of the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && !event.isShiftDown()) {
+                handleCompletion();
+                event.consume();
+            }
+        });
+        spinnerDelay.setOnFinished(unused -> commandSpinner.setVisible(true));
     }
 
     /**
@@ -37,18 +62,86 @@ public class CommandBox extends UiPart<Region> {
     @FXML
     private void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || isExecuting) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        enterCommand(commandText);
+    }
+
+    /**
+     * Executes {@code commandText} as if the user had typed it and pressed Enter, even if another command is executing.
+     * Returns the result of the command, which is completed once the command box takes input again.
+     */
+    public CompletionStage<CommandResult> enterCommand(String commandText) {
+        commandTextField.setText(commandText);
+        setExecuting(true);
+        return commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setExecuting(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Takes no input until {@code task} is completed, showing the spinner as for a command.
+     * {@code task} must be completed on the JavaFX application thread.
+     * Returns a stage that is completed as {@code task} is, once the command box takes input again.
+     */
+    public CompletionStage<?> waitFor(CompletionStage<?> task) {
+        setExecuting(true);
+        return task.whenComplete((unused, error) -> setExecuting(false));
+    }
+
+    /**
+     * Stops or resumes taking input while a command is executed, showing the spinner once the command has run for
+     * {@link #SPINNER_DELAY}.
+     */
+    private void setExecuting(boolean isExecuting) {
+        this.isExecuting = isExecuting;
+        commandTextField.setEditable(!isExecuting);
+        if (isExecuting) {
+            spinnerDelay.playFromStart();
+        } else {
+            spinnerDelay.stop();
+            commandSpinner.setVisible(false);
         }
     }
 
+    /**
+     * Completes the command word typed so far, if the command box holds only part of a command word.
+     * The word is completed to the longest prefix shared by every command word it could be, followed by a space if
+     * there is only one such command word.
+     */
+    private void handleCompletion() {
+        String commandText = commandTextField.getText();
+        if (isExecuting || commandText.isEmpty() || commandText.chars().anyMatch(Character::isWhitespace)) {
+            return;
+        }
+
+        List<String> completions = commandCompleter.complete(commandText);
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        String completedText = completions.size() == 1
+                ? completions.get(0) + " "
+                : getCommonPrefix(completions.get(0), completions.get(completions.size() - 1));
+        commandTextField.setText(completedText);
+        commandTextField.positionCaret(completedText.length());
+    }
+
+    private static String getCommonPrefix(String first, String second) {
+        int length = 0;
+        while (length < Math.min(first.length(), second.length()) && first.charAt(length) == second.charAt(length)) {
+            length++;
+        }
+        return first.substring(0, length);
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -75,11 +168,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns its result, which is completed on the JavaFX application
+         * thread. The result is completed exceptionally if the command fails.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletionStage<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that can complete command words.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns every command word that starts with {@code prefix}, in ascending order.
+         *
+         * @see seedu.address.logic.Logic#completeCommandWord(String)
+         */
+        List<String> complete(String prefix);
     }
 
 }
@@ -0,0 +1,128 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a list of the model for the UI to show, which is changed only on the JavaFX application thread.
+ * The model is changed by the thread that executes commands, so the UI cannot show the model's lists directly.
+ * Instead, the list is captured by that thread after each command, as snapshots of its entries, and the copy is
+ * brought up to date with the captured list on the JavaFX application thread.
+ *
+ * @param <T> the type of the entries of the list.
+ */
+class ListMirror<T> {
+
+    private final ObservableList<T> source;
+    private final UnaryOperator<T> snapshotFunction;
+    private final MirrorList<T> items = new MirrorList<>();
+    private final ObservableList<T> unmodifiableItems = FXCollections.unmodifiableObservableList(items);
+
+    /**
+     * Creates a copy of {@code source}, whose entries are snapshots made by {@code snapshotFunction}.
+     * Must be called by the thread that changes the model, before the copy is shown.
+     */
+    ListMirror(ObservableList<T> source, UnaryOperator<T> snapshotFunction) {
+        this.source = requireNonNull(source);
+        this.snapshotFunction = requireNonNull(snapshotFunction);
+        items.setAll(capture());
+    }
+
+    /**
+     * Returns the copy, which the UI may show.
+     */
+    ObservableList<T> getItems() {
+        return unmodifiableItems;
+    }
+
+    /**
+     * Returns snapshots of the entries of the source list as it is now.
+     * Must be called by the thread that changes the model.
+     */
+    List<T> capture() {
+        return source.stream().map(snapshotFunction).toList();
+    }
+
+    /**
+     * Changes the copy to hold {@code captured}, as returned by {@link #capture()}.
+     * Snapshots are shared by entries that have not changed, so only the range between the first and the last entry
+     * that is not the same snapshot is replaced, and the UI redraws only that range. The whole update is reported as
+     * one change, so a list view lays itself out once however many entries a command changed.
+     * Must be called on the JavaFX application thread.
+     */
+    void update(List<T> captured) {
+        int start = 0;
+        int oldEnd = items.size();
+        int newEnd = captured.size();
+        while (start < oldEnd && start < newEnd && items.get(start) == captured.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && items.get(oldEnd - 1) == captured.get(newEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        if (start < oldEnd || start < newEnd) {
+            items.replaceRange(start, oldEnd, captured.subList(start, newEnd));
+        }
+    }
+
+    /**
+     * An observable list whose ranges can be replaced with a single change.
+     */
+    private static class MirrorList<T> extends ModifiableObservableListBase<T> {
+        private final List<T> entries = new ArrayList<>();
+
+        /**
+         * Replaces the entries from {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+         */
+        void replaceRange(int from, int to, List<T> replacement) {
+            int replacedCount = Math.min(to - from, replacement.size());
+            beginChange();
+            try {
+                for (int i = 0; i < replacedCount; i++) {
+                    set(from + i, replacement.get(i));
+                }
+                if (to - from > replacedCount) {
+                    removeRange(from + replacedCount, to);
+                } else {
+                    addAll(from + replacedCount, replacement.subList(replacedCount, replacement.size()));
+                }
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public T get(int index) {
+            return entries.get(index);
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        protected void doAdd(int index, T element) {
+            entries.add(index, element);
+        }
+
+        @Override
+        protected T doSet(int index, T element) {
+            return entries.set(index, element);
+        }
+
+        @Override
+        protected T doRemove(int index) {
+            return entries.remove(index);
+        }
+    }
+}
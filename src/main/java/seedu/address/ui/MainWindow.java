@@ -1,9 +1,21 @@
 package seedu.address.ui;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Scene;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
@@ -13,11 +25,18 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundJob;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandResult.SwitchView;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+import seedu.address.model.wedding.Wedding;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -25,19 +44,45 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading data...";
+    public static final String MESSAGE_LOADING_FAILED = "Data could not be loaded: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
+    /** How long the application waits, when it stops, for the commands and then for the background jobs. */
+    private static final Duration STOP_TIMEOUT = Duration.ofMinutes(1);
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    /**
+     * Executes commands one at a time, off the JavaFX application thread, so that a slow command or save does not
+     * freeze the window. It is the only thread that changes the model once the window is shown.
+     * The application waits for it when it stops, so that a command and its save are not cut off.
+     */
+    private final WorkerThread commandExecutor = new WorkerThread("command-worker");
+
+    /** Runs the background jobs of commands one at a time. The application waits for them when it stops. */
+    private final WorkerThread backgroundExecutor = new WorkerThread("background-job");
+
     private Stage primaryStage;
     private Logic logic;
 
+    // Copies of the lists of the model that are shown, brought up to date after each command
+    private ListMirror<Person> persons;
+    private ListMirror<Wedding> weddings;
+    private ListMirror<Task> tasks;
+    private ListMirror<Tag> tags;
+    /** Update of the shown lists to the lists captured after the last command, or null if already applied. */
+    private final AtomicReference<Runnable> pendingListUpdate = new AtomicReference<>();
+
     // Independent Ui parts residing in this Ui container
+    // The task and tag list panels and the help window are created when they are first shown
     private PersonListPanel personListPanel;
     private WeddingListPanel weddingListPanel;
     private TaskListPanel taskListPanel;
     private TagListPanel tagListPanel;
     private ResultDisplay resultDisplay;
+    private CommandBox commandBox;
     private HelpWindow helpWindow;
 
     @FXML
@@ -78,8 +123,6 @@ public class MainWindow extends UiPart<Stage> {
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -124,10 +167,13 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        taskListPanel = new TaskListPanel(logic.getFilteredTaskList());
-        tagListPanel = new TagListPanel(logic.getFilteredTagList());
-        weddingListPanel = new WeddingListPanel(logic.getFilteredWeddingList());
+        persons = new ListMirror<>(logic.getFilteredPersonList(), Person::getSnapshot);
+        weddings = new ListMirror<>(logic.getFilteredWeddingList(), Wedding::getSnapshot);
+        tasks = new ListMirror<>(logic.getFilteredTaskList(), Task::getSnapshot);
+        tags = new ListMirror<>(logic.getFilteredTagList(), Tag::getSnapshot);
+
+        personListPanel = new PersonListPanel(persons.getItems());
+        weddingListPanel = new WeddingListPanel(weddings.getItems());
 
         personPanelPlaceholder.getChildren().add(personListPanel.getRoot());
         listPanelPlaceholder.getChildren().add(weddingListPanel.getRoot());
@@ -138,7 +184,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand, logic::completeCommandWord);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -159,6 +205,9 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -166,10 +215,78 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows the window, and logs how long after the launch of the application its first frame was drawn.
+     */
     void show() {
+        Scene scene = primaryStage.getScene();
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                logger.info("First frame shown " + ManagementFactory.getRuntimeMXBean().getUptime()
+                        + " ms after launch");
+            }
+        });
         primaryStage.show();
     }
 
+    /**
+     * Loads the data of the model with {@code dataLoader} on the command worker, and shows it once it is loaded.
+     * The command box shows its spinner and takes no commands until then.
+     * Returns a stage that is completed once the data is shown and the command box takes commands.
+     */
+    CompletionStage<?> loadData(Runnable dataLoader) {
+        CompletableFuture<Void> loaded = new CompletableFuture<>();
+        CompletionStage<?> shown = commandBox.waitFor(loaded);
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        commandExecutor.execute(() -> {
+            String feedback = "";
+            try {
+                dataLoader.run();
+            } catch (Throwable e) {
+                logger.severe("Data could not be loaded: " + StringUtil.getDetails(e));
+                feedback = String.format(MESSAGE_LOADING_FAILED, e);
+            }
+            capturePendingListUpdate();
+            String loadedFeedback = feedback;
+            Platform.runLater(() -> {
+                try {
+                    applyPendingListUpdate();
+                    resultDisplay.setFeedbackToUser(loadedFeedback);
+                    logger.info("Data shown " + ManagementFactory.getRuntimeMXBean().getUptime() + " ms after launch");
+                } finally {
+                    loaded.complete(null);
+                }
+            });
+        });
+        return shown;
+    }
+
+    /**
+     * Types the commands in {@code file} into the command box one at a time, once {@code previous} is completed, and
+     * closes the window after the last of them. Blank lines and comments are skipped as by {@link RunCommand}, and a
+     * command that fails does not stop the ones after it.
+     */
+    void typeCommands(Path file, CompletionStage<?> previous) {
+        List<String> commands;
+        try {
+            commands = Files.readAllLines(file).stream()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith(RunCommand.COMMENT_START))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.severe("Could not read the commands to type from " + file + ": " + StringUtil.getDetails(e));
+            commands = List.of();
+        }
+
+        CompletionStage<?> typed = previous;
+        for (String commandText : commands) {
+            typed = typed.handle((unused, error) -> null).thenCompose(unused -> commandBox.enterCommand(commandText));
+        }
+        typed.whenComplete((unused, error) -> handleExit());
+    }
+
     /**
      * Closes the application.
      */
@@ -177,46 +294,161 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        // Set after the commands still running, which may change the preferences too
+        commandExecutor.execute(() -> logic.setGuiSettings(guiSettings));
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
+    /**
+     * Waits for the commands still running and then for the background jobs they started, such as exports, to
+     * finish, so that the application does not stop part way through saving the data or writing a file.
+     */
+    void stop() {
+        if (!commandExecutor.stop(STOP_TIMEOUT)) {
+            logger.warning("Stopping without waiting any longer for the command being executed");
+        }
+        if (!backgroundExecutor.stop(STOP_TIMEOUT)) {
+            logger.warning("Stopping without waiting any longer for background jobs to finish");
+        }
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the command worker, and shows its result and the lists it changed once it is done.
+     * The returned result is completed on the JavaFX application thread.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    private CompletionStage<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            CommandResult commandResult = null;
+            Throwable error = null;
+            try {
+                commandResult = logic.execute(commandText);
+            } catch (Throwable e) {
+                error = e;
+            }
+            capturePendingListUpdate();
+            CommandResult finishedResult = commandResult;
+            Throwable finishedError = error;
+            Platform.runLater(() -> {
+                try {
+                    applyPendingListUpdate();
+                    if (finishedError == null) {
+                        showResult(finishedResult);
+                    } else {
+                        showError(commandText, finishedError);
+                    }
+                } finally {
+                    if (finishedError == null) {
+                        result.complete(finishedResult);
+                    } else {
+                        result.completeExceptionally(finishedError);
+                    }
+                }
+            });
+            // Started by the command worker, after its result is queued to be shown, so that the job's messages are
+            // shown after the result, and every job has been started once the command worker is stopped
+            if (commandResult != null) {
+                commandResult.getBackgroundJob().ifPresent(this::runInBackground);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Captures the lists of the model for the next update of the shown lists. A failure is logged rather than thrown,
+     * so that the command box is never left waiting for a command whose lists could not be captured.
+     */
+    private void capturePendingListUpdate() {
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            pendingListUpdate.set(captureLists());
+        } catch (RuntimeException e) {
+            logger.severe("The lists could not be captured: " + StringUtil.getDetails(e));
+        }
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    /**
+     * Captures the lists of the model on the command worker, and returns the update of the shown lists to them, to be
+     * run on the JavaFX application thread.
+     */
+    private Runnable captureLists() {
+        List<Person> capturedPersons = persons.capture();
+        List<Wedding> capturedWeddings = weddings.capture();
+        List<Task> capturedTasks = tasks.capture();
+        List<Tag> capturedTags = tags.capture();
+        return () -> {
+            persons.update(capturedPersons);
+            weddings.update(capturedWeddings);
+            tasks.update(capturedTasks);
+            tags.update(capturedTags);
+        };
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Brings the shown lists up to date with the latest lists captured, if they have not been already.
+     * When several commands finish before the JavaFX application thread gets to them, the lists are updated once, to
+     * the lists captured after the last of them, rather than once per command.
+     */
+    private void applyPendingListUpdate() {
+        Runnable updateLists = pendingListUpdate.getAndSet(null);
+        if (updateLists != null) {
+            updateLists.run();
+        }
+    }
 
-            if (commandResult.isSwitchView()) {
-                switchView(commandResult.getView());
-            }
+    /**
+     * Shows the result of a command, and acts on it.
+     */
+    private void showResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        if (commandResult.isSwitchView()) {
+            switchView(commandResult.getView());
+        }
+    }
+
+    /**
+     * Shows the error that {@code commandText} failed with.
+     */
+    private void showError(String commandText, Throwable error) {
+        if (error instanceof CommandException || error instanceof ParseException) {
             logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            resultDisplay.setFeedbackToUser(error.getMessage());
+        } else {
+            logger.severe("Command " + commandText + " failed unexpectedly: " + error);
+            resultDisplay.setFeedbackToUser(String.valueOf(error));
         }
     }
 
+    /**
+     * Runs {@code job} on the background thread, showing its progress and result in the result display.
+     * Called by the command worker.
+     */
+    private void runInBackground(BackgroundJob job) {
+        backgroundExecutor.execute(() -> {
+            String result = job.run(progress -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(progress)));
+            logger.info("Background job result: " + result);
+            Platform.runLater(() -> resultDisplay.setFeedbackToUser(result));
+        });
+    }
+
     /**
      * Switches the view shown to the user.
      * @param switchView The view that should be shown.
@@ -241,7 +473,7 @@ public class MainWindow extends UiPart<Stage> {
      * Changes the list panel to show the {@code Wedding} list.
      */
     public void changeToWeddingView() {
-        weddingListPanel.updateWeddingList(logic.getFilteredWeddingList());
+        weddingListPanel.updateWeddingList(weddings.getItems());
         entityList.getChildren().clear();
         entityList.getChildren().add(weddingListPanel.getRoot());
     }
@@ -250,7 +482,10 @@ public class MainWindow extends UiPart<Stage> {
      * Changes the list panel to show the {@code Task} list.
      */
     public void changeToTaskView() {
-        taskListPanel.updateTaskList(logic.getFilteredTaskList());
+        if (taskListPanel == null) {
+            taskListPanel = new TaskListPanel(tasks.getItems());
+        }
+        taskListPanel.updateTaskList(tasks.getItems());
         entityList.getChildren().clear();
         entityList.getChildren().add(taskListPanel.getRoot());
     }
@@ -259,7 +494,10 @@ public class MainWindow extends UiPart<Stage> {
      * Changes the list panel to show the {@code Task} list.
      */
     public void changeToTagView() {
-        tagListPanel.updateTagList(logic.getFilteredTagList());
+        if (tagListPanel == null) {
+            tagListPanel = new TagListPanel(tags.getItems());
+        }
+        tagListPanel.updateTagList(tags.getItems());
         entityList.getChildren().clear();
         entityList.getChildren().add(tagListPanel.getRoot());
     }
@@ -1,79 +1,143 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 
-import javafx.fxml.FXML;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskSummary;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ * A card is built once and can then show any person, so a list cell keeps one card and rebinds it as it scrolls.
  */
 public class PersonCard extends UiPart<Region> {
 
-    private static final String FXML = "PersonListCard.fxml";
-    private static final String COMPACT_TASK_FXML = "CompactTaskListCard.fxml";
+    /** Most tasks shown as cards; the rest of the tasks of a person are only counted. */
+    public static final int MAX_TASK_CARDS = 10;
+    public static final String MORE_TASKS_FORMAT = "+%d more (%d done, %d pending, %d overdue)";
 
-    /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
-     */
+    private static final Insets LABEL_ROW_MARGIN = new Insets(0, 0, 4, 0);
 
-    public final Person person;
+    private Person person;
 
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label phone;
-    @FXML
-    private Label address;
-    @FXML
-    private Label email;
-    @FXML
-    private FlowPane vendor;
-    @FXML
-    private FlowPane tags;
-    @FXML
-    private FlowPane weddings;
+    /** Compact cards for the tasks of the person, kept to be rebound rather than built again. */
+    private final List<TaskCard> taskCards = new ArrayList<>();
 
-    @FXML
-    private FlowPane tasks;
+    private final Label id = CardLayout.createIndexLabel("cell_big_label");
+    private final Label name = CardLayout.createLabel("cell_big_label");
+    private final Label phone = CardLayout.createLabel("cell_small_label");
+    private final Label address = CardLayout.createLabel("cell_small_label");
+    private final Label email = CardLayout.createLabel("cell_small_label");
+    private final FlowPane vendor = CardLayout.createFlowPane("vendor");
+    private final FlowPane tags = CardLayout.createFlowPane("tags");
+    private final FlowPane weddings = CardLayout.createFlowPane("weddings");
+    private final FlowPane tasks = CardLayout.createFlowPane("tasks");
+    private final Label moreTasks = CardLayout.createLabel("cell_small_label");
+
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in by {@link #bind(Person, int)}.
+     */
+    public PersonCard() {
+        this(CardLayout.createCardPane());
+    }
 
     /**
      * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(person, displayedIndex);
+    }
+
+    private PersonCard(HBox cardPane) {
+        super(cardPane);
+        VBox.setMargin(vendor, LABEL_ROW_MARGIN);
+        VBox.setMargin(tags, LABEL_ROW_MARGIN);
+        CardLayout.setContent(cardPane, CardLayout.createContent(
+                CardLayout.createRow(0.5, id, name), vendor, tags, weddings, phone, address, email, tasks), 150);
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} in this card, replacing whatever it showed before.
+     * The labels and task cards already in the card are reused, so rebinding a card builds no nodes unless the
+     * person has more tasks or tags than any person shown in it before.
+     */
+    public void bind(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.getTagName().toString()))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.getTagName().toString())));
-        person.getWeddings().stream()
-                .sorted(Comparator.comparing(wedding -> wedding.getWeddingName().toString()))
-                .forEach(wedding -> weddings.getChildren().add(new Label(wedding.getWeddingName().toString())));
-        int taskIndex = 1;
-        for (Task task : person.getTasks()) {
-            TaskCard taskCard = new TaskCard(task, taskIndex++, COMPACT_TASK_FXML);
-            tasks.getChildren().add(taskCard.getRoot());
+        setLabels(tags, person.getTags().stream()
+                .map(tag -> tag.getTagName().toString())
+                .sorted()
+                .toList());
+        setLabels(weddings, person.getWeddings().stream()
+                .map(wedding -> wedding.getWeddingName().toString())
+                .sorted()
+                .toList());
+        setLabels(vendor, person.isVendor() ? List.of("VENDOR") : List.of());
+        bindTaskCards(person);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows one label per text in {@code pane}, reusing the labels already in it.
+     */
+    private static void setLabels(FlowPane pane, List<String> texts) {
+        ObservableList<Node> labels = pane.getChildren();
+        if (labels.size() > texts.size()) {
+            labels.remove(texts.size(), labels.size());
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            if (i < labels.size()) {
+                Label label = (Label) labels.get(i);
+                label.setText(texts.get(i));
+            } else {
+                labels.add(new Label(texts.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Shows the first {@link #MAX_TASK_CARDS} tasks of {@code person} as cards, followed by the counts of the tasks
+     * of the person if there are more. The counts are kept by the person, so the rest of its tasks are not visited.
+     */
+    private void bindTaskCards(Person person) {
+        Collection<Task> personTasks = person.getTasks();
+        int shownCount = Math.min(personTasks.size(), MAX_TASK_CARDS);
+        while (taskCards.size() < shownCount) {
+            taskCards.add(new TaskCard(TaskCard.Layout.COMPACT));
+        }
+        List<Node> taskNodes = new ArrayList<>(shownCount + 1);
+        Iterator<Task> taskIterator = personTasks.iterator();
+        for (int i = 0; i < shownCount; i++) {
+            TaskCard taskCard = taskCards.get(i);
+            taskCard.bind(taskIterator.next(), i + 1);
+            taskNodes.add(taskCard.getRoot());
         }
-        if (person.isVendor()) {
-            vendor.getChildren().add(new Label("VENDOR"));
+        if (personTasks.size() > shownCount) {
+            TaskSummary summary = person.getTaskSummary();
+            moreTasks.setText(String.format(MORE_TASKS_FORMAT, personTasks.size() - shownCount,
+                    summary.getDoneCount(), summary.getPendingCount(), summary.getOverdueCount(LocalDate.now())));
+            taskNodes.add(moreTasks);
         }
+        tasks.getChildren().setAll(taskNodes);
     }
 }
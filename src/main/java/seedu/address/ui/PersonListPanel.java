@@ -37,8 +37,20 @@ public class PersonListPanel extends ListPanel<Person> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell keeps one card and rebinds it to each person it shows, instead of loading a new card each time.
      */
     class PersonListViewCell extends ListCell<Person> {
+        /** The card shown by this cell, loaded when the cell first shows a person and reused after. */
+        private PersonCard card;
+
+        /**
+         * Returns true unless both are the same snapshot, as a person is given a new snapshot whenever it changes.
+         */
+        @Override
+        protected boolean isItemChanged(Person oldItem, Person newItem) {
+            return oldItem != newItem;
+        }
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -47,7 +59,11 @@ public class PersonListPanel extends ListPanel<Person> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.bind(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
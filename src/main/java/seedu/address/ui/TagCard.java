@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -11,27 +10,44 @@ import seedu.address.model.tag.Tag;
  */
 public class TagCard extends UiPart<Region> {
 
-    private static final String FXML = "TagListCard.fxml";
+    private Tag tag;
 
-    public final Tag tag;
+    private final Label name = CardLayout.createLabel("cell_big_label");
+    private final Label id = CardLayout.createIndexLabel("cell_big_label");
 
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
+    /**
+     * Creates an empty {@code TagCard}, to be filled in by {@link #bind(Tag, int)}.
+     */
+    public TagCard() {
+        this(CardLayout.createCardPane());
+    }
 
     /**
      * Creates a {@code TagCard} with the given {@code Tag} and index to display.
      */
     public TagCard(Tag tag, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(tag, displayedIndex);
+    }
+
+    private TagCard(HBox cardPane) {
+        super(cardPane);
+        CardLayout.setContent(cardPane, CardLayout.createContent(CardLayout.createRow(0.5, id, name)), 150);
+    }
+
+    /**
+     * Shows {@code tag} at {@code displayedIndex} in this card, replacing whatever it showed before.
+     */
+    public void bind(Tag tag, int displayedIndex) {
         this.tag = tag;
         id.setText(displayedIndex + ". ");
         name.setText(tag.getTagName().toString());
     }
 
+    public Tag getTag() {
+        return tag;
+    }
+
     public Label getNameLabel() {
         return name;
     }
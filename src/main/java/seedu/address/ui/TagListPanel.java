@@ -37,8 +37,20 @@ public class TagListPanel extends ListPanel<Tag> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Tag} using a {@code TagCard}.
+     * The cell keeps one card and rebinds it to each tag it shows, instead of loading a new card each time.
      */
     class TagListViewCell extends ListCell<Tag> {
+        /** The card shown by this cell, loaded when the cell first shows a tag and reused after. */
+        private TagCard card;
+
+        /**
+         * Compares snapshots by identity, since tags are equal by name even when their counts differ.
+         */
+        @Override
+        protected boolean isItemChanged(Tag oldItem, Tag newItem) {
+            return oldItem != newItem;
+        }
+
         @Override
         protected void updateItem(Tag tag, boolean empty) {
             super.updateItem(tag, empty);
@@ -47,7 +59,11 @@ public class TagListPanel extends ListPanel<Tag> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TagCard(tag, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new TagCard();
+                }
+                card.bind(tag, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
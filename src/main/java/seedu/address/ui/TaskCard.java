@@ -1,6 +1,6 @@
 package seedu.address.ui;
 
-import javafx.fxml.FXML;
+import javafx.geometry.Insets;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -13,36 +13,76 @@ import seedu.address.model.task.Task;
  */
 public class TaskCard extends UiPart<Region> {
 
-    private static final String DEFAULT_FXML = "TaskListCard.fxml";
+    /**
+     * The layouts a {@code TaskCard} can be built with.
+     */
+    public enum Layout {
+        /** A full card, for the task list. */
+        DEFAULT,
+        /** A smaller card, for the tasks shown in a person card. */
+        COMPACT
+    }
 
-    public final Task task;
+    private Task task;
 
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label description;
-    @FXML
-    private Label id;
-    @FXML
-    private Label date;
-    @FXML
-    private Label isDone;
+    private final Label description;
+    private final Label id;
+    private final Label date = CardLayout.createLabel("cell_small_label");
+    private final Label isDone;
 
     /**
-     * Creates a {@code TaskCard} with the given {@code Task} and index to display.
-     * Uses the default FXML file (TaskListCard.fxml).
+     * Creates an empty {@code TaskCard} with the default layout.
      */
-    public TaskCard(Task task, int displayedIndex) {
-        this(task, displayedIndex, DEFAULT_FXML);
+    public TaskCard() {
+        this(Layout.DEFAULT);
     }
 
+    /**
+     * Creates an empty {@code TaskCard} with the given layout, to be filled in by {@link #bind(Task, int)}.
+     */
+    public TaskCard(Layout layout) {
+        this(CardLayout.createCardPane(), layout);
+    }
+
+    /**
+     * Creates a {@code TaskCard} with the given {@code Task} and index to display, with the default layout.
+     */
+    public TaskCard(Task task, int displayedIndex) {
+        this(task, displayedIndex, Layout.DEFAULT);
+    }
 
     /**
      * Creates a {@code TaskCard} with the given {@code Task} and index to display,
-     * using the specified FXML file.
+     * using the given layout.
+     */
+    public TaskCard(Task task, int displayedIndex, Layout layout) {
+        this(layout);
+        bind(task, displayedIndex);
+    }
+
+    private TaskCard(HBox cardPane, Layout layout) {
+        super(cardPane);
+        Label status = new Label("Status: ");
+        if (layout == Layout.COMPACT) {
+            id = CardLayout.createIndexLabel("compact_cell_small_label");
+            description = CardLayout.createLabel("compact_cell_small_label");
+            isDone = CardLayout.createLabel("cell_small_label");
+            status.getStyleClass().add("cell_small_label");
+            CardLayout.setContent(cardPane, CardLayout.createContent(80, new Insets(3, 3, 3, 10),
+                    CardLayout.createRow(2, id, description), date, CardLayout.createRow(3, status, isDone)), 300);
+        } else {
+            id = CardLayout.createIndexLabel("cell_big_label");
+            description = CardLayout.createLabel("cell_big_label");
+            isDone = CardLayout.createLabel("cell_small_label_no_color");
+            CardLayout.setContent(cardPane, CardLayout.createContent(
+                    CardLayout.createRow(0.5, id, description), date, CardLayout.createRow(5, status, isDone)), 150);
+        }
+    }
+
+    /**
+     * Shows {@code task} at {@code displayedIndex} in this card, replacing whatever it showed before.
      */
-    public TaskCard(Task task, int displayedIndex, String fxmlFileName) {
-        super(fxmlFileName);
+    public void bind(Task task, int displayedIndex) {
         this.task = task;
         id.setText(displayedIndex + ". ");
         description.setText(task.getDescription());
@@ -51,12 +91,18 @@ public class TaskCard extends UiPart<Region> {
             date.setText("By: " + ((Deadline) task).getBy().toString());
         } else if (task instanceof Event) {
             date.setText(("From: " + ((Event) task).getFrom() + " to " + ((Event) task).getTo()));
+        } else {
+            date.setText("");
         }
 
         isDone.setText(task.getIsDone() ? "Completed" : "Incomplete");
         isDone.setStyle(task.getIsDone() ? "-fx-text-fill: #008000" : "-fx-text-fill: #800020");
     }
 
+    public Task getTask() {
+        return task;
+    }
+
     public Label getDescriptionLabel() {
         return description;
     }
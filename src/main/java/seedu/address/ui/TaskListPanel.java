@@ -37,8 +37,18 @@ public class TaskListPanel extends ListPanel<Task> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
+     * The cell keeps one card and rebinds it to each task it shows, instead of loading a new card each time.
      */
     class TaskListViewCell extends ListCell<Task> {
+        /** The card shown by this cell, loaded when the cell first shows a task and reused after. */
+        private TaskCard card;
+
+        /** A new snapshot of a task means that the task has changed. */
+        @Override
+        protected boolean isItemChanged(Task oldItem, Task newItem) {
+            return oldItem != newItem;
+        }
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -47,7 +57,11 @@ public class TaskListPanel extends ListPanel<Task> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new TaskCard();
+                }
+                card.bind(task, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
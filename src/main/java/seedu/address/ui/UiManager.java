@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.nio.file.Path;
+import java.util.concurrent.CompletionStage;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -23,13 +25,26 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private Runnable dataLoader;
+    private Path typedCommandsPath;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose model is loaded by {@code dataLoader} once the
+     * main window has been shown.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, Runnable dataLoader) {
+        this(logic, dataLoader, null);
+    }
+
+    /**
+     * Creates a {@code UiManager} as above, which types the commands in the file at {@code typedCommandsPath} into
+     * the main window once the model is loaded and then closes it, unless {@code typedCommandsPath} is null.
+     */
+    public UiManager(Logic logic, Runnable dataLoader, Path typedCommandsPath) {
         this.logic = logic;
+        this.dataLoader = dataLoader;
+        this.typedCommandsPath = typedCommandsPath;
     }
 
     @Override
@@ -43,6 +58,10 @@ public class UiManager implements Ui {
             mainWindow = new MainWindow(primaryStage, logic);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            CompletionStage<?> loaded = mainWindow.loadData(dataLoader);
+            if (typedCommandsPath != null) {
+                mainWindow.typeCommands(typedCommandsPath, loaded);
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -50,6 +69,14 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop() {
+        logger.info("Stopping UI...");
+        if (mainWindow != null) {
+            mainWindow.stop();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
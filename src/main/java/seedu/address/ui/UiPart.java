@@ -17,7 +17,9 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    /** Loads the scene graph from FXML, or null if the scene graph is built in code. */
+    private FXMLLoader fxmlLoader;
+    private T builtRoot;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -51,11 +53,19 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph has been built in code, with {@code root} as its root.
+     * Parts that are created many times, such as list cards, are built this way, as loading FXML is slow.
+     */
+    protected UiPart(T root) {
+        builtRoot = requireNonNull(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return fxmlLoader == null ? builtRoot : fxmlLoader.getRoot();
     }
 
     /**
@@ -65,6 +75,7 @@ public abstract class UiPart<T> {
      */
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
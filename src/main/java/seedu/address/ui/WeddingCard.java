@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -11,38 +10,40 @@ import seedu.address.model.wedding.Wedding;
  */
 public class WeddingCard extends UiPart<Region> {
 
-    private static final String FXML = "WeddingListCard.fxml";
+    private Wedding wedding;
+
+    private final Label name = CardLayout.createLabel("cell_big_label");
+    private final Label id = CardLayout.createIndexLabel("cell_big_label");
+    private final Label partner1 = CardLayout.createLabel("cell_small_label");
+    private final Label partner2 = CardLayout.createLabel("cell_small_label");
+    private final Label address = CardLayout.createLabel("cell_small_label");
+    private final Label date = CardLayout.createLabel("cell_small_label");
 
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     * Creates an empty {@code WeddingCard}, to be filled in by {@link #bind(Wedding, int)}.
      */
-
-    public final Wedding wedding;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label partner1;
-    @FXML
-    private Label partner2;
-    @FXML
-    private Label address;
-    @FXML
-    private Label date;
+    public WeddingCard() {
+        this(CardLayout.createCardPane());
+    }
 
     /**
      * Creates a {@code WeddingCard} with the given {@code Wedding} and index to display.
      */
     public WeddingCard(Wedding wedding, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(wedding, displayedIndex);
+    }
+
+    private WeddingCard(HBox cardPane) {
+        super(cardPane);
+        CardLayout.setContent(cardPane, CardLayout.createContent(
+                CardLayout.createRow(0.5, id, name), partner1, partner2, address, date), 150);
+    }
+
+    /**
+     * Shows {@code wedding} at {@code displayedIndex} in this card, replacing whatever it showed before.
+     */
+    public void bind(Wedding wedding, int displayedIndex) {
         this.wedding = wedding;
         id.setText(displayedIndex + ". ");
         name.setText(wedding.getWeddingName().toString());
@@ -59,4 +60,8 @@ public class WeddingCard extends UiPart<Region> {
                 ? wedding.getDate()
                 : "TBC"));
     }
+
+    public Wedding getWedding() {
+        return wedding;
+    }
 }
@@ -37,8 +37,21 @@ public class WeddingListPanel extends ListPanel<Wedding> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Wedding} using a {@code WeddingCard}.
+     * The cell keeps one card and rebinds it to each wedding it shows, instead of loading a new card each time.
      */
     class WeddingListViewCell extends ListCell<Wedding> {
+        /** The card shown by this cell, loaded when the cell first shows a wedding and reused after. */
+        private WeddingCard card;
+
+        /**
+         * Returns true unless the entries are the same snapshot. A wedding given a new snapshot may still be equal to
+         * the old one, e.g. when only its guests changed.
+         */
+        @Override
+        protected boolean isItemChanged(Wedding oldItem, Wedding newItem) {
+            return oldItem != newItem;
+        }
+
         @Override
         protected void updateItem(Wedding wedding, boolean empty) {
             super.updateItem(wedding, empty);
@@ -47,7 +60,11 @@ public class WeddingListPanel extends ListPanel<Wedding> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new WeddingCard(wedding, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new WeddingCard();
+                }
+                card.bind(wedding, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
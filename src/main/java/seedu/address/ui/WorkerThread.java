@@ -0,0 +1,53 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thread that runs tasks one at a time, in the order they are given.
+ * The thread does not keep the application running by itself, so the application waits for it with
+ * {@link #stop(Duration)} before it exits, rather than have a task cut off part way through.
+ */
+class WorkerThread {
+
+    private final ExecutorService executor;
+
+    /**
+     * Creates a worker whose thread is called {@code name}. The thread is started when it is first given a task.
+     */
+    WorkerThread(String name) {
+        requireNonNull(name);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs {@code task} after the tasks given before it.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the worker has been stopped.
+     */
+    void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Takes no more tasks, and waits at most {@code timeout} for the task being run and the tasks waiting to be run
+     * to finish. Returns true if they finished in time.
+     */
+    boolean stop(Duration timeout) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -39,10 +39,74 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("run", "changes.txt");
+        expected.setScriptPath(Paths.get("changes.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("run", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validTypedCommandsPath_success() {
+        parametersStub.namedParameters.put("type", "training.txt");
+        expected.setTypedCommandsPath(Paths.get("training.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidTypedCommandsPath_success() {
+        parametersStub.namedParameters.put("type", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_serveStdin_success() {
+        parametersStub.namedParameters.put("serve", AppParameters.STDIN_SERVER);
+        expected.setServingStdin(true);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_servePort_success() {
+        parametersStub.namedParameters.put("serve", "8080");
+        expected.setServerPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidServePort_success() {
+        parametersStub.namedParameters.put("serve", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        parametersStub.namedParameters.put("serve", "port");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("my changes.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--run=my changes.txt"}));
+    }
+
+    @Test
+    public void parse_rawArgumentsNotNamed_ignored() {
+        assertEquals(expected, AppParameters.parse(new String[] {"run=changes.txt", "--=changes.txt", "--run"}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", typedCommandsPath=" + appParameters.getTypedCommandsPath()
+                + ", serverPort=" + appParameters.getServerPort()
+                + ", isServingStdin=" + appParameters.isServingStdin() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +130,24 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("changes.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different typed commands path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setTypedCommandsPath(Paths.get("training.txt"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different server -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setServerPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setServingStdin(true);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,220 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @AfterEach
+    public void tearDown() {
+        target.release();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(List.of(target), 0,
+                OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void publish_thenFlush_passedOnInOrder() {
+        handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.BLOCK);
+        target.release();
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.messages.get(i));
+        }
+        assertTrue(target.isFlushed);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.DROP);
+        handler.setLevel(Level.WARNING);
+        target.release();
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.publish(new LogRecord(Level.SEVERE, "passed on"));
+        handler.flush();
+
+        assertEquals(List.of("passed on"), target.messages);
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_infoDroppedWarningKept() throws InterruptedException {
+        handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DROP);
+        handler.publish(new LogRecord(Level.INFO, "taken by the drainer"));
+        target.awaitBlocked();
+        handler.publish(new LogRecord(Level.INFO, "queued 1"));
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        assertEquals(1, handler.getDroppedCount());
+
+        Thread warner = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "waits for space")));
+        warner.start();
+        warner.join(100);
+        assertTrue(warner.isAlive());
+
+        target.release();
+        warner.join();
+        handler.close();
+
+        assertEquals(List.of("taken by the drainer", "queued 1", "waits for space",
+                "1 log message(s) were dropped as the log queue was full."), target.messages);
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void publish_queueFullWithBlockPolicy_nothingDropped() throws InterruptedException {
+        handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.BLOCK);
+        handler.publish(new LogRecord(Level.INFO, "taken by the drainer"));
+        target.awaitBlocked();
+        handler.publish(new LogRecord(Level.INFO, "queued"));
+
+        Thread logger = new Thread(() -> handler.publish(new LogRecord(Level.FINE, "waits for space")));
+        logger.start();
+        logger.join(100);
+        assertTrue(logger.isAlive());
+
+        target.release();
+        logger.join();
+        handler.flush();
+
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(List.of("taken by the drainer", "queued", "waits for space"), target.messages);
+    }
+
+    @Test
+    public void publish_targetThrows_errorReportedAndLaterRecordsPassedOn() {
+        List<String> errors = new CopyOnWriteArrayList<>();
+        Handler failingTarget = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                throw new IllegalStateException("cannot write " + record.getMessage());
+            }
+        };
+        handler = new AsyncLogHandler(List.of(failingTarget, target), 1, OverflowPolicy.BLOCK);
+        handler.setErrorManager(new ErrorManager() {
+            @Override
+            public void error(String msg, Exception e, int code) {
+                errors.add(e.getMessage());
+            }
+        });
+        target.release();
+        handler.publish(new LogRecord(Level.WARNING, "first"));
+        handler.publish(new LogRecord(Level.WARNING, "second"));
+        handler.flush();
+
+        assertEquals(List.of("first", "second"), target.messages);
+        assertEquals(List.of("cannot write first", "cannot write second"), errors);
+    }
+
+    @Test
+    public void publish_drainerDiedWithFullQueue_droppedInsteadOfWaiting() throws InterruptedException {
+        RecordingHandler dyingTarget = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                super.publish(record);
+                if (record.getMessage().equals("kills the drainer")) {
+                    throw new AssertionError("The log writer dies.");
+                }
+            }
+        };
+        handler = new AsyncLogHandler(List.of(dyingTarget), 1, OverflowPolicy.BLOCK);
+        dyingTarget.release();
+        handler.publish(new LogRecord(Level.WARNING, "kills the drainer"));
+        handler.flush();
+        handler.publish(new LogRecord(Level.WARNING, "queued"));
+        handler.publish(new LogRecord(Level.WARNING, "dropped"));
+
+        assertEquals(1, handler.getDroppedCount());
+    }
+
+    @Test
+    public void close_recordsQueued_passedOnAndTargetsClosed() {
+        handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.DROP);
+        target.release();
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(List.of("before close"), target.messages);
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void stop_targetsLeftOpen() {
+        handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.DROP);
+        target.release();
+        handler.publish(new LogRecord(Level.INFO, "before stop"));
+        handler.stop();
+
+        assertEquals(List.of("before stop"), target.messages);
+        assertFalse(target.isClosed);
+    }
+
+    /**
+     * A handler that records the messages passed to it, and blocks the first message until released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            blocked.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            messages.add(record.getMessage());
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
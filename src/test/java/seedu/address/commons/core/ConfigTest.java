@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", logQueueCapacity=" + config.getLogQueueCapacity()
+                + ", logQueueOverflowPolicy=" + config.getLogQueueOverflowPolicy()
+                + ", commandMetricsEnabled=" + config.isCommandMetricsEnabled()
+                + ", commandMetricsFilePath=" + config.getCommandMetricsFilePath()
+                + ", commandMetricsDumpIntervalSeconds=" + config.getCommandMetricsDumpIntervalSeconds() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,36 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_unquotedFields_trimmed() {
+        assertEquals(List.of("Alice", "12345", ""), CsvUtil.parseLine(" Alice , 12345,"));
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+    }
+
+    @Test
+    public void parseLine_quotedFields_unescaped() {
+        assertEquals(List.of("Tan, Alice", "say \"hi\"", " padded "),
+                CsvUtil.parseLine("\"Tan, Alice\",\"say \"\"hi\"\"\" , \" padded \""));
+    }
+
+    @Test
+    public void parseLine_malformedQuotes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.parseLine("\"unclosed,field"));
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.parseLine("\"quoted\"trailing,field"));
+    }
+
+    @Test
+    public void toLine_roundTrips() {
+        List<String> fields = List.of("plain", "with, comma", "with \"quote\"", " padded ", "");
+        assertEquals("plain,\"with, comma\",\"with \"\"quote\"\"\",\" padded \",", CsvUtil.toLine(fields));
+        assertEquals(fields, CsvUtil.parseLine(CsvUtil.toLine(fields)));
+    }
+}
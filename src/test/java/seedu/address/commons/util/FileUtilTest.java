@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,46 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_success_fileReplaced() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeAtomically(file, tempFile -> Files.writeString(tempFile, "old"));
+
+        FileUtil.writeAtomically(file, tempFile -> Files.writeString(tempFile, "new"));
+
+        assertEquals("new", Files.readString(file));
+        assertEquals(List.of(file), listFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_writeFailsPartWay_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Files.writeString(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, tempFile -> {
+            Files.writeString(tempFile, "part of the new");
+            throw new IOException("Disk full");
+        }));
+
+        assertEquals("old", Files.readString(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    @Test
+    public void writeToFile_existingFile_replacedWithNoTemporaryFileLeft() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        Files.writeString(file, "{ \"old\" : true }");
+
+        FileUtil.writeToFile(file, "{}");
+
+        assertEquals("{}", FileUtil.readFromFile(file));
+        assertEquals(List.of(file), listFiles(testFolder));
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -211,6 +212,19 @@ public class StringUtilTest {
     }
 
 
+    //---------------- Tests for toCaseInsensitiveKey --------------------------------------
+
+    @Test
+    public void toCaseInsensitiveKey_differentCase_sameKey() {
+        assertEquals(StringUtil.toCaseInsensitiveKey("Florist"), StringUtil.toCaseInsensitiveKey("FLORIST"));
+        assertEquals("title", StringUtil.toCaseInsensitiveKey("TITLE"));
+    }
+
+    @Test
+    public void toCaseInsensitiveKey_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toCaseInsensitiveKey(null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
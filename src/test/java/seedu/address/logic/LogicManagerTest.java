@@ -1,26 +1,34 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_NOTHING_TO_PERFORM_ON;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.recordEvents;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.person.AddCommand;
 import seedu.address.logic.commands.person.ListCommand;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -40,6 +48,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private final Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -47,7 +56,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -81,6 +90,73 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandThrowsError_rolledBackAndLaterCommandsRun() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                super.addPerson(person);
+                throw new AssertionError("dummy assertion error");
+            }
+        };
+        logic = new LogicManager(failingModel, storage);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+
+        assertThrows(AssertionError.class, () -> logic.execute(addCommand));
+        assertEquals(new ModelManager(), failingModel);
+
+        // The transaction was closed, so the next command can open its own
+        assertEquals(Messages.MESSAGE_LIST_PERSON_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_metricsEnabled_phasesRecordedPerCommandWord() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.setEnabled(true);
+        logic = new LogicManager(model, storage, metrics);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("  " + ListCommand.COMMAND_WORD + " 3");
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(2, metrics.getCount(ListCommand.COMMAND_WORD));
+        assertEquals(2, metrics.getDurations(ListCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        // The failed command is recorded up to the phase it failed in
+        assertEquals(1, metrics.getCount("delete"));
+        assertEquals(0, metrics.getDurations("delete", Phase.SAVE).getCount());
+        assertEquals(0, metrics.getCount("uicfhmowqewca"));
+    }
+
+    @Test
+    public void execute_flightRecorderEventsCommitted() throws Exception {
+        model.addPerson(AMY);
+        List<RecordedEvent> events = recordEvents(CommandEvent.NAME, () -> {
+            logic.execute("  " + ListCommand.COMMAND_WORD + " 3");
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent list = events.get(0);
+        assertEquals(ListCommand.COMMAND_WORD, list.getString("commandWord"));
+        assertTrue(list.getBoolean("successful"));
+        assertEquals(1, list.getInt("personCount"));
+        assertEquals("uicfhmowqewca", events.get(1).getString("commandWord"));
+        assertFalse(events.get(1).getBoolean("successful"));
+    }
+
+    @Test
+    public void execute_metricsDisabled_nothingRecorded() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        logic = new LogicManager(model, storage, metrics);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(0, metrics.getCount(ListCommand.COMMAND_WORD));
+        assertNull(metrics.getDurations(ListCommand.COMMAND_WORD, Phase.PARSE));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -91,6 +167,12 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredWeddingList().remove(0));
     }
 
+    @Test
+    public void completeCommandWord() {
+        assertEquals(List.of("list", "list-tags", "list-tasks", "list-weddings"), logic.completeCommandWord("lis"));
+        assertEquals(List.of(), logic.completeCommandWord("unknown"));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand.Target;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.storage.ExportFormat;
+import seedu.address.storage.ListExporter;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_personsToCsv_writesFilteredPersons() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        Person firstPerson = model.getFilteredPersonList().get(0);
+        model.updateFilteredPersonList(person -> person.isSamePerson(firstPerson));
+
+        String result = runExport(new ExportCommand(Target.PERSONS, file, ExportFormat.CSV));
+
+        assertEquals(String.format(Messages.MESSAGE_EXPORT_SUCCESS, 1, "persons", file), result);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertEquals(ListExporter.PERSONS.getColumnNames(), CsvUtil.parseLine(lines.get(0)));
+        List<String> fields = CsvUtil.parseLine(lines.get(1));
+        assertEquals(firstPerson.getName().fullName, fields.get(0));
+        assertEquals(firstPerson.getPhone().value, fields.get(1));
+        assertEquals(String.valueOf(firstPerson.isVendor()), fields.get(4));
+    }
+
+    @Test
+    public void execute_weddingsToJsonLines_writesOneObjectPerLine() throws Exception {
+        Path file = testFolder.resolve("export").resolve("weddings.jsonl");
+
+        String result = runExport(new ExportCommand(Target.WEDDINGS, file, ExportFormat.JSON_LINES));
+
+        List<Wedding> weddings = model.getFilteredWeddingList();
+        assertEquals(String.format(Messages.MESSAGE_EXPORT_SUCCESS, weddings.size(), "weddings", file), result);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(weddings.size(), lines.size());
+        ObjectMapper mapper = new ObjectMapper();
+        for (int i = 0; i < weddings.size(); i++) {
+            JsonNode record = mapper.readTree(lines.get(i));
+            assertEquals(weddings.get(i).getWeddingName().toString(), record.get("name").asText());
+            assertEquals(String.valueOf(weddings.get(i).getGuestCount()), record.get("guests").asText());
+        }
+    }
+
+    @Test
+    public void execute_tasksToJsonLines_writesTaskTypes() throws Exception {
+        Path file = testFolder.resolve("tasks.jsonl");
+
+        runExport(new ExportCommand(Target.TASKS, file, ExportFormat.JSON_LINES));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(model.getFilteredTaskList().size(), lines.size());
+        JsonNode record = new ObjectMapper().readTree(lines.get(0));
+        assertEquals(model.getFilteredTaskList().get(0).getDescription(), record.get("description").asText());
+        assertTrue(List.of("todo", "deadline", "event").contains(record.get("type").asText()));
+    }
+
+    @Test
+    public void execute_modelChangedAfterCommand_snapshotWritten() throws Exception {
+        Path file = testFolder.resolve("persons.csv");
+        int personCount = model.getFilteredPersonList().size();
+
+        CommandResult commandResult = new ExportCommand(Target.PERSONS, file, ExportFormat.CSV).execute(model);
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        commandResult.getBackgroundJob().get().run(progress -> { });
+
+        assertEquals(personCount + 1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_unwritableFile_reportsFailure() throws Exception {
+        Path directory = Files.createDirectory(testFolder.resolve("directory.csv"));
+
+        String result = runExport(new ExportCommand(Target.PERSONS, directory, ExportFormat.CSV));
+
+        assertTrue(result.startsWith(String.format(Messages.MESSAGE_EXPORT_FAILURE, "persons", directory, "")));
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("persons.csv");
+        ExportCommand command = new ExportCommand(Target.PERSONS, file, ExportFormat.CSV);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ExportCommand(Target.PERSONS, file, ExportFormat.CSV)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ExportCommand(Target.TASKS, file, ExportFormat.CSV)));
+        assertFalse(command.equals(new ExportCommand(Target.PERSONS, file, ExportFormat.JSON_LINES)));
+        assertFalse(command.equals(new ExportCommand(Target.PERSONS, testFolder.resolve("other.csv"),
+                ExportFormat.CSV)));
+    }
+
+    /**
+     * Executes {@code command} and runs its background job, returning the job's result.
+     */
+    private String runExport(ExportCommand command) {
+        CommandResult commandResult = command.execute(model);
+        assertTrue(commandResult.getFeedbackToUser().startsWith("Exporting"));
+        List<String> progress = new ArrayList<>();
+        String result = commandResult.getBackgroundJob().orElseThrow().run(progress::add);
+        assertTrue(progress.isEmpty()); // the typical lists are shorter than the progress interval
+        return result;
+    }
+}
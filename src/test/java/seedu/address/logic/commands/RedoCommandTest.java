@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_noUndoneChanges_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), new ModelManager(), Messages.MESSAGE_REDO_FAILURE);
+    }
+
+    @Test
+    public void execute_changeUndone_changeReapplied() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+        model.commitTransaction();
+        model.undoAddressBook();
+
+        assertCommandSuccess(new RedoCommand(), model, Messages.MESSAGE_REDO_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_newChangeAfterUndo_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+        model.commitTransaction();
+        model.undoAddressBook();
+
+        model.beginTransaction();
+        model.setAddressBook(new ModelManager().getAddressBook());
+        model.commitTransaction();
+
+        assertCommandFailure(new RedoCommand(), model, Messages.MESSAGE_REDO_FAILURE);
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.person.AddCommand;
+import seedu.address.logic.commands.person.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+    }
+
+    @Test
+    public void execute_validFile_allCommandsRun() throws Exception {
+        Path file = writeFile("# guests to add", PersonUtil.getAddCommand(ALICE), "",
+                "  " + PersonUtil.getAddCommand(BOB), ListCommand.COMMAND_WORD);
+
+        CommandResult result = new RunCommand(file).execute(model);
+
+        String[] feedback = result.getFeedbackToUser().split("\n");
+        assertTrue(feedback[0].startsWith("Ran 3 command(s) from " + file + " in "));
+        assertEquals(String.format(Messages.MESSAGE_RUN_LINE_RESULT, 2,
+                String.format(Messages.MESSAGE_ADD_PERSON_SUCCESS, Messages.format(ALICE))), feedback[1]);
+        assertEquals(String.format(Messages.MESSAGE_RUN_LINE_RESULT, 5, Messages.MESSAGE_LIST_PERSON_SUCCESS),
+                feedback[3]);
+        assertEquals(List.of(ALICE, BOB), model.getFilteredPersonList());
+        assertTrue(result.getBackgroundJob().isEmpty());
+    }
+
+    @Test
+    public void execute_moreLinesThanParseAhead_allCommandsRunInOrder() throws Exception {
+        List<String> lines = new ArrayList<>();
+        int personCount = RunCommand.PARSE_AHEAD * 3;
+        for (int i = 0; i < personCount; i++) {
+            lines.add(PersonUtil.getAddCommand(new PersonBuilder().withName("Guest " + i).build()));
+        }
+        Path file = writeFile(lines.toArray(String[]::new));
+
+        new RunCommand(file).execute(model);
+
+        assertEquals(personCount, model.getFilteredPersonList().size());
+        assertEquals("Guest " + (personCount - 1),
+                model.getFilteredPersonList().get(personCount - 1).getName().fullName);
+    }
+
+    @Test
+    public void execute_emptyFile_noCommandsRun() throws Exception {
+        Path file = writeFile("# nothing yet");
+        CommandResult result = new RunCommand(file).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 0 command(s)"));
+    }
+
+    @Test
+    public void execute_failingCommand_throwsCommandException() throws Exception {
+        AddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        Path file = writeFile(PersonUtil.getAddCommand(ALICE), PersonUtil.getAddCommand(ALICE),
+                PersonUtil.getAddCommand(BOB));
+
+        model.beginTransaction();
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_RUN_LINE_FAILURE, 2, file,
+                Messages.MESSAGE_DUPLICATE_PERSON), () -> new RunCommand(file).execute(model));
+        model.rollbackTransaction();
+
+        assertEquals(originalAddressBook, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_invalidCommand_throwsCommandException() throws Exception {
+        Path file = writeFile(PersonUtil.getAddCommand(ALICE), AddCommand.COMMAND_WORD + " 1");
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_RUN_LINE_FAILURE, 2, file,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddCommand.MESSAGE_USAGE)), () ->
+                new RunCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_undoInFile_throwsCommandException() throws Exception {
+        Path file = writeFile(PersonUtil.getAddCommand(ALICE), UndoCommand.COMMAND_WORD);
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_RUN_LINE_FAILURE, 2, file,
+                Messages.MESSAGE_RUN_COMMAND_NOT_ALLOWED), () -> new RunCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(file), model, String.format(Messages.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void execute_undone_allCommandsUndone() throws Exception {
+        AddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        Path file = writeFile(PersonUtil.getAddCommand(ALICE), PersonUtil.getAddCommand(BOB));
+
+        model.beginTransaction();
+        new RunCommand(file).execute(model);
+        model.commitTransaction();
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+
+        model.undoAddressBook();
+        assertEquals(originalAddressBook, model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_export_exportsAfterAllCommands() throws Exception {
+        Path exportFile = testFolder.resolve("persons.csv");
+        Path file = writeFile(PersonUtil.getAddCommand(ALICE),
+                ExportCommand.COMMAND_WORD + " persons " + exportFile);
+
+        CommandResult result = new RunCommand(file).execute(model);
+
+        assertFalse(Files.exists(exportFile));
+        String jobResult = result.getBackgroundJob().get().run(progress -> {});
+        assertEquals(String.format(Messages.MESSAGE_EXPORT_SUCCESS, 1, "persons", exportFile), jobResult);
+        assertEquals(2, Files.readAllLines(exportFile).size());
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("commands.txt");
+        RunCommand command = new RunCommand(file);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new RunCommand(testFolder.resolve("commands.txt"))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ClearCommand()));
+        assertFalse(command.equals(new RunCommand(testFolder.resolve("other.txt"))));
+    }
+
+    private Path writeFile(String... lines) throws IOException {
+        Path file = testFolder.resolve("commands.txt");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
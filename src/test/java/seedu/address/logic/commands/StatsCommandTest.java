@@ -0,0 +1,27 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_metricsDisabled_showsHowToEnable() {
+        assertCommandSuccess(new StatsCommand(new CommandMetrics()), model, StatsCommand.MESSAGE_METRICS_DISABLED,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_nothingMeasured_showsNoCommands() {
+        CommandMetrics metrics = new CommandMetrics();
+        metrics.setEnabled(true);
+        assertCommandSuccess(new StatsCommand(metrics), model, CommandMetrics.MESSAGE_NO_COMMANDS, expectedModel);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), new ModelManager(), Messages.MESSAGE_UNDO_FAILURE);
+    }
+
+    @Test
+    public void execute_changeMade_changeReverted() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+        model.commitTransaction();
+
+        assertCommandSuccess(new UndoCommand(), model, Messages.MESSAGE_UNDO_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_allChangesUndone_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+        model.commitTransaction();
+        model.undoAddressBook();
+
+        assertCommandFailure(new UndoCommand(), model, Messages.MESSAGE_UNDO_FAILURE);
+    }
+}
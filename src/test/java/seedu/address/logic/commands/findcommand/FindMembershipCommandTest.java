@@ -0,0 +1,107 @@
+package seedu.address.logic.commands.findcommand;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.MembershipQuery;
+import seedu.address.model.person.keywordspredicate.TagContainsKeywordsPredicate;
+import seedu.address.model.person.keywordspredicate.WeddingContainsKeywordsPredicate;
+
+public class FindMembershipCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        TagContainsKeywordsPredicate florist = prepareTagPredicate("florist");
+        TagContainsKeywordsPredicate photographer = prepareTagPredicate("photographer");
+
+        FindMembershipCommand findFloristCommand = new FindMembershipCommand(florist, null, null, null, false);
+        FindMembershipCommand findPhotographerCommand =
+                new FindMembershipCommand(photographer, null, null, null, false);
+
+        // same object -> returns true
+        assertTrue(findFloristCommand.equals(findFloristCommand));
+
+        // same values -> returns true
+        assertTrue(findFloristCommand.equals(new FindMembershipCommand(florist, null, null, null, false)));
+
+        // different types -> returns false
+        assertFalse(findFloristCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFloristCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(findFloristCommand.equals(findPhotographerCommand));
+
+        // different vendor filter -> returns false
+        assertFalse(findFloristCommand.equals(new FindMembershipCommand(florist, null, null, null, null)));
+    }
+
+    @Test
+    public void execute_tagAndNotWedding_personFound() {
+        TagContainsKeywordsPredicate photographer = prepareTagPredicate("photographer");
+        WeddingContainsKeywordsPredicate weddingTwo =
+                new WeddingContainsKeywordsPredicate(Collections.singletonList("Wedding 2"));
+        FindMembershipCommand command = new FindMembershipCommand(photographer, null, null, weddingTwo, null);
+        String expectedMessage = String.format(Messages.MESSAGE_FIND_MEMBERSHIP_PERSON_SUCCESS,
+                "with tag \"photographer\", not in wedding \"Wedding 2\"");
+        expectedModel.updateFilteredPersonListByMembership(
+                new MembershipQuery(photographer, null, null, weddingTwo, null));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_notTaggedVendor_personFound() {
+        TagContainsKeywordsPredicate florist = prepareTagPredicate("florist");
+        FindMembershipCommand command = new FindMembershipCommand(null, florist, null, null, true);
+        String expectedMessage = String.format(Messages.MESSAGE_FIND_MEMBERSHIP_PERSON_SUCCESS,
+                "without tag \"florist\", a vendor");
+        expectedModel.updateFilteredPersonListByMembership(new MembershipQuery(null, florist, null, null, true));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagAndVendor_noPersonFound() {
+        TagContainsKeywordsPredicate florist = prepareTagPredicate("florist");
+        FindMembershipCommand command = new FindMembershipCommand(florist, null, null, null, true);
+        expectedModel.updateFilteredPersonListByMembership(new MembershipQuery(florist, null, null, null, true));
+        assertCommandSuccess(command, model, Messages.MESSAGE_FIND_PERSON_UNSUCCESSFUL, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_notVendor_nonVendorsFound() {
+        FindMembershipCommand command = new FindMembershipCommand(prepareTagPredicate("florist"), null, null, null,
+                false);
+        model.updateFilteredPersonList(unused -> true);
+        command.execute(model);
+        assertFalse(model.getFilteredPersonList().contains(CARL));
+        assertTrue(model.getFilteredPersonList().contains(DANIEL));
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code TagContainsKeywordsPredicate}.
+     */
+    private TagContainsKeywordsPredicate prepareTagPredicate(String userInput) {
+        return new TagContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.logic.commands.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -63,4 +66,20 @@ public class AddCommandIntegrationTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_personExistingWeddingAndTag_usesModelInstances() throws Exception {
+        Tag modelTag = new Tag(new TagName("caterer"));
+        Wedding modelWedding = new Wedding(new WeddingName("Summer Wedding"));
+        model.addTag(modelTag);
+        model.addWedding(modelWedding);
+        Person validPerson = new PersonBuilder().withTags("Caterer").withWeddings("summer wedding").build();
+
+        new AddCommand(validPerson).execute(model);
+
+        assertEquals(1, modelTag.getTagCount());
+        assertTrue(modelWedding.hasPerson(validPerson));
+        assertSame(modelTag, validPerson.getTags().iterator().next());
+        assertSame(modelWedding, validPerson.getWeddings().iterator().next());
+    }
+
 }
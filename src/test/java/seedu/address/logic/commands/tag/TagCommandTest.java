@@ -1,7 +1,9 @@
 package seedu.address.logic.commands.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandTestUtil;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -28,6 +31,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagName;
+import seedu.address.testutil.PersonBuilder;
 
 public class TagCommandTest {
 
@@ -222,4 +226,57 @@ public class TagCommandTest {
         // Comparing with itself -> should be equal
         assertEquals(tagCommand1, tagCommand1);
     }
+
+    @Test
+    public void execute_allShown_tagsShownPersonsWithoutTag() throws Exception {
+        Model bulkModel = new ModelManager();
+        Tag fiddler = new Tag(new TagName("fiddler"), 1);
+        bulkModel.addTag(fiddler);
+        Person untagged = new PersonBuilder().withName("Untagged Person").build();
+        Person tagged = new PersonBuilder().withName("Tagged Person").withTags("fiddler").build();
+        Person hidden = new PersonBuilder().withName("Hidden Person").build();
+        bulkModel.addPerson(untagged);
+        bulkModel.addPerson(tagged);
+        bulkModel.addPerson(hidden);
+        bulkModel.updateFilteredPersonList(person -> !person.isSamePerson(hidden));
+
+        bulkModel.beginTransaction();
+        CommandResult result = TagCommand.forAllShown(new HashSet<>(List.of(fiddler)), false).execute(bulkModel);
+        bulkModel.commitTransaction();
+
+        assertEquals(String.format(Messages.MESSAGE_ASSIGN_TAG_SUCCESS, "fiddler",
+                String.format(Messages.MESSAGE_PERSON_COUNT, 1)), result.getFeedbackToUser());
+        assertTrue(bulkModel.getPerson(untagged).hasTag(fiddler));
+        assertFalse(bulkModel.getPerson(hidden).hasTag(fiddler));
+        assertEquals(2, fiddler.getNumberOfPersonsTagged());
+        assertEquals(2, bulkModel.getFilteredPersonList().size());
+
+        bulkModel.undoAddressBook();
+        assertFalse(bulkModel.getPerson(untagged).hasTag(fiddler));
+        assertEquals(1, fiddler.getNumberOfPersonsTagged());
+    }
+
+    @Test
+    public void execute_allShownAlreadyTagged_failure() {
+        Model bulkModel = new ModelManager();
+        Tag fiddler = new Tag(new TagName("fiddler"), 1);
+        bulkModel.addTag(fiddler);
+        bulkModel.addPerson(new PersonBuilder().withName("Tagged Person").withTags("fiddler").build());
+
+        CommandTestUtil.assertCommandFailure(TagCommand.forAllShown(new HashSet<>(List.of(fiddler)), false),
+                bulkModel, Messages.MESSAGE_ALL_SHOWN_ALREADY_TAGGED);
+    }
+
+    @Test
+    public void execute_allShownForceNewTag_tagCreated() throws Exception {
+        Model bulkModel = new ModelManager();
+        bulkModel.addPerson(new PersonBuilder().withName("First Person").build());
+        bulkModel.addPerson(new PersonBuilder().withName("Second Person").build());
+        Tag fiddler = new Tag(new TagName("fiddler"));
+
+        TagCommand.forAllShown(new HashSet<>(List.of(fiddler)), true).execute(bulkModel);
+
+        assertEquals(2, bulkModel.getTag(fiddler).getNumberOfPersonsTagged());
+        assertTrue(bulkModel.getFilteredPersonList().stream().allMatch(person -> person.hasTag(fiddler)));
+    }
 }
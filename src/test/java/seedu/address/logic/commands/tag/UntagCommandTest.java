@@ -1,5 +1,8 @@
 package seedu.address.logic.commands.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.CommandTestUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.tag.UntagCommandParser;
@@ -26,6 +30,7 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagName;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.WeddingName;
+import seedu.address.testutil.PersonBuilder;
 
 public class UntagCommandTest {
 
@@ -150,4 +155,37 @@ public class UntagCommandTest {
 
         CommandTestUtil.assertCommandFailure(untagCommand, model, expectedMessage);
     }
+
+    @Test
+    public void execute_allShown_untagsShownPersonsWithTag() throws Exception {
+        Model bulkModel = new ModelManager();
+        Tag fiddler = new Tag(new TagName("fiddler"), 3);
+        bulkModel.addTag(fiddler);
+        Person first = new PersonBuilder().withName("First Person").withTags("fiddler").build();
+        Person second = new PersonBuilder().withName("Second Person").withTags("fiddler").build();
+        Person untagged = new PersonBuilder().withName("Untagged Person").build();
+        Person hidden = new PersonBuilder().withName("Hidden Person").withTags("fiddler").build();
+        List.of(first, second, untagged, hidden).forEach(bulkModel::addPerson);
+        bulkModel.updateFilteredPersonList(person -> !person.isSamePerson(hidden));
+
+        CommandResult result = UntagCommand.forAllShown(new HashSet<>(List.of(fiddler))).execute(bulkModel);
+
+        assertEquals(String.format(Messages.MESSAGE_REMOVE_TAG_SUCCESS, "fiddler",
+                String.format(Messages.MESSAGE_PERSON_COUNT, 2)), result.getFeedbackToUser());
+        assertFalse(bulkModel.getPerson(first).hasTag(fiddler));
+        assertFalse(bulkModel.getPerson(second).hasTag(fiddler));
+        assertTrue(bulkModel.getPerson(hidden).hasTag(fiddler));
+        assertEquals(1, fiddler.getNumberOfPersonsTagged());
+    }
+
+    @Test
+    public void execute_allShownWithoutTag_failure() {
+        Model bulkModel = new ModelManager();
+        Tag fiddler = new Tag(new TagName("fiddler"));
+        bulkModel.addTag(fiddler);
+        bulkModel.addPerson(new PersonBuilder().withName("Untagged Person").build());
+
+        CommandTestUtil.assertCommandFailure(UntagCommand.forAllShown(new HashSet<>(List.of(fiddler))),
+                bulkModel, Messages.MESSAGE_TAGS_NOT_FOUND_IN_SHOWN);
+    }
 }
@@ -1,7 +1,9 @@
 package seedu.address.logic.commands.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
@@ -146,4 +148,35 @@ public class AssignTaskCommandTest {
                 Set.of(INDEX_FIRST, INDEX_SECOND));
         assertEquals(commandWithMultipleTasks, commandWithMultipleTasksCopy);
     }
+
+    @Test
+    public void execute_allShown_assignsTaskToShownVendors() throws Exception {
+        Person vendor = new PersonBuilder().withName("Vendor Person").build();
+        Person otherVendor = new PersonBuilder().withName("Other Vendor").build();
+        Person guest = new PersonBuilder().withName("Guest Person").build();
+        List.of(vendor, otherVendor, guest).forEach(model::addPerson);
+        model.assignVendor(vendor);
+        model.assignVendor(otherVendor);
+
+        Task taskToAssign = model.getFilteredTaskList().get(INDEX_FIRST.getZeroBased());
+        CommandResult result = AssignTaskCommand.forAllShown(Set.of(INDEX_FIRST)).execute(model);
+
+        String addedTasks = taskToAssign.toString().replaceAll("[\\[\\]]", "");
+        assertEquals(String.format(Messages.MESSAGE_ASSIGN_TASK_SUCCESS, addedTasks,
+                String.format(Messages.MESSAGE_PERSON_COUNT, 2)), result.getFeedbackToUser());
+        assertTrue(model.getPerson(vendor).hasTask(taskToAssign));
+        assertTrue(model.getPerson(otherVendor).hasTask(taskToAssign));
+        assertFalse(model.getPerson(guest).hasTask(taskToAssign));
+
+        assertThrows(CommandException.class, Messages.MESSAGE_ALL_SHOWN_ALREADY_HAVE_TASKS, () ->
+                AssignTaskCommand.forAllShown(Set.of(INDEX_FIRST)).execute(model));
+    }
+
+    @Test
+    public void execute_allShownWithoutVendors_throwsCommandException() {
+        model.addPerson(new PersonBuilder().withName("Guest Person").build());
+        AssignTaskCommand command = AssignTaskCommand.forAllShown(Set.of(INDEX_FIRST));
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_NOTHING_TO_PERFORM_ON, "vendors",
+                AssignTaskCommand.COMMAND_WORD), () -> command.execute(model));
+    }
 }
@@ -22,6 +22,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.person.Person;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
 import seedu.address.testutil.PersonBuilder;
 
 public class TaskStatusModifierTest {
@@ -108,6 +109,27 @@ public class TaskStatusModifierTest {
         }
     }
 
+    @Test
+    public void modifyTasks_personNotShown_updated() throws Exception {
+        Task taskToMark = new Todo("call vendors");
+        model.addTask(taskToMark);
+        Index index = Index.fromZeroBased(model.getFilteredTaskList().size() - 1);
+        Person hiddenPerson = new PersonBuilder().withName("hidden").withTasks("todo: call vendors").build();
+        model.addPerson(hiddenPerson);
+        model.assignVendor(hiddenPerson);
+        model.updateFilteredPersonList(unused -> false);
+        TaskStatusModifier modifier = new TaskStatusModifier(Set.of(index), true);
+
+        modifier.modifyTasks(model);
+
+        Person updatedPerson = model.getAddressBook().getPersonList().stream()
+                .filter(hiddenPerson::isSamePerson)
+                .findFirst()
+                .orElseThrow();
+        assertTrue(updatedPerson.getTask(taskToMark).getIsDone());
+        assertEquals(1, updatedPerson.getTaskSummary().getDoneCount());
+    }
+
     @Test
     public void modifyTasks_unmarkTasks_success() throws Exception {
         TaskStatusModifier modifier = new TaskStatusModifier(Set.of(INDEX_FIRST), false);
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands.wedding;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -13,6 +14,7 @@ import static seedu.address.testutil.TypicalWeddings.CLIVE_WEDDING;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -31,6 +33,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Vendor;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.WeddingName;
+import seedu.address.testutil.PersonBuilder;
 
 public class AssignWeddingCommandTest {
     private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -183,4 +186,35 @@ public class AssignWeddingCommandTest {
         assertTrue(model.getWedding(BOB_WEDDING).hasPerson(vendor));
     }
 
+    @Test
+    public void execute_allShown_addsShownPersonsAsGuests() throws Exception {
+        Model bulkModel = new ModelManager();
+        Wedding wedding = new Wedding(new WeddingName("Bulk Wedding"));
+        bulkModel.addWedding(wedding);
+        Person first = new PersonBuilder().withName("First Person").build();
+        Person second = new PersonBuilder().withName("Second Person").build();
+        Person hidden = new PersonBuilder().withName("Hidden Person").build();
+        List.of(first, second, hidden).forEach(bulkModel::addPerson);
+        bulkModel.updateFilteredPersonList(person -> !person.isSamePerson(hidden));
+
+        CommandResult result = AssignWeddingCommand.forAllShown(Map.of(wedding, "g"), false).execute(bulkModel);
+
+        assertEquals(String.format(Messages.MESSAGE_ASSIGN_WEDDING_SUCCESS, "Bulk Wedding",
+                String.format(Messages.MESSAGE_PERSON_COUNT, 2)), result.getFeedbackToUser());
+        Wedding modelWedding = bulkModel.getWedding(wedding);
+        assertEquals(List.of("First Person", "Second Person"), modelWedding.getGuestList().stream()
+                .map(guest -> guest.getName().fullName).toList());
+        assertTrue(bulkModel.getPerson(first).hasWedding(wedding));
+        assertFalse(bulkModel.getPerson(hidden).hasWedding(wedding));
+
+        // persons already in the wedding are skipped
+        assertThrows(CommandException.class, Messages.MESSAGE_ALL_SHOWN_ALREADY_IN_WEDDINGS, () ->
+                AssignWeddingCommand.forAllShown(Map.of(wedding, "g"), false).execute(bulkModel));
+    }
+
+    @Test
+    public void execute_allShownAsPartner_throwsCommandException() {
+        assertThrows(CommandException.class, Messages.MESSAGE_PARTNER_FOR_ALL_SHOWN, () ->
+                AssignWeddingCommand.forAllShown(Map.of(AMY_WEDDING, "p1"), false).execute(model));
+    }
 }
@@ -0,0 +1,186 @@
+package seedu.address.logic.commands.wedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportGuestsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Wedding wedding = new Wedding(new WeddingName("Import Wedding"));
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").build();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addWedding(wedding);
+        model.addPerson(alice);
+    }
+
+    @Test
+    public void execute_newAndExistingGuests_success() throws Exception {
+        Path file = writeCsv("name,phone,email",
+                "alice pauline",
+                "Bob Choo,22222222,bob@example.com",
+                "",
+                "\"Carl Kurz\", 95352563 ,",
+                "bob choo,,");
+
+        CommandResult result = new ImportGuestsCommand(file, wedding).execute(model);
+
+        assertEquals(String.format(Messages.MESSAGE_IMPORT_GUESTS_SUCCESS, 3, "Import Wedding", 2, 1),
+                result.getFeedbackToUser());
+        List<String> guestNames = wedding.getGuestList().stream().map(guest -> guest.getName().fullName).toList();
+        assertEquals(List.of("Alice Pauline", "Bob Choo", "Carl Kurz"), guestNames);
+
+        Person bob = model.getPerson(Person.makePersonWithName(new Name("Bob Choo")));
+        assertEquals("22222222", bob.getPhone().value);
+        assertTrue(bob.hasWedding(wedding));
+        assertTrue(alice.hasWedding(wedding));
+        assertEquals(3, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_moreGuestsThanBatchSize_allAdded() throws Exception {
+        List<String> lines = new ArrayList<>();
+        int guestCount = ImportGuestsCommand.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < guestCount; i++) {
+            lines.add("Guest " + i);
+        }
+        Path file = writeCsv(lines.toArray(String[]::new));
+
+        new ImportGuestsCommand(file, wedding).execute(model);
+
+        assertEquals(guestCount + 1, model.getAddressBook().getPersonList().size());
+        assertEquals(guestCount, wedding.getGuestList().size());
+        assertEquals("Guest " + (guestCount - 1), wedding.getGuestList().get(guestCount - 1).getName().fullName);
+    }
+
+    @Test
+    public void execute_undone_guestsRemoved() throws Exception {
+        AddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        Path file = writeCsv("Alice Pauline", "Bob Choo");
+
+        model.beginTransaction();
+        new ImportGuestsCommand(file, wedding).execute(model);
+        model.commitTransaction();
+        assertNotEquals(originalAddressBook, model.getAddressBook());
+
+        model.undoAddressBook();
+        assertEquals(originalAddressBook, model.getAddressBook());
+        assertTrue(wedding.getGuestList().isEmpty());
+        assertFalse(alice.hasWedding(wedding));
+    }
+
+    @Test
+    public void execute_importLargerThanHistoryLimit_undoneAndRedone() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryMaxBytes(1024);
+        model = new ModelManager(new AddressBook(model.getAddressBook()), userPrefs);
+        Wedding modelWedding = model.getWedding(wedding);
+        List<String> lines = new ArrayList<>();
+        int guestCount = ImportGuestsCommand.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < guestCount; i++) {
+            lines.add("Guest " + i);
+        }
+        Path file = writeCsv(lines.toArray(String[]::new));
+
+        model.beginTransaction();
+        new ImportGuestsCommand(file, wedding).execute(model);
+        model.commitTransaction();
+        List<Person> importedGuests = modelWedding.getGuestList();
+
+        assertTrue(model.canUndoAddressBook());
+        model.undoAddressBook();
+        assertTrue(modelWedding.getGuestList().isEmpty());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+
+        model.redoAddressBook();
+        assertEquals(importedGuests, modelWedding.getGuestList());
+        assertEquals(guestCount + 1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_invalidLine_throwsCommandException() throws Exception {
+        AddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        Path file = writeCsv("Bob Choo", "Carl Kurz,not a phone");
+
+        model.beginTransaction();
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_INVALID_CSV_LINE, 2,
+                Phone.MESSAGE_CONSTRAINTS), () ->
+                new ImportGuestsCommand(file, wedding).execute(model));
+        model.rollbackTransaction();
+
+        assertEquals(originalAddressBook, model.getAddressBook());
+        assertTrue(wedding.getGuestList().isEmpty());
+    }
+
+    @Test
+    public void execute_tooManyFields_throwsCommandException() throws Exception {
+        Path file = writeCsv("Bob Choo,1234,bob@example.com,extra");
+        assertCommandFailure(new ImportGuestsCommand(file, wedding), model,
+                String.format(Messages.MESSAGE_INVALID_CSV_LINE, 1, "Expected at most 3 fields"));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportGuestsCommand(file, wedding), model,
+                String.format(Messages.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void execute_weddingNotFound_throwsCommandException() throws Exception {
+        Path file = writeCsv("Bob Choo");
+        assertCommandFailure(new ImportGuestsCommand(file, new Wedding(new WeddingName("Other Wedding"))), model,
+                Messages.MESSAGE_WEDDING_NOT_FOUND);
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("guests.csv");
+        ImportGuestsCommand command = new ImportGuestsCommand(file, wedding);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ImportGuestsCommand(file, new Wedding(new WeddingName("Import Wedding")))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ImportGuestsCommand(testFolder.resolve("other.csv"), wedding)));
+        assertFalse(command.equals(new ImportGuestsCommand(file, new Wedding(new WeddingName("Other Wedding")))));
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = testFolder.resolve("guests.csv");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
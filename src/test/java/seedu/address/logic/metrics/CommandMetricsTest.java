@@ -0,0 +1,108 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.logic.metrics.CommandMetrics.Sample;
+
+public class CommandMetricsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void startSample_disabled_nothingRecorded() {
+        Sample sample = metrics.startSample();
+        sample.endPhase(Phase.PARSE);
+        sample.finish("list");
+
+        assertFalse(metrics.isEnabled());
+        assertEquals(0, metrics.getCount("list"));
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, metrics.format());
+    }
+
+    @Test
+    public void finish_allPhasesEnded_recordedUnderCommandWord() {
+        metrics.setEnabled(true);
+        Sample sample = metrics.startSample();
+        sample.endPhase(Phase.PARSE);
+        sample.endPhase(Phase.EXECUTE);
+        sample.endPhase(Phase.SAVE);
+        sample.finish("  find n/Alex Yeoh");
+
+        assertEquals(1, metrics.getCount("find"));
+        for (Phase phase : Phase.values()) {
+            assertEquals(1, metrics.getDurations("find", phase).getCount());
+        }
+    }
+
+    @Test
+    public void finish_stoppedPartway_phaseInProgressEnded() {
+        metrics.setEnabled(true);
+        Sample sample = metrics.startSample();
+        sample.endPhase(Phase.PARSE);
+        sample.finish("delete 9");
+
+        assertEquals(1, metrics.getDurations("delete", Phase.EXECUTE).getCount());
+        assertEquals(0, metrics.getDurations("delete", Phase.SAVE).getCount());
+    }
+
+    @Test
+    public void finish_notParsed_nothingRecorded() {
+        metrics.setEnabled(true);
+        metrics.startSample().finish("unknown");
+
+        assertEquals(0, metrics.getCount("unknown"));
+        assertNull(metrics.getDurations("unknown", Phase.PARSE));
+    }
+
+    @Test
+    public void format_commandsMeasured_sortedByCommandWord() {
+        metrics.setEnabled(true);
+        for (String commandText : new String[] {"list", "add n/Amy", "list"}) {
+            Sample sample = metrics.startSample();
+            sample.endPhase(Phase.PARSE);
+            sample.finish(commandText);
+        }
+
+        String report = metrics.format();
+        assertTrue(report.startsWith("add (1 runs)\n  parse:   p50 "), report);
+        assertTrue(report.contains("\nlist (2 runs)\n  parse:   p50 "), report);
+        assertTrue(report.contains("  execute: p50 "), report);
+        assertFalse(report.contains("save:"), report);
+    }
+
+    @Test
+    public void startDumping_negativeInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> metrics.startDumping(temporaryFolder, -1));
+    }
+
+    @Test
+    public void stopDumping_dumping_metricsWritten() throws Exception {
+        Path file = temporaryFolder.resolve("metrics").resolve("metrics.txt");
+        metrics.setEnabled(true);
+        metrics.startDumping(file, 0);
+        Sample sample = metrics.startSample();
+        sample.endPhase(Phase.PARSE);
+        sample.finish("list");
+        assertFalse(FileUtil.isFileExists(file));
+
+        metrics.stopDumping();
+
+        String dump = FileUtil.readFromFile(file);
+        assertTrue(dump.startsWith("Command metrics at "), dump);
+        assertTrue(dump.contains("list (1 runs)"), dump);
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void bucketIndex_smallValues_ownBucket() {
+        for (int value = 0; value < 32; value++) {
+            assertEquals(value, Histogram.bucketIndex(value));
+            assertEquals(value, Histogram.highestValueInBucket(value));
+        }
+    }
+
+    @Test
+    public void bucketIndex_largeValues_withinBucketBounds() {
+        long[] values = {32, 33, 100, 1_000, 123_456, 1_000_000_007L, (1L << 47) - 1};
+        for (long value : values) {
+            int index = Histogram.bucketIndex(value);
+            long highest = Histogram.highestValueInBucket(index);
+            long lowest = Histogram.highestValueInBucket(index - 1) + 1;
+            assertTrue(lowest <= value && value <= highest, value + " is not in [" + lowest + ", " + highest + "]");
+            // Each bucket is at most 1/16 of its lowest value wide
+            assertTrue(highest - lowest + 1 <= Math.max(1, lowest / 16));
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getValueAtPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getValueAtPercentile(-1));
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformValues_withinPrecision() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean(), 0.001);
+        assertWithinPrecision(5_000_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(9_900_000, histogram.getValueAtPercentile(99));
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(Histogram.highestValueInBucket(Histogram.bucketIndex(1_000)), histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void record_outOfRange_clamped() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+    }
+
+    @Test
+    public void record_manyThreads_noValueLost() throws InterruptedException {
+        Histogram histogram = new Histogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int value = 0; value < 10_000; value++) {
+                    histogram.record(value);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMax());
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 16, actual + " is not within 1/16 of " + expected);
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -16,7 +17,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.findcommand.FindAddressCommand;
 import seedu.address.logic.commands.findcommand.FindCommand;
 import seedu.address.logic.commands.findcommand.FindEmailCommand;
@@ -44,6 +50,7 @@ import seedu.address.logic.commands.wedding.AssignWeddingCommand;
 import seedu.address.logic.commands.wedding.CreateWeddingCommand;
 import seedu.address.logic.commands.wedding.DeleteWeddingCommand;
 import seedu.address.logic.commands.wedding.EditWeddingCommand;
+import seedu.address.logic.commands.wedding.ImportGuestsCommand;
 import seedu.address.logic.commands.wedding.ListWeddingsCommand;
 import seedu.address.logic.commands.wedding.UnassignWeddingCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -60,6 +67,7 @@ import seedu.address.model.tag.TagName;
 import seedu.address.model.task.Task;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.WeddingName;
+import seedu.address.storage.ExportFormat;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -83,6 +91,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -106,6 +120,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_findName() throws Exception {
         List<String> keywords = Arrays.asList("foo");
@@ -337,6 +357,29 @@ public class AddressBookParserTest {
         assertEquals(expectedCommand, keywordCommand);
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(ExportCommand.Target.PERSONS, Paths.get("guests.csv"),
+                        ExportFormat.CSV),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " persons guests.csv"));
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        assertEquals(new RunCommand(Paths.get("changes.txt")),
+                parser.parseCommand(RunCommand.COMMAND_WORD + " changes.txt"));
+    }
+
+    @Test
+    public void parseCommand_importGuests() throws Exception {
+        ImportGuestsCommand expectedCommand = new ImportGuestsCommand(Paths.get("guests.csv"),
+                new Wedding(new WeddingName("Joe's Wedding")));
+        assertEquals(expectedCommand,
+                parser.parseCommand(ImportGuestsCommand.COMMAND_WORD + " guests.csv w/Joe's Wedding"));
+        assertEquals(expectedCommand,
+                parser.parseCommand(ImportGuestsCommand.COMMAND_KEYWORD + " guests.csv w/Joe's Wedding"));
+    }
+
     @Test
     public void parseCommand_editWedding() throws Exception {
         String newWeddingParameter = " w/New Wedding Name";
@@ -441,6 +484,19 @@ public class AddressBookParserTest {
             -> parser.parseCommand(""));
     }
 
+    @Test
+    public void parseCommand_surroundingAndOtherWhitespace() throws Exception {
+        assertTrue(parser.parseCommand("  " + ClearCommand.COMMAND_WORD + "  ") instanceof ClearCommand);
+        assertEquals(new DeleteCommand(INDEX_FIRST),
+                parser.parseCommand(DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_keywordPrefixOfCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ad 1"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("add-1"));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
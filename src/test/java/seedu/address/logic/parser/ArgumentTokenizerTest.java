@@ -136,6 +136,33 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters() {
+        Prefix tSlash = new Prefix("t/");
+        Prefix tkSlash = new Prefix("tk/");
+        Prefix tkkSlash = new Prefix("tkk/");
+
+        String argsString = "preamble tk/task t/tag tkk/ t tk/ t/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, tSlash, tkSlash, tkkSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, tkSlash, "task", "");
+        assertArgumentPresent(argMultimap, tSlash, "tag", "");
+        assertArgumentPresent(argMultimap, tkkSlash, "t");
+
+        // Prefixes are matched whatever order they are given in
+        argMultimap = ArgumentTokenizer.tokenize(argsString, tkkSlash, tkSlash, tSlash);
+        assertArgumentPresent(argMultimap, tkSlash, "task", "");
+        assertArgumentPresent(argMultimap, tkkSlash, "t");
+    }
+
+    @Test
+    public void tokenize_valuesWithOtherWhitespace_trimmed() {
+        String argsString = "\tpreamble\t p/\tvalue\n";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.person.AddCommand;
+import seedu.address.logic.commands.vendor.AssignVendorCommand;
+import seedu.address.logic.commands.wedding.CreateWeddingCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = CommandRegistry.getInstance();
+
+    @Test
+    public void getParser_commandWordAndKeyword_sameParser() {
+        Parser<?> parser = registry.getParser(CreateWeddingCommand.COMMAND_WORD).get();
+        assertSame(parser, registry.getParser(CreateWeddingCommand.COMMAND_KEYWORD).get());
+        assertSame(parser, registry.getParser(CreateWeddingCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void getParser_unknownWord_empty() {
+        assertTrue(registry.getParser("unknownCommand").isEmpty());
+        assertTrue(registry.getParser("").isEmpty());
+        assertTrue(registry.getParser(AddCommand.COMMAND_WORD.toUpperCase()).isEmpty());
+    }
+
+    @Test
+    public void getParser_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.getParser(null));
+    }
+
+    @Test
+    public void getCommandWords_excludesKeywords() {
+        List<String> commandWords = registry.getCommandWords();
+        assertTrue(commandWords.contains(HelpCommand.COMMAND_WORD));
+        assertTrue(commandWords.contains(CreateWeddingCommand.COMMAND_WORD));
+        assertFalse(commandWords.contains(CreateWeddingCommand.COMMAND_KEYWORD));
+    }
+
+    @Test
+    public void complete_prefix_matchingWordsInOrder() {
+        assertEquals(List.of("assign-task", "assign-vendor", "assign-wedding", "asv", "asw"),
+                registry.complete("as"));
+        assertEquals(List.of(AssignVendorCommand.COMMAND_WORD), registry.complete("assign-v"));
+        assertEquals(List.of(AddCommand.COMMAND_WORD), registry.complete(AddCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void complete_noMatch_emptyList() {
+        assertEquals(List.of(), registry.complete("zzz"));
+        assertEquals(List.of(), registry.complete("adds"));
+    }
+
+    @Test
+    public void complete_emptyPrefix_allWords() {
+        List<String> completions = registry.complete("");
+        assertTrue(completions.size() > registry.getCommandWords().size());
+        assertTrue(completions.containsAll(registry.getCommandWords()));
+    }
+}
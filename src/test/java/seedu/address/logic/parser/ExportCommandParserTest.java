@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Target;
+import seedu.address.storage.ExportFormat;
+
+public class ExportCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " persons data/guests.csv",
+                new ExportCommand(Target.PERSONS, Paths.get("data", "guests.csv"), ExportFormat.CSV));
+        assertParseSuccess(parser, " Weddings  my weddings.JSONL ",
+                new ExportCommand(Target.WEDDINGS, Paths.get("my weddings.JSONL"), ExportFormat.JSON_LINES));
+        assertParseSuccess(parser, "tasks tasks.jsonl",
+                new ExportCommand(Target.TASKS, Paths.get("tasks.jsonl"), ExportFormat.JSON_LINES));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " persons", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownTarget_failure() {
+        assertParseFailure(parser, " tags tags.csv", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownExtension_failure() {
+        assertParseFailure(parser, " persons guests.txt", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.findcommand.FindAddressCommand;
 import seedu.address.logic.commands.findcommand.FindCommand;
 import seedu.address.logic.commands.findcommand.FindEmailCommand;
+import seedu.address.logic.commands.findcommand.FindMembershipCommand;
 import seedu.address.logic.commands.findcommand.FindNameCommand;
 import seedu.address.logic.commands.findcommand.FindPhoneCommand;
 import seedu.address.logic.commands.findcommand.FindTagCommand;
@@ -387,4 +388,35 @@ public class FindCommandParserTest {
         assertEquals(PARSE_FAILURE_MULTIPLE_PREFIXES, thrown.getMessage());
     }
 
+    @Test
+    public void parse_combinedTagWeddingVendorArgs_returnsFindMembershipCommand() {
+        FindMembershipCommand expectedFindCommand = new FindMembershipCommand(
+                new TagContainsKeywordsPredicate(Arrays.asList("florist", "chef")),
+                new TagContainsKeywordsPredicate(Arrays.asList("photographer")),
+                new WeddingContainsKeywordsPredicate(Arrays.asList("Wedding 2")),
+                null, false);
+        assertParseSuccess(parser, "find t/florist t/chef t/!photographer w/Wedding 2 v/no", expectedFindCommand);
+
+        // whitespace after the exclude marker and vendor filter in any case
+        assertParseSuccess(parser, "find t/florist t/chef t/! photographer w/Wedding 2 v/ NO", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_excludedTagOnly_returnsFindMembershipCommand() {
+        FindMembershipCommand expectedFindCommand = new FindMembershipCommand(null,
+                new TagContainsKeywordsPredicate(Arrays.asList("florist")), null, null, null);
+        assertParseSuccess(parser, "find t/!florist", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_vendorOnly_returnsFindMembershipCommand() {
+        assertParseSuccess(parser, "find v/yes", new FindMembershipCommand(null, null, null, null, true));
+    }
+
+    @Test
+    public void parse_invalidMembershipArgs_throwsParseException() {
+        assertParseFailure(parser, "find t/florist v/maybe", FindCommandParser.VENDOR_FILTER_INVALID);
+        assertParseFailure(parser, "find t/! w/Wedding 2", TAG_CANNOT_BE_EMPTY);
+        assertParseFailure(parser, "find t/florist n/Alice", PARSE_FAILURE_MULTIPLE_PREFIXES);
+    }
 }
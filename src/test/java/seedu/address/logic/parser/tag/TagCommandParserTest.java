@@ -33,6 +33,15 @@ public class TagCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_allShown_returnsTagCommand() {
+        Tag tag = new Tag(new TagName("colleague"));
+        TagCommand expectedCommand = TagCommand.forAllShown(new HashSet<>(Arrays.asList(tag)), true);
+
+        assertParseSuccess(parser, " ALL t/colleague f/", expectedCommand);
+        assertParseFailure(parser, "all", String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // Invalid index (non-numeric)
@@ -33,6 +33,15 @@ public class UntagCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_allShown_returnsUntagCommand() {
+        Tag tag = new Tag(new TagName("colleague"));
+        UntagCommand expectedCommand = UntagCommand.forAllShown(new HashSet<>(Arrays.asList(tag)));
+
+        assertParseSuccess(parser, "all t/colleague", expectedCommand);
+        assertParseFailure(parser, "all", String.format(MESSAGE_INVALID_COMMAND_FORMAT, UntagCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // Invalid index (non-numeric)
@@ -42,6 +42,15 @@ public class AssignTaskCommandParserTest {
         assertEquals(expectedCommand, result);
     }
 
+    @Test
+    public void parse_allShown_returnsAssignTaskCommand() throws Exception {
+        assertEquals(AssignTaskCommand.forAllShown(Set.of(INDEX_FIRST, INDEX_THIRD)), parser.parse(" all 1 3"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AssignTaskCommand.MESSAGE_USAGE), () -> parser.parse("all"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AssignTaskCommand.MESSAGE_USAGE), () -> parser.parse("all x"));
+    }
+
     @Test
     public void parse_missingPersonIndex_throwsParseException() {
         String args = "2";
@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +39,14 @@ public class AssignWeddingCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_allShown_returnsAssignWeddingCommand() {
+        Wedding wedding = new Wedding(new WeddingName("Jeslyn's Wedding"));
+        AssignWeddingCommand expectedCommand = AssignWeddingCommand.forAllShown(Map.of(wedding, "g"), true);
+
+        assertParseSuccess(parser, "all w/Jeslyn's Wedding f/", expectedCommand);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // Invalid index (non-numeric)
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser.wedding;
+
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_WEDDING_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.WEDDING_DESC_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEDDING;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalWeddings.AMY_WEDDING;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.wedding.ImportGuestsCommand;
+import seedu.address.model.wedding.WeddingName;
+
+public class ImportGuestsCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT, ImportGuestsCommand.MESSAGE_USAGE);
+
+    private ImportGuestsCommandParser parser = new ImportGuestsCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " data/guests.csv" + WEDDING_DESC_AMY,
+                new ImportGuestsCommand(Paths.get("data", "guests.csv"), AMY_WEDDING));
+
+        // file path with spaces
+        assertParseSuccess(parser, "  my guests.csv " + WEDDING_DESC_AMY,
+                new ImportGuestsCommand(Paths.get("my guests.csv"), AMY_WEDDING));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no file path
+        assertParseFailure(parser, WEDDING_DESC_AMY, MESSAGE_INVALID_FORMAT);
+
+        // no wedding
+        assertParseFailure(parser, " guests.csv", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidWedding_failure() {
+        assertParseFailure(parser, " guests.csv" + INVALID_WEDDING_DESC, WeddingName.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_multipleWeddings_failure() {
+        assertParseFailure(parser, " guests.csv" + WEDDING_DESC_AMY + WEDDING_DESC_AMY,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_WEDDING));
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagName;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingName;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+
+    private static final int STRESS_TRANSACTIONS = 2000;
+    private static final int STRESS_READERS = 4;
+
+    private final Tag guestTag = new Tag(new TagName("guest"));
+    private final Task task = new Todo("Book venue");
+    private final Wedding wedding = new Wedding(new WeddingName("Snapshot Wedding"));
+    private final Person alice = new PersonBuilder().withName("Alice").build();
+    private final Person bob = new PersonBuilder().withName("Bob").build();
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.beginTransaction();
+        model.addTag(guestTag);
+        model.addTask(task);
+        model.addWedding(wedding);
+        model.addPerson(alice);
+        model.addPerson(bob);
+        model.commitTransaction();
+    }
+
+    @Test
+    public void getSnapshot_newModel_empty() {
+        ReadOnlyAddressBook snapshot = new ModelManager().getSnapshot();
+        assertTrue(snapshot.getPersonList().isEmpty());
+        assertTrue(snapshot.getTagList().isEmpty());
+        assertTrue(snapshot.getTaskList().isEmpty());
+        assertTrue(snapshot.getWeddingList().isEmpty());
+    }
+
+    @Test
+    public void getSnapshot_afterCommit_sameContentAndIds() {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        ReadOnlyAddressBook snapshot = model.getSnapshot();
+
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getTagList(), snapshot.getTagList());
+        assertEquals(addressBook.getTaskList(), snapshot.getTaskList());
+        assertEquals(addressBook.getWeddingList(), snapshot.getWeddingList());
+        assertEquals(addressBook.getPersonId(bob), snapshot.getPersonId(bob));
+        assertEquals(addressBook.getTagId(guestTag), snapshot.getTagId(guestTag));
+        assertEquals(addressBook.getTaskId(task), snapshot.getTaskId(task));
+        assertEquals(addressBook.getWeddingId(wedding), snapshot.getWeddingId(wedding));
+        assertEquals(ReadOnlyAddressBook.NO_ID, snapshot.getPersonId(new PersonBuilder().withName("Carl").build()));
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_notSeen() {
+        ReadOnlyAddressBook snapshot = model.getSnapshot();
+
+        model.beginTransaction();
+        alice.addTag(guestTag);
+        guestTag.increaseTaggedCount();
+        model.markTask(task);
+        wedding.addToGuestList(bob);
+        model.deletePerson(bob);
+        model.commitTransaction();
+
+        assertEquals(2, snapshot.getPersonList().size());
+        assertTrue(snapshot.getPersonList().get(0).getTags().isEmpty());
+        assertEquals(0, snapshot.getTagList().get(0).getNumberOfPersonsTagged());
+        assertFalse(snapshot.getTaskList().get(0).getIsDone());
+        assertEquals(0, snapshot.getWeddingList().get(0).getGuestCount());
+
+        ReadOnlyAddressBook newSnapshot = model.getSnapshot();
+        assertEquals(1, newSnapshot.getPersonList().size());
+        assertTrue(newSnapshot.getPersonList().get(0).hasTag(guestTag));
+        assertEquals(1, newSnapshot.getTagList().get(0).getNumberOfPersonsTagged());
+        assertTrue(newSnapshot.getTaskList().get(0).getIsDone());
+        assertEquals(1, newSnapshot.getWeddingList().get(0).getGuestCount());
+    }
+
+    @Test
+    public void getSnapshot_openTransaction_notPublished() {
+        ReadOnlyAddressBook snapshot = model.getSnapshot();
+
+        model.beginTransaction();
+        model.markTask(task);
+        assertSame(snapshot, model.getSnapshot());
+        model.rollbackTransaction();
+
+        assertSame(snapshot, model.getSnapshot());
+        assertFalse(snapshot.getTaskList().get(0).getIsDone());
+    }
+
+    @Test
+    public void getSnapshot_unchangedEntities_shared() {
+        ReadOnlyAddressBook snapshot = model.getSnapshot();
+
+        model.beginTransaction();
+        alice.addTag(guestTag);
+        model.commitTransaction();
+        ReadOnlyAddressBook newSnapshot = model.getSnapshot();
+
+        assertNotSame(snapshot.getPersonList().get(0), newSnapshot.getPersonList().get(0));
+        assertSame(snapshot.getPersonList().get(1), newSnapshot.getPersonList().get(1));
+        assertSame(snapshot.getTagList(), newSnapshot.getTagList());
+        assertSame(snapshot.getTaskList(), newSnapshot.getTaskList());
+        assertSame(snapshot.getWeddingList(), newSnapshot.getWeddingList());
+    }
+
+    @Test
+    public void getSnapshot_undo_published() {
+        ReadOnlyAddressBook snapshot = model.getSnapshot();
+        model.beginTransaction();
+        model.markTask(task);
+        model.commitTransaction();
+
+        model.undoAddressBook();
+
+        assertNotSame(snapshot, model.getSnapshot());
+        assertFalse(model.getSnapshot().getTaskList().get(0).getIsDone());
+    }
+
+    @Test
+    public void setAddressBook_outsideTransaction_published() {
+        model.setAddressBook(new AddressBook());
+        assertTrue(model.getSnapshot().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void snapshotEntities_changed_throwsUnsupportedOperationException() {
+        ReadOnlyAddressBook snapshot = model.getSnapshot();
+        Person person = snapshot.getPersonList().get(0);
+        Tag tag = snapshot.getTagList().get(0);
+        Task snapshotTask = snapshot.getTaskList().get(0);
+        Wedding snapshotWedding = snapshot.getWeddingList().get(0);
+
+        assertThrows(UnsupportedOperationException.class, () -> person.addTag(guestTag));
+        assertThrows(UnsupportedOperationException.class, () -> tag.increaseTaggedCount());
+        assertThrows(UnsupportedOperationException.class, () -> snapshotTask.markAsDone());
+        assertThrows(UnsupportedOperationException.class, () -> snapshotWedding.addToGuestList(bob));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+        assertSame(person, person.getSnapshot());
+        assertSame(snapshotTask, snapshotTask.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_concurrentReadersDuringWrites_alwaysConsistent() throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        Thread writer = new Thread(() -> {
+            // Each transaction adds a guest and toggles the task, so the task is done exactly when the number of
+            // persons is odd, and the tag is on every person but Alice and Bob
+            for (int i = 0; i < STRESS_TRANSACTIONS && failure.get() == null; i++) {
+                model.beginTransaction();
+                Person guest = new PersonBuilder().withName("Guest " + i).build();
+                model.addPerson(guest);
+                guest.addTag(guestTag);
+                guestTag.increaseTaggedCount();
+                if (task.getIsDone()) {
+                    model.unmarkTask(task);
+                } else {
+                    model.markTask(task);
+                }
+                model.commitTransaction();
+            }
+        }, "snapshot-writer");
+
+        for (int i = 0; i < STRESS_READERS; i++) {
+            readers.add(new Thread(() -> {
+                try {
+                    readUntilDone(writer);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }, "snapshot-reader-" + i));
+        }
+
+        readers.forEach(Thread::start);
+        writer.start();
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(STRESS_TRANSACTIONS + 2, model.getSnapshot().getPersonList().size());
+    }
+
+    /**
+     * Checks that every snapshot published while {@code writer} runs is consistent, and never changes once taken.
+     */
+    private void readUntilDone(Thread writer) {
+        ReadOnlyAddressBook previous = model.getSnapshot();
+        int previousSize = previous.getPersonList().size();
+        while (writer.isAlive() || writer.getState() == Thread.State.NEW) {
+            ReadOnlyAddressBook snapshot = model.getSnapshot();
+            List<Person> persons = snapshot.getPersonList();
+            int size = persons.size();
+            assertTrue(size >= previousSize);
+            assertEquals(size % 2 == 1, snapshot.getTaskList().get(0).getIsDone());
+
+            Tag tag = snapshot.getTagList().get(0);
+            long tagged = persons.stream().filter(person -> person.hasTag(guestTag)).count();
+            assertEquals(size - 2, tagged);
+            assertEquals(tagged, tag.getNumberOfPersonsTagged());
+            for (Person person : persons) {
+                assertNotEquals(ReadOnlyAddressBook.NO_ID, snapshot.getPersonId(person));
+            }
+
+            assertEquals(previousSize, previous.getPersonList().size());
+            previous = snapshot;
+            previousSize = size;
+        }
+    }
+}
@@ -21,9 +21,11 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.MembershipQuery;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagName;
 import seedu.address.model.task.Task;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.testutil.PersonBuilder;
@@ -109,6 +111,80 @@ public class AddressBookTest {
         assertTrue(addressBook.hasVendor(ALICE));
     }
 
+    @Test
+    public void matches_membershipQuery_usesCurrentMemberships() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder().withName("Bob").withTags(VALID_TAG_HUSBAND).build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        MembershipQuery query = MembershipQuery.withTag(tag -> tag.getTagName().toString().equals(VALID_TAG_HUSBAND));
+
+        assertFalse(addressBook.matches(query, alice));
+        assertTrue(addressBook.matches(query, bob));
+        assertEquals(1, addressBook.getMatchingPersonIds(query).cardinality());
+
+        // changing the tags of a person in place is seen by the next query
+        alice.addTag(new Tag(new TagName(VALID_TAG_HUSBAND)));
+        assertTrue(addressBook.matches(query, alice));
+        assertEquals(2, addressBook.getMatchingPersonIds(query).cardinality());
+
+        // removed persons are no longer matched
+        addressBook.removePerson(bob);
+        assertEquals(1, addressBook.getMatchingPersonIds(query).cardinality());
+        assertTrue(addressBook.getMatchingPersonIds(query).get(addressBook.getPersonId(alice)));
+    }
+
+    @Test
+    public void matches_personReplacedOrRemoved_indexUpdated() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person bob = new PersonBuilder().withName("Bob").withTags(VALID_TAG_HUSBAND).build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        MembershipQuery query = MembershipQuery.withTag(tag -> tag.getTagName().toString().equals(VALID_TAG_HUSBAND));
+        assertEquals(1, addressBook.getMatchingPersonIds(query).cardinality());
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(alice, editedAlice);
+        assertTrue(addressBook.matches(query, editedAlice));
+        assertEquals(2, addressBook.getMatchingPersonIds(query).cardinality());
+
+        // a person no longer in the address book is no longer observed
+        addressBook.removePerson(bob);
+        bob.setTags(Collections.emptySet());
+        Person carl = new PersonBuilder().withName("Carl").withTags(VALID_TAG_HUSBAND).build();
+        addressBook.addPerson(carl);
+        bob.addTag(new Tag(new TagName(VALID_TAG_HUSBAND)));
+        bob.setTags(Collections.emptySet());
+        assertTrue(addressBook.matches(query, carl));
+        assertEquals(2, addressBook.getMatchingPersonIds(query).cardinality());
+    }
+
+    @Test
+    public void matches_personInTwoAddressBooks_bothSeeChanges() {
+        Person alice = new PersonBuilder(ALICE).build();
+        addressBook.addPerson(alice);
+        AddressBook otherAddressBook = new AddressBook(addressBook);
+        MembershipQuery query = MembershipQuery.withTag(tag -> tag.getTagName().toString().equals(VALID_TAG_HUSBAND));
+        assertFalse(addressBook.matches(query, alice));
+        assertFalse(otherAddressBook.matches(query, alice));
+
+        alice.addTag(new Tag(new TagName(VALID_TAG_HUSBAND)));
+        assertTrue(addressBook.matches(query, alice));
+        assertTrue(otherAddressBook.matches(query, alice));
+
+        // resetting the persons of one address book leaves the other up to date
+        addressBook.setPersons(List.of());
+        alice.setTags(Collections.emptySet());
+        assertFalse(otherAddressBook.matches(query, alice));
+    }
+
+    @Test
+    public void matches_personNotInAddressBook_testsPersonDirectly() {
+        MembershipQuery query = new MembershipQuery(null, null, null, null, false);
+        assertTrue(addressBook.matches(query, ALICE));
+        assertFalse(addressBook.matches(new MembershipQuery(null, null, null, null, true), ALICE));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList()
@@ -155,6 +231,26 @@ public class AddressBookTest {
         public ObservableList<Task> getTaskList() {
             return tasks;
         }
+
+        @Override
+        public int getPersonId(Person person) {
+            return persons.indexOf(person);
+        }
+
+        @Override
+        public int getTagId(Tag tag) {
+            return tags.indexOf(tag);
+        }
+
+        @Override
+        public int getTaskId(Task task) {
+            return tasks.indexOf(task);
+        }
+
+        @Override
+        public int getWeddingId(Wedding wedding) {
+            return weddings.indexOf(wedding);
+        }
     }
 
 }
@@ -2,9 +2,11 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.recordEvents;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalTags.FLORIST;
@@ -13,10 +15,13 @@ import static seedu.address.testutil.TypicalTasks.TODO_TASK;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.keywordspredicate.NameContainsKeywordsPredicate;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagName;
@@ -25,6 +30,7 @@ import seedu.address.model.task.Todo;
 import seedu.address.model.wedding.Wedding;
 import seedu.address.model.wedding.WeddingName;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -37,6 +43,20 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void updateFilteredPersonList_flightRecorderEventCommitted() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        List<RecordedEvent> events = recordEvents(FilterEvent.NAME, () ->
+                modelManager.updateFilteredPersonList(person -> person.equals(ALICE)));
+
+        assertEquals(1, events.size());
+        assertEquals("persons", events.get(0).getString("list"));
+        assertEquals(2, events.get(0).getInt("sourceSize"));
+        assertEquals(1, events.get(0).getInt("shownSize"));
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -212,6 +232,148 @@ public class ModelManagerTest {
     }
 
 
+    @Test
+    public void addPersons_filterSet_filterKept() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.addPersons(List.of(BENSON));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        assertTrue(modelManager.hasPerson(BENSON));
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_restoresModel() {
+        Tag tag = new Tag(new TagName("caterer"));
+        Task task = new Todo("Book venue");
+        Person person = new PersonBuilder().withName("Carl Kurz").build();
+        modelManager.addTag(tag);
+        modelManager.addTask(task);
+        modelManager.addPerson(person);
+        ModelManager expectedModelManager = new ModelManager(new AddressBook(modelManager.getAddressBook()),
+                new UserPrefs());
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.setPerson(person, new PersonBuilder(person).withPhone("99999999").build());
+        modelManager.deleteTag(tag);
+        tag.increaseTaggedCount();
+        task.markAsDone();
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.rollbackTransaction();
+
+        assertEquals(expectedModelManager, modelManager);
+        assertEquals(0, tag.getTagCount());
+        assertFalse(task.getIsDone());
+    }
+
+    @Test
+    public void undoAddressBook_middlePersonRemoved_sameInstanceRestoredInPlace() {
+        Person middle = new PersonBuilder().withName("Carl Kurz").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(middle);
+        modelManager.addPerson(BENSON);
+        int id = modelManager.getAddressBook().getPersonId(middle);
+
+        modelManager.beginTransaction();
+        // An equal copy is enough to remove the person, but the undo puts back the instance that was in the list
+        modelManager.deletePerson(new PersonBuilder(middle).build());
+        modelManager.commitTransaction();
+        modelManager.undoAddressBook();
+
+        assertSame(middle, modelManager.getAddressBook().getPersonList().get(1));
+        assertEquals(id, modelManager.getAddressBook().getPersonId(middle));
+    }
+
+    @Test
+    public void commitTransaction_changesMade_keepsChanges() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.commitTransaction();
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(ModelTransaction.isActive());
+    }
+
+    @Test
+    public void undoRedoAddressBook_entityMutated_restoresEachState() {
+        Tag tag = new Tag(new TagName("caterer"));
+        modelManager.addTag(tag);
+
+        modelManager.beginTransaction();
+        tag.increaseTaggedCount();
+        modelManager.addPerson(ALICE);
+        modelManager.commitTransaction();
+
+        modelManager.undoAddressBook();
+        assertEquals(0, tag.getTagCount());
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(1, tag.getTagCount());
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canRedoAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(0, tag.getTagCount());
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void undoAddressBook_failedTransaction_keepsHistory() {
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.commitTransaction();
+
+        modelManager.beginTransaction();
+        modelManager.undoAddressBook();
+        modelManager.rollbackTransaction();
+
+        assertTrue(modelManager.hasPerson(ALICE));
+        assertTrue(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitTransaction_historyDepthExceeded_discardsOldestChange() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        modelManager.setUserPrefs(userPrefs);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.commitTransaction();
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.commitTransaction();
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.canUndoAddressBook());
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commitTransaction_viewChangedOnly_nothingToUndo() {
+        modelManager.beginTransaction();
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.commitTransaction();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void beginTransaction_transactionInProgress_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+        modelManager.rollbackTransaction();
+    }
+
+    @Test
+    public void rollbackTransaction_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+    }
+
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -14,14 +16,19 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagName;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskSummary;
 import seedu.address.model.task.Todo;
+import seedu.address.model.wedding.Wedding;
+import seedu.address.model.wedding.WeddingName;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -209,4 +216,49 @@ public class PersonTest {
         assertTrue(person1.hasTag(newTag));
         assertFalse(person1.hasTag(tag));
     }
+
+    @Test
+    public void getTaskSummary() {
+        Task done = new Todo("Book band", true);
+        Task pending = new Todo("Buy flowers");
+        Person person = new PersonBuilder().build();
+        person = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), person.getWeddings(), Set.of(done, pending));
+
+        assertEquals(TaskSummary.of(List.of(done, pending)), person.getTaskSummary());
+        // counted once, until the tasks of the person change
+        assertSame(person.getTaskSummary(), person.getTaskSummary());
+        assertSame(person.getTaskSummary(), person.getSnapshot().getTaskSummary());
+
+        person.removeTask(done);
+        assertEquals(0, person.getTaskSummary().getDoneCount());
+        assertEquals(1, person.getTaskSummary().getPendingCount());
+        person.clearTasks();
+        assertSame(TaskSummary.EMPTY, person.getTaskSummary());
+    }
+
+    @Test
+    public void getSnapshot_taskMarkedInPlace_newSnapshotOfTask() {
+        Task task = new Todo("Book band");
+        Wedding wedding = new Wedding(new WeddingName(VALID_WEDDING_BOB));
+        Person person = new PersonBuilder().build();
+        person = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTags(), Set.of(wedding), Set.of(task));
+
+        Person snapshot = person.getSnapshot();
+        assertSame(snapshot, person.getSnapshot());
+        Task taskSnapshot = snapshot.getTasks().iterator().next();
+        Wedding weddingSnapshot = snapshot.getWeddings().iterator().next();
+        assertSame(task.getSnapshot(), taskSnapshot);
+        assertSame(wedding.getNameOnlySnapshot(), weddingSnapshot);
+        assertThrows(UnsupportedOperationException.class, taskSnapshot::markAsDone);
+        assertThrows(UnsupportedOperationException.class, () -> weddingSnapshot.setPartner1(ALICE));
+
+        task.markAsDone();
+        Person markedSnapshot = person.getSnapshot();
+        assertNotSame(snapshot, markedSnapshot);
+        assertFalse(taskSnapshot.getIsDone());
+        assertTrue(markedSnapshot.getTasks().iterator().next().getIsDone());
+        assertEquals(1, markedSnapshot.getTaskSummary().getDoneCount());
+    }
 }
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class TagNameTest {
@@ -69,6 +71,24 @@ public class TagNameTest {
         assertEquals(tagName.hashCode(), tagNameCopy.hashCode());
     }
 
+    @Test
+    public void hashCode_sameTagNameDifferentCase_returnsSameHashCode() {
+        assertEquals(new TagName("friend").hashCode(), new TagName("Friend").hashCode());
+    }
+
+    @Test
+    public void hashCode_turkishDefaultLocale_sameHashCodeForSameTagNameDifferentCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            // The Turkish lower case of "I" is a dotless i, which must not be used
+            assertEquals(new TagName("Invitations"), new TagName("invitations"));
+            assertEquals(new TagName("INVITATIONS").hashCode(), new TagName("invitations").hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void hashCode_differentTagName_returnsDifferentHashCode() {
         TagName tagName = new TagName("friend");
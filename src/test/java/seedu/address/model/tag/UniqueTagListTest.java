@@ -2,6 +2,8 @@ package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTags.FLORIST;
@@ -44,6 +46,23 @@ public class UniqueTagListTest {
         assertTrue(uniqueTagList.contains(sameTag));
     }
 
+    @Test
+    public void getTag_sameNameDifferentCase_returnsInstanceInList() {
+        uniqueTagList.add(friendTag);
+        assertSame(friendTag, uniqueTagList.getTag(new Tag(new TagName("FRIEND"))));
+    }
+
+    @Test
+    public void getTag_tagReplacedOrRemoved_lookupUpdated() {
+        uniqueTagList.add(friendTag);
+        uniqueTagList.setTag(friendTag, colleagueTag);
+        assertNull(uniqueTagList.getTag(friendTag));
+        assertSame(colleagueTag, uniqueTagList.getTag(colleagueTag));
+
+        uniqueTagList.remove(colleagueTag);
+        assertFalse(uniqueTagList.contains(colleagueTag));
+    }
+
     @Test
     public void add_nullTag_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTagList.add(null));
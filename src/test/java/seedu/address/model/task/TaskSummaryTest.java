@@ -0,0 +1,73 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskSummaryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TaskSummary.of(null));
+    }
+
+    @Test
+    public void of_noTasks_empty() {
+        TaskSummary summary = TaskSummary.of(List.of());
+        assertSame(TaskSummary.EMPTY, summary);
+        assertEquals(0, summary.getTotalCount());
+        assertEquals(0, summary.getOverdueCount(TODAY));
+    }
+
+    @Test
+    public void of_mixedTasks_counted() {
+        TaskSummary summary = TaskSummary.of(List.of(
+                new Todo("Buy flowers"),
+                new Todo("Book band", true),
+                new Deadline("Pay caterer", "2025-06-01"),
+                new Deadline("Send invitations", "2025-06-14", true),
+                new Deadline("Print menus", "2025-06-15"),
+                new Event("Rehearsal", "2025-06-10", "2025-06-12"),
+                new Event("Fitting", "2025-06-10", "2025-06-20")));
+
+        assertEquals(7, summary.getTotalCount());
+        assertEquals(2, summary.getDoneCount());
+        assertEquals(5, summary.getPendingCount());
+        // Pay caterer and Rehearsal; a task due today is not yet overdue, and done tasks never are
+        assertEquals(2, summary.getOverdueCount(TODAY));
+        assertEquals(0, summary.getOverdueCount(LocalDate.of(2025, 6, 1)));
+        assertEquals(4, summary.getOverdueCount(LocalDate.of(2025, 7, 1)));
+    }
+
+    @Test
+    public void of_taskChangedAfterwards_summaryUnchanged() {
+        Task task = new Deadline("Pay caterer", "2025-06-01");
+        TaskSummary summary = TaskSummary.of(List.of(task));
+
+        task.markAsDone();
+
+        assertEquals(0, summary.getDoneCount());
+        assertEquals(1, summary.getOverdueCount(TODAY));
+        assertNotEquals(summary, TaskSummary.of(List.of(task)));
+    }
+
+    @Test
+    public void equals() {
+        TaskSummary summary = TaskSummary.of(List.of(new Todo("Buy flowers"), new Deadline("Pay", "2025-06-01")));
+
+        assertEquals(summary, TaskSummary.of(List.of(new Deadline("Print", "2025-06-01"), new Todo("Book band"))));
+        assertEquals(summary.hashCode(),
+                TaskSummary.of(List.of(new Deadline("Print", "2025-06-01"), new Todo("Book band"))).hashCode());
+        assertNotEquals(summary, TaskSummary.of(List.of(new Todo("Buy flowers"), new Deadline("Pay", "2025-06-02"))));
+        assertNotEquals(summary, TaskSummary.EMPTY);
+        assertNotEquals(summary, null);
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.wedding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class GuestListTest {
+
+    private final GuestList guestList = new GuestList(List.of(ALICE, BENSON, CARL));
+
+    @Test
+    public void contains_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> guestList.contains(null));
+    }
+
+    @Test
+    public void contains_personWithSameName_returnsTrue() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertTrue(guestList.contains(editedAlice));
+        assertSame(ALICE, guestList.get(editedAlice));
+        assertFalse(guestList.contains(DANIEL));
+        assertNull(guestList.get(DANIEL));
+    }
+
+    @Test
+    public void add_newPerson_appended() {
+        guestList.add(DANIEL);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), guestList.asList());
+    }
+
+    @Test
+    public void add_personWithSameName_replacedInPlace() {
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        guestList.add(editedBenson);
+        assertEquals(List.of(ALICE, editedBenson, CARL), guestList.asList());
+    }
+
+    @Test
+    public void set_renamedPerson_keepsPosition() {
+        guestList.set(BENSON, DANIEL);
+        assertEquals(List.of(ALICE, DANIEL, CARL), guestList.asList());
+        assertFalse(guestList.contains(BENSON));
+        assertTrue(guestList.contains(DANIEL));
+    }
+
+    @Test
+    public void set_targetNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> guestList.set(DANIEL, DANIEL));
+    }
+
+    @Test
+    public void set_editedPersonAlreadyInList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> guestList.set(ALICE, CARL));
+    }
+
+    @Test
+    public void remove_thenInsert_restoresOrder() {
+        long position = guestList.remove(BENSON);
+        guestList.add(DANIEL);
+        assertEquals(List.of(ALICE, CARL, DANIEL), guestList.asList());
+
+        guestList.insert(position, BENSON);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), guestList.asList());
+    }
+
+    @Test
+    public void remove_personNotInList_returnsNoPosition() {
+        assertEquals(GuestList.NO_POSITION, guestList.remove(DANIEL));
+        assertEquals(3, guestList.size());
+    }
+
+    @Test
+    public void insert_positionInUse_throwsIllegalArgumentException() {
+        long position = guestList.getPosition(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> guestList.insert(position, DANIEL));
+    }
+
+    @Test
+    public void addAll_thenRemoveRange_removesAddedPersons() {
+        Person elle = new PersonBuilder().withName("Elle Meyer").build();
+        long firstPosition = guestList.addAll(List.of(DANIEL, elle));
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, elle), guestList.asList());
+
+        assertEquals(List.of(DANIEL, elle), guestList.removeRange(firstPosition, firstPosition + 2));
+        assertEquals(List.of(ALICE, BENSON, CARL), guestList.asList());
+        assertFalse(guestList.contains(DANIEL));
+
+        guestList.insertAll(firstPosition, List.of(DANIEL, elle));
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, elle), guestList.asList());
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> guestList.addAll(List.of(DANIEL, BENSON)));
+        assertThrows(IllegalArgumentException.class, () -> guestList.addAll(List.of(DANIEL, DANIEL)));
+        assertEquals(List.of(ALICE, BENSON, CARL), guestList.asList());
+    }
+
+    @Test
+    public void iterator_remove_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> {
+            Iterator<Person> iterator = guestList.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+    }
+}
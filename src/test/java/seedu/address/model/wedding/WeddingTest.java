@@ -2,16 +2,28 @@ package seedu.address.model.wedding;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalWeddings.AMY_WEDDING;
 import static seedu.address.testutil.TypicalWeddings.BOB_WEDDING;
 import static seedu.address.testutil.TypicalWeddings.VALID_WEDDING_NAME_AMY_WEDDING;
 import static seedu.address.testutil.TypicalWeddings.VALID_WEDDING_NAME_BOB_WEDDING;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
 public class WeddingTest {
 
     @Test
@@ -126,4 +138,45 @@ public class WeddingTest {
         Wedding amyWedding = new Wedding(VALID_WEDDING_NAME_AMY_WEDDING);
         assertTrue(amyWedding.canBeDeleted());
     }
+
+    @Test
+    public void removePerson_undone_guestRestoredInPlace() {
+        Wedding wedding = new Wedding(VALID_WEDDING_NAME_AMY_WEDDING, null, null,
+                List.of(ALICE, BENSON, CARL), new Address("Chapel"), "");
+        Model model = new ModelManager();
+
+        model.beginTransaction();
+        wedding.removePerson(BENSON);
+        model.commitTransaction();
+        assertEquals(List.of(ALICE, CARL), wedding.getGuestList());
+
+        model.undoAddressBook();
+        assertEquals(List.of(ALICE, BENSON, CARL), wedding.getGuestList());
+    }
+
+    @Test
+    public void setGuest_keepsPlaceInGuestList() {
+        Wedding wedding = new Wedding(VALID_WEDDING_NAME_AMY_WEDDING, null, null,
+                List.of(ALICE, BENSON, CARL), new Address("Chapel"), "");
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+
+        wedding.setGuest(BENSON, editedBenson);
+        assertEquals(List.of(ALICE, editedBenson, CARL), wedding.getGuestList());
+        assertTrue(wedding.hasPerson(BENSON));
+    }
+
+    @Test
+    public void clone_guestAddedToClone_originalUnchanged() {
+        Wedding wedding = new Wedding(VALID_WEDDING_NAME_AMY_WEDDING, null, null,
+                List.of(ALICE, BENSON, CARL), new Address("Chapel"), "");
+        Wedding snapshot = wedding.getSnapshot();
+        Wedding clone = wedding.clone();
+
+        clone.addToGuestList(DANIEL);
+        clone.removePerson(ALICE);
+        assertEquals(List.of(BENSON, CARL, DANIEL), clone.getGuestList());
+        assertEquals(List.of(ALICE, BENSON, CARL), wedding.getGuestList());
+        assertSame(snapshot, wedding.getSnapshot());
+        assertEquals(List.of(BENSON, CARL, DANIEL), clone.getSnapshot().getGuestList());
+    }
 }
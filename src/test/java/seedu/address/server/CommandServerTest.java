@@ -0,0 +1,222 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.person.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
+
+public class CommandServerTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private StorageManager storage;
+    private CommandServer server;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        server = new CommandServer(new LogicManager(model, storage));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void handle_validCommand_success() throws Exception {
+        JsonNode response = handle(PersonUtil.getAddCommand(ALICE));
+
+        assertTrue(response.get("success").asBoolean());
+        assertEquals(String.format(Messages.MESSAGE_ADD_PERSON_SUCCESS, Messages.format(ALICE)),
+                response.get("feedback").asText());
+        assertEquals("NONE", response.get("view").asText());
+        assertFalse(response.get("exit").asBoolean());
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void handle_invalidCommand_failure() throws Exception {
+        JsonNode response = handle("unknownCommand");
+
+        assertFalse(response.get("success").asBoolean());
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND, response.get("error").asText());
+    }
+
+    @Test
+    public void handle_readAfterCommands_latestEntries() throws Exception {
+        handle(PersonUtil.getAddCommand(ALICE));
+        JsonNode persons = handle("get persons").get("persons");
+        assertEquals(1, persons.size());
+        assertEquals(ALICE.getName().fullName, persons.get(0).get("name").asText());
+
+        handle(PersonUtil.getAddCommand(BOB));
+        persons = handle("  get   persons ").get("persons");
+        assertEquals(2, persons.size());
+        assertEquals(BOB.getName().fullName, persons.get(1).get("name").asText());
+
+        assertEquals(model.getAddressBook().getWeddingList().size(), handle("get weddings").get("weddings").size());
+        assertEquals(0, handle("get tasks").get("tasks").size());
+    }
+
+    @Test
+    public void handle_readUnknownList_failure() throws Exception {
+        JsonNode response = handle("get tags");
+        assertFalse(response.get("success").asBoolean());
+        assertEquals(CommandServer.MESSAGE_UNKNOWN_LIST, response.get("error").asText());
+    }
+
+    @Test
+    public void handle_concurrentClients_allCommandsExecuted() throws Exception {
+        int clientCount = 8;
+        int commandsPerClient = 25;
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        List<Future<?>> results = new ArrayList<>();
+        for (int client = 0; client < clientCount; client++) {
+            int clientNumber = client;
+            results.add(clients.submit(() -> {
+                for (int i = 0; i < commandsPerClient; i++) {
+                    String name = "Client " + clientNumber + " Guest " + i;
+                    assertTrue(handle(PersonUtil.getAddCommand(new PersonBuilder().withName(name).build()))
+                            .get("success").asBoolean());
+                    assertTrue(handle("get persons").get("success").asBoolean());
+                }
+                return null;
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        clients.shutdown();
+
+        assertEquals(clientCount * commandsPerClient, model.getAddressBook().getPersonList().size());
+        assertEquals(clientCount * commandsPerClient, handle("get persons").get("persons").size());
+    }
+
+    @Test
+    public void serve_linesUntilExit_responsePerRequest() throws Exception {
+        String requests = PersonUtil.getAddCommand(ALICE) + "\n\n" + ListCommand.COMMAND_WORD + "\n"
+                + ExitCommand.COMMAND_WORD + "\n" + PersonUtil.getAddCommand(BOB) + "\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        server.serve(new ByteArrayInputStream(requests.getBytes(StandardCharsets.UTF_8)), out);
+
+        String[] responses = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, responses.length);
+        assertTrue(objectMapper.readTree(responses[2]).get("exit").asBoolean());
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void listen_client_answered() throws Exception {
+        ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        Thread listener = new Thread(() -> {
+            try {
+                server.listen(serverSocket);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        listener.start();
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+                PrintWriter requests = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+                BufferedReader responses = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            requests.println(PersonUtil.getAddCommand(ALICE));
+            assertTrue(objectMapper.readTree(responses.readLine()).get("success").asBoolean());
+            requests.println("get persons");
+            assertEquals(1, objectMapper.readTree(responses.readLine()).get("persons").size());
+        } finally {
+            serverSocket.close();
+        }
+        listener.join();
+    }
+
+    @Test
+    public void close_commandRunning_waitsForCommandAndSave() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        server.close();
+        server = new CommandServer(new LogicManager(model, storage) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                started.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                return super.execute(commandText);
+            }
+        });
+        Thread client = new Thread(() -> server.handle(PersonUtil.getAddCommand(ALICE)));
+        client.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Thread closer = new Thread(server::close);
+        closer.start();
+        closer.join(100);
+        assertTrue(closer.isAlive());
+
+        released.countDown();
+        closer.join(5000);
+        assertFalse(closer.isAlive());
+        assertTrue(model.hasPerson(ALICE));
+        assertTrue(storage.readAddressBook().orElseThrow().getPersonList().contains(ALICE));
+        client.join();
+    }
+
+    private JsonNode handle(String request) throws Exception {
+        return objectMapper.readTree(server.handle(request).json);
+    }
+}
@@ -2,23 +2,33 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.recordEvents;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -71,6 +81,36 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidWeddingAddressBook.json"));
     }
 
+    @Test
+    public void saveAndReadAddressBook_flightRecorderEventsCommitted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        List<RecordedEvent> events = recordEvents(StorageEvent.NAME, () -> {
+            storage.saveAddressBook(getTypicalAddressBook());
+            storage.readAddressBook();
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent save = events.get(0);
+        assertEquals(StorageEvent.OPERATION_SAVE, save.getString("operation"));
+        assertEquals("json", save.getString("format"));
+        assertEquals(filePath.toString(), save.getString("path"));
+        assertEquals(Files.size(filePath), save.getLong("bytes"));
+        assertTrue(save.getBoolean("successful"));
+        assertEquals(StorageEvent.OPERATION_LOAD, events.get(1).getString("operation"));
+        assertEquals(Files.size(filePath), events.get(1).getLong("bytes"));
+    }
+
+    @Test
+    public void readAddressBook_invalidFile_unsuccessfulEventCommitted() throws Exception {
+        List<RecordedEvent> events = recordEvents(StorageEvent.NAME, () ->
+                assertThrows(DataLoadingException.class, () -> readAddressBook("notJsonFormatAddressBook.json")));
+
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).getBoolean("successful"));
+    }
+
     @Disabled
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
@@ -99,6 +139,33 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveReadAndSaveAgain_personDeleted_idsKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        AddressBook original = new AddressBook();
+        original.addPerson(alice);
+        original.addPerson(benson);
+        original.addPerson(carl);
+        // Leaves a gap at the first ID, which must not be filled by renumbering the others
+        original.removePerson(alice);
+        int bensonId = original.getPersonId(benson);
+        int carlId = original.getPersonId(carl);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        Model model = new ModelManager(jsonAddressBookStorage.readAddressBook().get(), new UserPrefs());
+        assertEquals(bensonId, model.getAddressBook().getPersonId(benson));
+        assertEquals(carlId, model.getAddressBook().getPersonId(carl));
+
+        jsonAddressBookStorage.saveAddressBook(model.getAddressBook());
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(bensonId, readBack.getPersonId(benson));
+        assertEquals(carlId, readBack.getPersonId(carl));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
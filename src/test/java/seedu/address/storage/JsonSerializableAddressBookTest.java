@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -13,7 +14,9 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Vendor;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -30,6 +33,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path DUPLICATE_TAG_FILE = TEST_DATA_FOLDER.resolve("duplicateTagAddressBook.json");
     private static final Path DUPLICATE_WEDDING_FILE = TEST_DATA_FOLDER.resolve("duplicateWeddingAddressBook.json");
     private static final Path DUPLICATE_TASK_FILE = TEST_DATA_FOLDER.resolve("duplicateTaskAddressBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdAddressBook.json");
+    private static final Path UNKNOWN_ID_FILE = TEST_DATA_FOLDER.resolve("unknownIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -112,4 +117,43 @@ public class JsonSerializableAddressBookTest {
         AddressBook addressBookFromFile = dataFromFile.toModelType();
         assertTrue(addressBookFromFile.getPersonList().get(2) instanceof Vendor);
     }
+
+    @Test
+    public void toModelType_savedAddressBook_preservesIdsAndReferences() throws Exception {
+        AddressBook original = TypicalPersons.resetTypicalAddressBook();
+        // Leaves a gap in the person IDs
+        Person removed = original.getPersonList().get(3);
+        assertTrue(removed.getWeddings().isEmpty());
+        original.removePerson(removed);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        AddressBook loaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+
+        assertEquals(original, loaded);
+        for (Person person : loaded.getPersonList()) {
+            assertEquals(original.getPersonId(person), loaded.getPersonId(person));
+            for (Tag tag : person.getTags()) {
+                assertSame(loaded.getTagById(loaded.getTagId(tag)), tag);
+            }
+        }
+        for (Tag tag : loaded.getTagList()) {
+            assertEquals(original.getTagId(tag), loaded.getTagId(tag));
+        }
+    }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID, 0),
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_unknownIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAdaptedPerson.UNKNOWN_ID_MESSAGE_FORMAT, "tag", 5), dataFromFile::toModelType);
+    }
 }
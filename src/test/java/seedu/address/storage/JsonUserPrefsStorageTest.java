@@ -74,6 +74,8 @@ public class JsonUserPrefsStorageTest {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
         userPrefs.setAddressBookFilePath(Paths.get("addressbook.json"));
+        userPrefs.setUndoHistoryDepth(10);
+        userPrefs.setUndoHistoryMaxBytes(65536);
         return userPrefs;
     }
 
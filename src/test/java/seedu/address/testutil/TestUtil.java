@@ -4,7 +4,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -32,6 +39,33 @@ public class TestUtil {
         return SANDBOX_FOLDER.resolve(fileName);
     }
 
+    /**
+     * Runs {@code action} while JDK Flight Recorder records the events named {@code eventName}, and returns those
+     * events.
+     */
+    public static List<RecordedEvent> recordEvents(String eventName, Executable action) throws IOException {
+        Path recordingFile = Files.createTempFile("recording", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            try {
+                action.execute();
+            } catch (Throwable e) {
+                throw new AssertionError(e);
+            }
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        try {
+            // Events of other types are recorded too, as they are enabled by default
+            return RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(recordingFile);
+        }
+    }
+
     /**
      * Returns the middle index of the person in the {@code model}'s person list.
      */
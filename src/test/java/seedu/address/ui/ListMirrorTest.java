@@ -0,0 +1,111 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.Todo;
+
+public class ListMirrorTest {
+
+    private static final int BULK_SIZE = 5000;
+
+    private final ObservableList<Task> source = FXCollections.observableArrayList(
+            new Todo("Book venue"), new Todo("Order cake"), new Todo("Hire band"));
+    private final List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+    private ListMirror<Task> mirror;
+
+    @BeforeEach
+    public void setUp() {
+        mirror = new ListMirror<>(source, Task::getSnapshot);
+        mirror.getItems().addListener((ListChangeListener<Task>) changes::add);
+    }
+
+    @Test
+    public void constructor_snapshotsOfSource() {
+        assertEquals(source, mirror.getItems());
+        for (int i = 0; i < source.size(); i++) {
+            assertNotSame(source.get(i), mirror.getItems().get(i));
+            assertSame(source.get(i).getSnapshot(), mirror.getItems().get(i));
+        }
+    }
+
+    @Test
+    public void update_nothingChanged_noChange() {
+        mirror.update(mirror.capture());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void update_entryChanged_onlyThatEntryReplaced() {
+        Task first = mirror.getItems().get(0);
+        Task last = mirror.getItems().get(2);
+
+        source.get(1).markAsDone();
+        mirror.update(mirror.capture());
+
+        assertEquals(1, changes.size());
+        assertSame(first, mirror.getItems().get(0));
+        assertSame(last, mirror.getItems().get(2));
+        assertTrue(mirror.getItems().get(1).getIsDone());
+    }
+
+    @Test
+    public void update_entriesAddedAndRemoved_sameAsSource() {
+        source.remove(0);
+        source.add(1, new Todo("Send invitations"));
+        source.add(new Todo("Plan seating"));
+        mirror.update(mirror.capture());
+        assertEquals(source, mirror.getItems());
+
+        source.clear();
+        mirror.update(mirror.capture());
+        assertTrue(mirror.getItems().isEmpty());
+    }
+
+    @Test
+    public void update_manyEntriesChanged_oneChange() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < BULK_SIZE; i++) {
+            tasks.add(new Todo("Task " + i));
+        }
+        source.setAll(tasks);
+        mirror.update(mirror.capture());
+        changes.clear();
+
+        // every other entry changed, and some added, as a bulk command would
+        for (int i = 0; i < BULK_SIZE; i += 2) {
+            source.get(i).markAsDone();
+        }
+        source.add(new Todo("Plan seating"));
+        mirror.update(mirror.capture());
+
+        assertEquals(1, changes.size());
+        assertEquals(source, mirror.getItems());
+        assertTrue(mirror.getItems().get(BULK_SIZE - 2).getIsDone());
+    }
+
+    @Test
+    public void update_entriesRemovedFromMiddle_oneChange() {
+        source.add(new Todo("Plan seating"));
+        mirror.update(mirror.capture());
+        changes.clear();
+
+        source.remove(1, 3);
+        mirror.update(mirror.capture());
+
+        assertEquals(1, changes.size());
+        assertEquals(source, mirror.getItems());
+    }
+}
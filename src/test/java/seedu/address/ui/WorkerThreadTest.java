@@ -0,0 +1,105 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class WorkerThreadTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void stop_taskRunning_waitsForTaskAndTasksWaiting() throws Exception {
+        WorkerThread worker = new WorkerThread("test-worker");
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean isFinished = new AtomicBoolean();
+        AtomicBoolean isWaitingTaskRun = new AtomicBoolean();
+        worker.execute(() -> {
+            started.countDown();
+            sleep(200);
+            isFinished.set(true);
+        });
+        worker.execute(() -> isWaitingTaskRun.set(true));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(worker.stop(Duration.ofSeconds(5)));
+        assertTrue(isFinished.get());
+        assertTrue(isWaitingTaskRun.get());
+        assertThrows(RejectedExecutionException.class, () -> worker.execute(() -> {}));
+    }
+
+    @Test
+    public void stop_commandRunning_commandAndSaveFinished() throws Exception {
+        // As when the window is closed while the command worker is executing a command
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        CountDownLatch started = new CountDownLatch(1);
+        LogicManager logic = new LogicManager(new ModelManager(), storage) {
+            @Override
+            public CommandResult execute(String commandText) throws CommandException, ParseException {
+                started.countDown();
+                sleep(200);
+                return super.execute(commandText);
+            }
+        };
+        WorkerThread worker = new WorkerThread("test-command-worker");
+        worker.execute(() -> {
+            try {
+                logic.execute(PersonUtil.getAddCommand(ALICE));
+            } catch (CommandException | ParseException e) {
+                throw new AssertionError(e);
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertTrue(worker.stop(Duration.ofSeconds(5)));
+        assertTrue(storage.readAddressBook().orElseThrow().getPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void stop_taskLongerThanTimeout_returnsFalse() throws Exception {
+        WorkerThread worker = new WorkerThread("test-worker");
+        CountDownLatch release = new CountDownLatch(1);
+        worker.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertFalse(worker.stop(Duration.ofMillis(50)));
+        release.countDown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}